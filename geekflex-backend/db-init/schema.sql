@@ -9,6 +9,8 @@ DROP TABLE IF EXISTS collection_comments;
 DROP TABLE IF EXISTS collection_items;
 DROP TABLE IF EXISTS collections;
 DROP TABLE IF EXISTS content_list_tag;
+DROP TABLE IF EXISTS content_list_current;
+DROP TABLE IF EXISTS content_list_snapshot;
 DROP TABLE IF EXISTS contents;
 DROP TABLE IF EXISTS user_activity_logs;
 DROP TABLE IF EXISTS user_ip_logs;
@@ -62,6 +64,9 @@ CREATE TABLE contents
     content_type      VARCHAR(20)  NOT NULL,
     title             VARCHAR(200) NOT NULL,
     original_title    VARCHAR(200),
+    title_normalized  VARCHAR(200), -- 검색용 정규화 제목 (소문자, 문자/숫자만)
+    original_title_normalized VARCHAR(200),
+    title_bigrams     TEXT,         -- 제목/원제목 bigram (공백 구분, FULLTEXT 검색용)
     original_language VARCHAR(10),
     overview          TEXT,
     release_date      DATE,
@@ -72,11 +77,75 @@ CREATE TABLE contents
     vote_average      DECIMAL(4, 2),
     vote_count        INT,
     genre             VARCHAR(100),
+    genre_bits        BIGINT       NOT NULL DEFAULT 0, -- TMDB 장르 비트 (TmdbGenre.bit)
     origin_country    VARCHAR(50),
     created_at        DATETIME,
     last_synced_at    DATETIME,
+    payload_hash      BIGINT,       -- 저장 필드 기준 TMDB 상세 해시 (같으면 갱신 시 UPDATE 생략)
     PRIMARY KEY (id),
-    UNIQUE KEY uq_contents_tmdb (tmdb_id, content_type)
+    UNIQUE KEY uq_contents_tmdb (tmdb_id, content_type),
+    KEY idx_contents_synced (content_type, last_synced_at),
+    KEY idx_contents_browse_popularity (content_type, popularity, id),
+    KEY idx_contents_browse_release (content_type, release_date, id),
+    KEY idx_contents_browse_lang_popularity (content_type, original_language, popularity, id),
+    KEY idx_contents_browse_lang_release (content_type, original_language, release_date, id),
+    KEY idx_contents_title_norm (content_type, title_normalized),
+    KEY idx_contents_original_title_norm (content_type, original_title_normalized),
+    FULLTEXT KEY ft_contents_title_bigrams (title_bigrams)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 장르 둘러보기용 (콘텐츠, 장르) 행. contents.genre_bits를 장르별로 펼치고 정렬 값을 함께 보관해
+-- 장르 조건이 있는 keyset 조회가 인덱스 순서대로 읽도록 한다. (콘텐츠 저장 시 ContentRepository.replaceGenres로 교체)
+CREATE TABLE content_genre
+(
+    genre_id          INT         NOT NULL, -- TMDB 장르 ID (TmdbGenre.id)
+    content_type      VARCHAR(20) NOT NULL,
+    original_language VARCHAR(10),
+    popularity        DECIMAL(8, 3),
+    release_date      DATE,
+    id                BIGINT      NOT NULL, -- contents.id
+    PRIMARY KEY (id, genre_id),
+    KEY idx_content_genre_popularity (genre_id, content_type, popularity, id),
+    KEY idx_content_genre_release (genre_id, content_type, release_date, id),
+    KEY idx_content_genre_lang_popularity (genre_id, content_type, original_language, popularity, id),
+    KEY idx_content_genre_lang_release (genre_id, content_type, original_language, release_date, id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- TMDB 상세 응답 원본 (JSON + deflate, TmdbDetailCodec), 재시작 후에도 유지되는 상세 캐시 L3
+-- 기본 언어(ko-KR) 행은 상세 응답 전체, 그 외 언어 행은 번역 문자열(TmdbLocalizedText)만 보관
+CREATE TABLE content_detail_snapshot
+(
+    content_type VARCHAR(20) NOT NULL,
+    tmdb_id      BIGINT      NOT NULL,
+    language     VARCHAR(10) NOT NULL,
+    payload      MEDIUMBLOB  NOT NULL,
+    fetched_at   DATETIME    NOT NULL,
+    PRIMARY KEY (content_type, tmdb_id, language)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE content_list_snapshot
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    tag_type   VARCHAR(50) NOT NULL,
+    created_at DATETIME    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- TagType별 현재 공개된 스냅샷 포인터
+CREATE TABLE content_list_current
+(
+    tag_type    VARCHAR(50) NOT NULL,
+    snapshot_id BIGINT      NOT NULL,
+    switched_at DATETIME    NOT NULL,
+    PRIMARY KEY (tag_type)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
@@ -86,10 +155,12 @@ CREATE TABLE content_list_tag
     id          BIGINT      NOT NULL AUTO_INCREMENT,
     content_id  BIGINT      NOT NULL,
     tag_type    VARCHAR(50) NOT NULL,
+    snapshot_id BIGINT      NOT NULL,
     region      VARCHAR(255),
     snapshot_at DATETIME,
     PRIMARY KEY (id),
-    UNIQUE KEY uq_content_tag (content_id, tag_type),
+    UNIQUE KEY uq_content_tag (tag_type, snapshot_id, content_id),
+    KEY idx_content_list_tag_snapshot (snapshot_id),
     CONSTRAINT fk_content_list_tag_content
         FOREIGN KEY (content_id) REFERENCES contents (id)
 ) ENGINE = InnoDB
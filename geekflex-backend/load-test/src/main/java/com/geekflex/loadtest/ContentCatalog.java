@@ -0,0 +1,77 @@
+package com.geekflex.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상세/좋아요/리뷰 시나리오가 사용할 콘텐츠 목록.
+ * <p>
+ * 시작 시 홈 목록 응답에서 (id, tmdbId, 타입)을 모아 목록 순서대로 보관하고 (이후 변경 없음),
+ * 실제 트래픽처럼 앞쪽 일부(인기 콘텐츠)에 요청이 몰리도록 고른다.
+ */
+final class ContentCatalog {
+
+    private static final Pattern ITEM = Pattern.compile(
+            "\"id\":(\\d+),\"tmdbId\":(\\d+),\"contentType\":\"(MOVIE|TV)\"");
+
+    // 요청의 80%는 앞쪽 20% 콘텐츠로
+    private static final double HOT_SET_RATIO = 0.2;
+    private static final double HOT_SET_TRAFFIC = 0.8;
+
+    private final List<Item> items;
+
+    private ContentCatalog(List<Item> items) {
+        this.items = items;
+    }
+
+    static ContentCatalog load(HttpClient httpClient, URI target) throws IOException, InterruptedException {
+        Map<Long, Item> items = new LinkedHashMap<>();
+        for (String path : Scenario.HOME_LISTS) {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(target.resolve(path)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                System.out.printf("목록 조회 실패 - %s (HTTP %d)%n", path, response.statusCode());
+                continue;
+            }
+            Matcher matcher = ITEM.matcher(response.body());
+            while (matcher.find()) {
+                long id = Long.parseLong(matcher.group(1));
+                items.putIfAbsent(id, new Item(id, Long.parseLong(matcher.group(2)), "MOVIE".equals(matcher.group(3))));
+            }
+        }
+        if (items.isEmpty()) {
+            throw new IllegalStateException("목록 응답에서 콘텐츠를 찾지 못했습니다. 카테고리 수집이 끝났는지 확인하세요.");
+        }
+        return new ContentCatalog(new ArrayList<>(items.values()));
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    Item pick(Random random) {
+        int hotSize = Math.max(1, (int) (items.size() * HOT_SET_RATIO));
+        if (random.nextDouble() < HOT_SET_TRAFFIC) {
+            return items.get(random.nextInt(hotSize));
+        }
+        return items.get(random.nextInt(items.size()));
+    }
+
+    /**
+     * @param id     GeekFlex 콘텐츠 id
+     * @param tmdbId 상세 조회 경로에 쓰는 TMDB id
+     */
+    record Item(long id, long tmdbId, boolean movie) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.geekflex.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 시나리오 1개의 응답 시간 기록 (worker별로 두고 종료 후 합침, 동기화 없음).
+ * 표본을 모두 보관하므로 백분위는 근사값이 아닌 정확한 값이다.
+ */
+final class LatencyRecorder {
+
+    private long[] micros = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long elapsedNanos, boolean error) {
+        if (count == micros.length) {
+            micros = Arrays.copyOf(micros, count * 2);
+        }
+        micros[count++] = elapsedNanos / 1_000;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > micros.length) {
+            micros = Arrays.copyOf(micros, Math.max(micros.length * 2, count + other.count));
+        }
+        System.arraycopy(other.micros, 0, micros, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(micros, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000.0);
+    }
+
+    // nearest-rank 방식, 결과는 ms
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000.0;
+    }
+
+    /**
+     * @param throughput 초당 요청 수
+     * @param p50        응답 시간 (ms), 이하 동일
+     */
+    record Summary(long requests, long errors, double throughput, double p50, double p90, double p99, double max) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.geekflex.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트 결과.
+ * <p>
+ * 시나리오별 1줄 + 전체 1줄의 JSON lines로 저장하고, 이전 결과 파일(baseline)과 p50/p99/처리량을 비교한다.
+ * 전체 줄에는 측정 구간 동안 백엔드가 호출한 TMDB(시뮬레이터) 호출 수가 함께 기록된다.
+ */
+final class LoadReport {
+
+    private static final Pattern FIELD = Pattern.compile("\"([a-zA-Z0-9]+)\":\"?([^,\"}]*)\"?");
+
+    private final Map<String, LatencyRecorder.Summary> summaries;
+    private final Map<String, Long> tmdbCalls;
+
+    /**
+     * @param summaries 이름별 결과 ("total" 포함, 출력 순서 유지)
+     * @param tmdbCalls 엔드포인트 종류별 TMDB 호출 수 ("total" 포함), 집계하지 않았으면 빈 Map
+     */
+    LoadReport(Map<String, LatencyRecorder.Summary> summaries, Map<String, Long> tmdbCalls) {
+        this.summaries = summaries;
+        this.tmdbCalls = tmdbCalls;
+    }
+
+    void print() {
+        System.out.printf("%n%-8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        summaries.forEach((name, summary) -> System.out.printf(Locale.ROOT, "%-8s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, summary.requests(), summary.errors(), summary.throughput(),
+                summary.p50(), summary.p90(), summary.p99(), summary.max()));
+        if (!tmdbCalls.isEmpty()) {
+            System.out.printf("%nTMDB 호출: %s%n", tmdbCalls);
+        }
+    }
+
+    void write(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        summaries.forEach((name, summary) -> {
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT,
+                    "{\"scenario\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.2f,"
+                            + "\"p50\":%.2f,\"p90\":%.2f,\"p99\":%.2f,\"max\":%.2f",
+                    name, summary.requests(), summary.errors(), summary.throughput(),
+                    summary.p50(), summary.p90(), summary.p99(), summary.max()));
+            if ("total".equals(name)) {
+                tmdbCalls.forEach((endpoint, calls) ->
+                        line.append(",\"tmdb").append(capitalize(endpoint)).append("\":").append(calls));
+            }
+            lines.add(line.append('}').toString());
+        });
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        System.out.printf("%n결과 저장: %s%n", file.toAbsolutePath());
+    }
+
+    /**
+     * baseline 대비 변화율 출력 (응답 시간은 낮을수록, 처리량은 높을수록 좋음)
+     */
+    void compare(Path baseline) throws IOException {
+        Map<String, Map<String, String>> previous = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(baseline, StandardCharsets.UTF_8)) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            Matcher matcher = FIELD.matcher(line);
+            while (matcher.find()) {
+                fields.put(matcher.group(1), matcher.group(2));
+            }
+            if (fields.containsKey("scenario")) {
+                previous.put(fields.get("scenario"), fields);
+            }
+        }
+
+        System.out.printf("%nbaseline 비교 (%s)%n", baseline);
+        System.out.printf("%-8s %16s %16s %16s%n", "scenario", "p50", "p99", "req/s");
+        summaries.forEach((name, summary) -> {
+            Map<String, String> before = previous.get(name);
+            if (before == null) {
+                System.out.printf("%-8s (baseline 없음)%n", name);
+                return;
+            }
+            System.out.printf(Locale.ROOT, "%-8s %16s %16s %16s%n", name,
+                    change(before.get("p50"), summary.p50()),
+                    change(before.get("p99"), summary.p99()),
+                    change(before.get("throughput"), summary.throughput()));
+        });
+
+        Map<String, String> beforeTotal = previous.get("total");
+        if (beforeTotal != null && beforeTotal.containsKey("tmdbTotal") && tmdbCalls.containsKey("total")) {
+            System.out.printf("TMDB 호출: %s → %d%n", beforeTotal.get("tmdbTotal"), tmdbCalls.get("total"));
+        }
+    }
+
+    private static String change(String before, double after) {
+        if (before == null) {
+            return "-";
+        }
+        double previous = Double.parseDouble(before);
+        if (previous == 0) {
+            return String.format(Locale.ROOT, "%.1f", after);
+        }
+        return String.format(Locale.ROOT, "%.1f (%+.1f%%)", after, (after - previous) / previous * 100);
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.geekflex.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GeekFlex 백엔드 부하 테스트.
+ * <p>
+ * concurrency명의 가상 사용자가 시나리오 비중(mix)에 따라 요청을 보내고 (응답을 받으면 바로 다음 요청, closed loop),
+ * 예열 구간을 제외한 측정 구간의 시나리오별 p50/p90/p99, 처리량, 오류 수와 TMDB 호출 수를 기록한다.
+ * <p>
+ * 요청 순서는 seed로 고정되므로 같은 데이터/설정에서는 실행 간 결과를 비교할 수 있다.
+ * TMDB 호출 수는 TMDB 시뮬레이터(/__stats)의 측정 전후 차이로 계산한다.
+ */
+public final class LoadTest {
+
+    private static final Pattern STAT = Pattern.compile("\"([a-z]+)\":(\\d+)");
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        ContentCatalog catalog = ContentCatalog.load(httpClient, options.target());
+        System.out.printf("대상: %s, 동시 사용자: %d, 예열: %ds, 측정: %ds, 콘텐츠: %d건, mix: %s%n",
+                options.target(), options.concurrency(), options.warmup().toSeconds(),
+                options.duration().toSeconds(), catalog.size(), options.mix());
+
+        if (!options.warmup().isZero()) {
+            runPhase(catalog, options.warmup(), options.seed() - 1);
+            System.out.println("예열 완료");
+        }
+
+        Map<String, Long> tmdbBefore = tmdbStats();
+        long startedAt = System.nanoTime();
+        Map<Scenario, LatencyRecorder> recorders = runPhase(catalog, options.duration(), options.seed());
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        Map<String, Long> tmdbAfter = tmdbStats();
+
+        Map<String, LatencyRecorder.Summary> summaries = new LinkedHashMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach((scenario, recorder) -> {
+            summaries.put(scenario.label(), recorder.summarize(seconds));
+            total.merge(recorder);
+        });
+        summaries.put("total", total.summarize(seconds));
+
+        Map<String, Long> tmdbCalls = new LinkedHashMap<>();
+        tmdbAfter.forEach((endpoint, calls) -> tmdbCalls.put(endpoint, calls - tmdbBefore.getOrDefault(endpoint, 0L)));
+
+        LoadReport report = new LoadReport(summaries, tmdbCalls);
+        report.print();
+        report.write(options.report());
+        if (options.baseline() != null) {
+            report.compare(options.baseline());
+        }
+    }
+
+    /**
+     * duration 동안 concurrency명이 요청을 보내고 시나리오별 기록을 합쳐 반환
+     */
+    private Map<Scenario, LatencyRecorder> runPhase(ContentCatalog catalog, Duration duration, long seed)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Scenario, LatencyRecorder>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                Random random = new Random(seed * 31 + i);
+                workers.add(executor.submit(() -> work(catalog, deadline, random)));
+            }
+        }
+
+        Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+        for (Future<Map<Scenario, LatencyRecorder>> worker : workers) {
+            worker.get().forEach((scenario, recorder) ->
+                    merged.computeIfAbsent(scenario, key -> new LatencyRecorder()).merge(recorder));
+        }
+        return merged;
+    }
+
+    private Map<Scenario, LatencyRecorder> work(ContentCatalog catalog, long deadline, Random random) {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        int totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = pick(random, totalWeight);
+            HttpRequest request = scenario.request(options.target(), catalog, options.token(), random)
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            recorders.computeIfAbsent(scenario, key -> new LatencyRecorder()).record(System.nanoTime() - start, error);
+        }
+        return recorders;
+    }
+
+    private Scenario pick(Random random, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : options.mix().entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("시나리오 비중 합계 오류");
+    }
+
+    /**
+     * 시뮬레이터의 누적 호출 수 (total + 엔드포인트 종류별), 시뮬레이터가 없으면 빈 Map
+     */
+    private Map<String, Long> tmdbStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        URI simulator = options.simulator();
+        if (simulator == null) {
+            return stats;
+        }
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(simulator.resolve("/__stats")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            // byStatus 이전 구간만 읽음 (total, byEndpoint)
+            String body = response.body();
+            int statusStart = body.indexOf("\"byStatus\"");
+            Matcher matcher = STAT.matcher(statusStart > 0 ? body.substring(0, statusStart) : body);
+            while (matcher.find()) {
+                stats.put(matcher.group(1), Long.parseLong(matcher.group(2)));
+            }
+        } catch (IOException e) {
+            System.out.printf("시뮬레이터 호출 수 조회 실패 (%s) - TMDB 호출 수 없이 진행%n", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return stats;
+    }
+}
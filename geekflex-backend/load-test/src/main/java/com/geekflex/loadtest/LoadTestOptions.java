@@ -0,0 +1,87 @@
+package com.geekflex.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value)
+ *
+ * @param target      백엔드 주소
+ * @param simulator   TMDB 시뮬레이터 주소 (null이면 TMDB 호출 수를 집계하지 않음)
+ * @param duration    측정 구간
+ * @param warmup      측정 전 예열 구간 (결과에서 제외)
+ * @param concurrency 동시 사용자 수 (closed loop: 응답을 받은 뒤 다음 요청)
+ * @param mix         시나리오별 비중
+ * @param token       로그인 access token (있으면 좋아요 시나리오에서 토글 요청)
+ * @param seed        시나리오/콘텐츠 선택 난수 seed (같은 seed면 같은 요청 순서)
+ * @param report      결과 파일 (JSON lines)
+ * @param baseline    비교할 이전 결과 파일 (없으면 null)
+ */
+record LoadTestOptions(URI target, URI simulator, Duration duration, Duration warmup, int concurrency,
+                       Map<Scenario, Integer> mix, String token, long seed, Path report, Path baseline) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String simulator = values.getOrDefault("simulator", "http://localhost:3999");
+        return new LoadTestOptions(
+                URI.create(values.getOrDefault("target", "http://localhost:8080")),
+                simulator.isBlank() ? null : URI.create(simulator),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "15s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                parseMix(values.getOrDefault("mix", "home:35,detail:35,search:15,likes:10,reviews:5")),
+                values.getOrDefault("token", System.getenv("GeekFlex_LOAD_TEST_TOKEN")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("report", "build/load-test/latest.jsonl")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null);
+    }
+
+    /**
+     * home:35,detail:35,... 형식의 시나리오 비중
+     */
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.strip().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix는 이름:비중 형식이어야 합니다: " + part);
+            }
+            int weight = Integer.parseInt(pair[1]);
+            if (weight > 0) {
+                mix.put(Scenario.of(pair[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("실행할 시나리오가 없습니다: " + value);
+        }
+        return mix;
+    }
+
+    /**
+     * 50ms, 30s, 5m 형식의 시간
+     */
+    static Duration parseDuration(String value) {
+        String trimmed = value.strip();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        long amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+        return switch (trimmed.charAt(trimmed.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("시간 형식이 아닙니다 (예: 30s, 5m): " + value);
+        };
+    }
+}
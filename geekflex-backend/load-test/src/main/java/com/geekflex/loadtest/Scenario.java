@@ -0,0 +1,113 @@
+package com.geekflex.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 사용자 행동 단위의 요청 시나리오
+ */
+enum Scenario {
+
+    /**
+     * 홈 화면 목록 (영화/TV 카테고리 중 하나)
+     */
+    HOME {
+        @Override
+        HttpRequest.Builder request(URI target, ContentCatalog catalog, String token, Random random) {
+            return get(target, HOME_LISTS.get(random.nextInt(HOME_LISTS.size())));
+        }
+    },
+
+    /**
+     * 상세 (인기 콘텐츠에 몰림)
+     */
+    DETAIL {
+        @Override
+        HttpRequest.Builder request(URI target, ContentCatalog catalog, String token, Random random) {
+            ContentCatalog.Item item = catalog.pick(random);
+            return get(target, (item.movie() ? "/api/v1/movies/" : "/api/v1/tv/") + item.tmdbId());
+        }
+    },
+
+    /**
+     * 검색 (자동완성 2회 후 검색 1회 비율)
+     */
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(URI target, ContentCatalog catalog, String token, Random random) {
+            String type = random.nextBoolean() ? "/api/v1/movies" : "/api/v1/tv";
+            String keyword = KEYWORDS.get(random.nextInt(KEYWORDS.size()));
+            if (random.nextInt(3) < 2) {
+                String prefix = keyword.substring(0, 1 + random.nextInt(keyword.length()));
+                return get(target, type + "/autocomplete?keyword=" + encode(prefix));
+            }
+            return get(target, type + "/search?keyword=" + encode(keyword));
+        }
+    },
+
+    /**
+     * 좋아요 (토큰이 있으면 토글, 없으면 개수 조회)
+     */
+    LIKES {
+        @Override
+        HttpRequest.Builder request(URI target, ContentCatalog catalog, String token, Random random) {
+            long contentId = catalog.pick(random).id();
+            if (token == null) {
+                return get(target, "/api/v1/likes/CONTENT/" + contentId + "/all");
+            }
+            return HttpRequest.newBuilder(target.resolve("/api/v1/likes/CONTENT/" + contentId))
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.noBody());
+        }
+    },
+
+    /**
+     * 콘텐츠 리뷰 목록
+     */
+    REVIEWS {
+        @Override
+        HttpRequest.Builder request(URI target, ContentCatalog catalog, String token, Random random) {
+            return get(target, "/api/v1/reviews/content/" + catalog.pick(random).id());
+        }
+    };
+
+    static final List<String> HOME_LISTS = List.of(
+            "/api/v1/movies/now-playing?size=20",
+            "/api/v1/movies/popular?size=20",
+            "/api/v1/movies/top_rated?size=20",
+            "/api/v1/movies/upcoming?size=20",
+            "/api/v1/tv/airing-today?size=20",
+            "/api/v1/tv/popular?size=20",
+            "/api/v1/tv/top-rated?size=20",
+            "/api/v1/tv/on-the-air?size=20");
+
+    private static final List<String> KEYWORDS = List.of(
+            "아바타", "어벤져스", "기생충", "오징어 게임", "시뮬레이터", "스파이더맨", "ㅇㅂㅈㅅ", "Simulated", "해리 포터", "인터스텔라");
+
+    abstract HttpRequest.Builder request(URI target, ContentCatalog catalog, String token, Random random);
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Scenario of(String label) {
+        try {
+            return valueOf(label.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + label);
+        }
+    }
+
+    private static HttpRequest.Builder get(URI target, String path) {
+        return HttpRequest.newBuilder(target.resolve(path)).GET();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
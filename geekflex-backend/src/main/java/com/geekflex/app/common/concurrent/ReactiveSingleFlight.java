@@ -0,0 +1,71 @@
+package com.geekflex.app.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * {@link SingleFlight}의 Reactor 버전.
+ * <p>
+ * 같은 키로 진행 중인 {@link Mono}가 있으면 새로 구독하지 않고 그 결과를 공유한다.
+ * 스레드를 점유하지 않고 대기하므로 논블로킹 경로(WebClient)에서 사용한다.
+ * 진행 중인 Mono가 종료되면 키가 제거되므로 결과를 캐싱하지는 않는다.
+ *
+ * @param <K> 호출을 구분하는 키 타입
+ * @param <V> 결과 타입
+ */
+public class ReactiveSingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+
+    /**
+     * @param name          메트릭 태그로 사용할 이름 (예: tmdb.movie-detail)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public ReactiveSingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("singleflight.calls")
+                .description("single-flight 호출 수 (leader: 실제 실행, coalesced: 결과 공유)")
+                .tag("name", name)
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("singleflight.calls")
+                .description("single-flight 호출 수 (leader: 실제 실행, coalesced: 결과 공유)")
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.in-flight", inFlight, ConcurrentMap::size)
+                .description("현재 진행 중인 single-flight 키 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 단위로 upstream Mono를 한 번만 구독하고, 동시에 들어온 구독자에게 결과를 공유한다.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+        return Mono.defer(() -> {
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> shared = Mono.defer(supplier)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(shared);
+
+            Mono<V> existing = inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                coalescedCounter.increment();
+                return existing;
+            }
+
+            leaderCounter.increment();
+            return shared;
+        });
+    }
+}
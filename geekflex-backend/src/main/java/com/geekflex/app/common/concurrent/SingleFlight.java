@@ -0,0 +1,115 @@
+package com.geekflex.app.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 호출을 하나로 합치는 single-flight 유틸리티.
+ * <p>
+ * 같은 키로 진행 중인 호출이 있으면 새 호출은 작업을 다시 실행하지 않고
+ * 먼저 시작한 호출(리더)의 결과를 기다렸다가 공유한다.
+ * 리더가 끝나면 키는 즉시 제거되므로 결과를 캐싱하지는 않는다.
+ *
+ * @param <K> 호출을 구분하는 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+
+    /**
+     * @param name          메트릭 태그로 사용할 이름 (예: tmdb.movie-detail)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("singleflight.calls")
+                .description("single-flight 호출 수 (leader: 실제 실행, coalesced: 결과 공유)")
+                .tag("name", name)
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("singleflight.calls")
+                .description("single-flight 호출 수 (leader: 실제 실행, coalesced: 결과 공유)")
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.in-flight", inFlight, ConcurrentMap::size)
+                .description("현재 진행 중인 single-flight 키 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 단위로 작업을 한 번만 실행하고 결과를 반환한다.
+     *
+     * @return 결과와 함께, 다른 호출의 결과를 공유받았는지 여부
+     */
+    public Result<V> execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            return new Result<>(await(existing), true);
+        }
+
+        leaderCounter.increment();
+        try {
+            V value = supplier.get();
+            mine.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 결과 값만 필요한 경우 사용한다.
+     */
+    public V call(K key, Supplier<V> supplier) {
+        return execute(key, supplier).value();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("single-flight 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * @param value  작업 결과
+     * @param shared 다른 호출(리더)의 결과를 공유받았으면 true
+     */
+    public record Result<V>(V value, boolean shared) {
+    }
+}
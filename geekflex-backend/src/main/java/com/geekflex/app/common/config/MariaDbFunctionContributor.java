@@ -0,0 +1,22 @@
+package com.geekflex.app.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 사용할 MariaDB 전용 함수 등록 (META-INF/services로 로드)
+ * <p>
+ * - match_against(column, query): {@code MATCH(column) AGAINST(query IN BOOLEAN MODE)}
+ */
+public class MariaDbFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
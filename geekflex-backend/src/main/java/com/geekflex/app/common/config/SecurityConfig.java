@@ -91,6 +91,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/**").permitAll()
                         // Swagger UI
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                        // Actuator (health 공개, 메트릭은 관리자 전용)
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated() // 기 외 모든 요청은 인증 필요
                 )
                 // 요청마다 JWT로 인증
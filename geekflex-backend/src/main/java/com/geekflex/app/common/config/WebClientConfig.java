@@ -1,9 +1,16 @@
 package com.geekflex.app.common.config;
+import com.geekflex.app.content.service.image.TmdbImageProperties;
+import com.geekflex.app.content.service.tmdb.TmdbClientProperties;
+import com.geekflex.app.content.service.tmdb.TmdbResilienceFilter;
+import io.netty.channel.ChannelOption;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 @Log4j2
@@ -13,19 +20,40 @@ public class WebClientConfig {
     private String tmdbToken;
 
     @Bean
-    public WebClient tmdbWebClient() {
+    public WebClient tmdbWebClient(TmdbClientProperties properties, TmdbResilienceFilter tmdbResilienceFilter) {
+        // TMDB 전용 커넥션 풀: 다른 외부 호출과 커넥션을 공유하지 않고, 풀 고갈 시 오래 대기하지 않음
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("tmdb")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+
         return WebClient.builder()
-                .baseUrl("https://api.themoviedb.org/3")
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(tmdbResilienceFilter)
                 .defaultHeader("Accept", "application/json")
                 .defaultHeader("Authorization", "Bearer " + tmdbToken)
                 .build();
     }
-}
-
-
-
-
-
-
 
+    @Bean
+    public WebClient tmdbImageWebClient(TmdbImageProperties properties) {
+        // 이미지 서버(CDN)는 API 인증/rate limit 대상이 아니므로 TMDB API 클라이언트와 커넥션 풀/필터를 공유하지 않음
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("tmdb-image")
+                .maxConnections(20)
+                .metrics(true)
+                .build();
 
+        return WebClient.builder()
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                        .responseTimeout(properties.getFetchTimeout())))
+                .build();
+    }
+}
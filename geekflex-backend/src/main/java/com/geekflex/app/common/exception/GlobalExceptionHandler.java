@@ -170,6 +170,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(message, Map.of("field", "file")));
     }
 
+    // TMDB 일시 차단 (circuit open / rate limit / bulkhead 초과 / timeout) (503)
+    @ExceptionHandler(TmdbUnavailableException.class)
+    public ResponseEntity<ApiResponse<?>> handleTmdbUnavailableException(TmdbUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("외부 영화 정보 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", ex.getMessage()));
+    }
+
     // TMDB API 호출 실패 (502)
     @ExceptionHandler(TmdbApiException.class)
     public ResponseEntity<ApiResponse<?>> handleTmdbApiException(TmdbApiException ex) {
@@ -0,0 +1,15 @@
+package com.geekflex.app.common.exception;
+
+/**
+ * TMDB를 일시적으로 사용할 수 없는 경우 (circuit open, rate limit/bulkhead 초과, timeout, 5xx).
+ * 호출 측은 DB 데이터만으로 응답하는 fallback을 선택할 수 있다.
+ */
+public class TmdbUnavailableException extends TmdbApiException {
+    public TmdbUnavailableException(String message) {
+        super(message);
+    }
+
+    public TmdbUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,37 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.service.ContentDeltaSyncService;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * TMDB 변경 목록 기반 델타 동기화 스케줄러.
+ * 6시간마다 영화/드라마의 변경분만 갱신하고, 나머지는 동기화 시각을 연장한다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ContentDeltaSyncScheduler {
+
+    private final ContentDeltaSyncService contentDeltaSyncService;
+    private final TmdbSyncProperties tmdbSyncProperties;
+
+    @Scheduled(fixedDelay = 6 * 60 * 60 * 1000L, initialDelay = 10 * 60 * 1000L, scheduler = SchedulerConfig.BATCH_SCHEDULER)
+    public void syncChanges() {
+        if (!tmdbSyncProperties.isDeltaSyncEnabled()) {
+            return;
+        }
+        for (ContentType contentType : ContentType.values()) {
+            log.info("[SCHEDULER] {} 델타 동기화 시작", contentType);
+            try {
+                contentDeltaSyncService.sync(contentType);
+            } catch (Exception e) {
+                log.error("[SCHEDULER] {} 델타 동기화 실패", contentType, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.service.ContentGenreBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 장르 비트/content_genre 일회성 보정 실행 (app.content.genre-backfill=true일 때만).
+ * 시작 후 배치 스케줄러에서 한 번 실행한다. 보정이 끝나면 설정을 false로 되돌린다. (다시 실행해도 결과는 같음)
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.content.genre-backfill", havingValue = "true")
+public class ContentGenreBackfillRunner {
+
+    private final ContentGenreBackfillService contentGenreBackfillService;
+    private final TaskScheduler batchTaskScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAfterStartup() {
+        batchTaskScheduler.schedule(this::backfill, Instant.now());
+    }
+
+    private void backfill() {
+        try {
+            contentGenreBackfillService.backfill();
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 장르 비트 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.repository.ContentListTagRepository;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 교체된 카테고리 목록 스냅샷을 정리하는 스케줄러.
+ * 스냅샷 하나씩 삭제하여 한 번에 큰 범위의 락을 잡지 않는다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ContentListSnapshotGcScheduler {
+
+    private final ContentListTagRepository contentListTagRepository;
+    private final TmdbCategoryProperties tmdbCategoryProperties;
+
+    /**
+     * 10분마다 보관 기간이 지난 비공개 스냅샷 삭제
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void collectStaleSnapshots() {
+        LocalDateTime threshold = LocalDateTime.now().minus(tmdbCategoryProperties.getSnapshotRetention());
+        try {
+            List<Long> staleSnapshotIds = contentListTagRepository.findStaleSnapshotIds(threshold);
+            if (staleSnapshotIds.isEmpty()) {
+                return;
+            }
+
+            int deletedTags = 0;
+            for (Long snapshotId : staleSnapshotIds) {
+                deletedTags += contentListTagRepository.deleteSnapshot(snapshotId);
+            }
+            log.info("[SCHEDULER] 목록 스냅샷 정리 완료 - 스냅샷 {}개, 태그 {}건", staleSnapshotIds.size(), deletedTags);
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 목록 스냅샷 정리 실패", e);
+        }
+    }
+}
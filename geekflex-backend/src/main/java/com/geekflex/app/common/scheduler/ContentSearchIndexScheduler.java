@@ -0,0 +1,60 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.service.RandomContentSampler;
+import com.geekflex.app.content.service.search.AutocompleteIndex;
+import com.geekflex.app.content.service.search.ContentSearchIndex;
+import com.geekflex.app.content.service.search.DiscoverIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 로컬 검색 색인 / 자동완성 색인 / 무작위 추출 id 목록 / 디스커버 카탈로그 전체 재구성.
+ * 시작 직후 한 번 만들고, 이후에는 다른 인스턴스가 저장한 콘텐츠를 반영하기 위해 1시간마다 다시 만든다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ContentSearchIndexScheduler {
+
+    private final ContentSearchIndex contentSearchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final RandomContentSampler randomContentSampler;
+    private final DiscoverIndex discoverIndex;
+    private final TaskScheduler batchTaskScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAfterStartup() {
+        batchTaskScheduler.schedule(this::rebuild, Instant.now());
+    }
+
+    @Scheduled(fixedDelay = 60 * 60 * 1000L, initialDelay = 60 * 60 * 1000L, scheduler = SchedulerConfig.BATCH_SCHEDULER)
+    public void rebuild() {
+        try {
+            contentSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 검색 색인 재구성 실패", e);
+        }
+        try {
+            autocompleteIndex.rebuild();
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 자동완성 색인 재구성 실패", e);
+        }
+        try {
+            randomContentSampler.rebuild();
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 무작위 추출 id 목록 적재 실패", e);
+        }
+        try {
+            discoverIndex.rebuild();
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 디스커버 카탈로그 재구성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.service.ContentSyncTimestampBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 없는 갱신에서 모인 동기화 시각을 주기적으로 DB에 반영하는 스케줄러.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ContentSyncTimestampFlushScheduler {
+
+    private final ContentSyncTimestampBuffer contentSyncTimestampBuffer;
+
+    /**
+     * 30초마다 일괄 UPDATE
+     */
+    @Scheduled(fixedDelay = 30 * 1000L, initialDelay = 30 * 1000L)
+    public void flush() {
+        try {
+            int flushed = contentSyncTimestampBuffer.flush();
+            if (flushed > 0) {
+                log.debug("[SCHEDULER] 동기화 시각 반영 완료 - {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 동기화 시각 반영 실패 - 대기 {}건", contentSyncTimestampBuffer.pendingCount(), e);
+        }
+    }
+}
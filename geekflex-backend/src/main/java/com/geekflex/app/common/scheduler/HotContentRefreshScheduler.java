@@ -0,0 +1,58 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.service.ContentRefreshService;
+import com.geekflex.app.content.service.HotContentTracker;
+import com.geekflex.app.content.service.HotContentTracker.HotContent;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 콘텐츠 선제 갱신 스케줄러.
+ * 5분마다 상세 조회 빈도 상위 콘텐츠 중 곧 만료될 것을 백그라운드 갱신하고,
+ * 1시간마다 조회 빈도를 절반으로 줄여 최근 인기를 반영한다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class HotContentRefreshScheduler {
+
+    private final HotContentTracker hotContentTracker;
+    private final ContentRefreshService contentRefreshService;
+    private final TmdbSyncProperties tmdbSyncProperties;
+
+    @Scheduled(fixedDelay = 5 * 60 * 1000L, initialDelay = 5 * 60 * 1000L)
+    public void refreshHotContents() {
+        if (!tmdbSyncProperties.isHotRefreshEnabled()) {
+            return;
+        }
+        try {
+            Map<ContentType, List<Long>> hot = hotContentTracker.top(tmdbSyncProperties.getHotRefreshTopN()).stream()
+                    .collect(Collectors.groupingBy(HotContent::contentType,
+                            Collectors.mapping(HotContent::tmdbId, Collectors.toList())));
+
+            int scheduled = 0;
+            for (Map.Entry<ContentType, List<Long>> entry : hot.entrySet()) {
+                scheduled += contentRefreshService.refreshExpiringSoon(
+                        entry.getKey(), entry.getValue(), tmdbSyncProperties.getHotRefreshLead());
+            }
+            if (scheduled > 0) {
+                log.info("[SCHEDULER] 인기 콘텐츠 선제 갱신 예약 {}건", scheduled);
+            }
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 인기 콘텐츠 선제 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60 * 60 * 1000L, initialDelay = 60 * 60 * 1000L)
+    public void decayFrequencies() {
+        hotContentTracker.decay();
+    }
+}
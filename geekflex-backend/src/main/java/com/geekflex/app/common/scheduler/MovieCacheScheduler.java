@@ -20,7 +20,7 @@ public class MovieCacheScheduler {
      * NOW_PLAYING (현재 상영작) 데이터 갱신
      * 2일마다 새벽 3시 00분 00초에 실행
      */
-    @Scheduled(cron = "0 0 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "0 0 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cacheNowPlayingMovies() {
         log.info("[SCHEDULER] NOW_PLAYING 영화 데이터 캐싱 시작");
         try {
@@ -35,7 +35,7 @@ public class MovieCacheScheduler {
      * POPULAR (인기 영화) 데이터 갱신
      * 2일마다 새벽 3시 00분 20초에 실행
      */
-    @Scheduled(cron = "20 0 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "20 0 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cachePopularMovies() {
         log.info("[SCHEDULER] POPULAR 영화 데이터 캐싱 시작");
         try {
@@ -50,7 +50,7 @@ public class MovieCacheScheduler {
      * UPCOMING (개봉 예정) 데이터 갱신
      * 2일마다 새벽 3시 00분 40초에 실행
      */
-    @Scheduled(cron = "40 0 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "40 0 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cacheUpcomingMovies() {
         log.info("[SCHEDULER] UPCOMING 영화 데이터 캐싱 시작");
         try {
@@ -65,7 +65,7 @@ public class MovieCacheScheduler {
      * TOP_RATED (인기있는) 데이터 갱신
      * 2일마다 새벽 3시 01분 00초에 실행
      */
-    @Scheduled(cron = "0 1 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "0 1 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cacheTopRatedMovies() {
         log.info("[SCHEDULER] TOP_RATED 영화 데이터 캐싱 시작");
         try {
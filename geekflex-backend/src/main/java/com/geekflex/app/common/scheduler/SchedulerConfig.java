@@ -1,18 +1,34 @@
 package com.geekflex.app.common.scheduler;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄러 스레드 구성.
+ * <p>
+ * - taskScheduler: 짧은 주기 작업 (동기화 시각 반영, 스냅샷 GC, 인기 콘텐츠 갱신 예약, 예열 timeout 등)
+ * - batchTaskScheduler: 수 분씩 걸릴 수 있는 작업 (카테고리 수집, 델타 동기화, 색인 전체 재구성)
+ * <p>
+ * 델타 동기화는 변경된 콘텐츠를 한 건씩 TMDB에서 다시 받고 색인 재구성은 카탈로그를 여러 번 읽으므로,
+ * 같은 풀을 쓰면 30초 주기의 동기화 시각 반영이나 readiness timeout이 그동안 실행되지 못한다.
+ */
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
 
+    public static final String BATCH_SCHEDULER = "batchTaskScheduler";
+
     @Value("${app.scheduler.pool-size:2}")
     private int poolSize;
 
+    @Value("${app.scheduler.batch-pool-size:2}")
+    private int batchPoolSize;
+
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
@@ -23,12 +39,34 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
-}
-
-
-
-
-
-
 
+    /**
+     * 오래 걸리는 배치 작업 전용 스케줄러 (@Scheduled(scheduler = BATCH_SCHEDULER))
+     */
+    @Bean(BATCH_SCHEDULER)
+    public TaskScheduler batchTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(batchPoolSize);
+        scheduler.setThreadNamePrefix("Geekflex-Batch-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
 
+    /**
+     * 콘텐츠 백그라운드 갱신(stale-while-revalidate) 전용 실행기.
+     * 동시 실행 수와 대기열을 제한하고, 가득 차면 호출 측에서 작업을 버린다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor contentRefreshExecutor(TmdbSyncProperties tmdbSyncProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(tmdbSyncProperties.getRefreshConcurrency());
+        executor.setMaxPoolSize(tmdbSyncProperties.getRefreshConcurrency());
+        executor.setQueueCapacity(tmdbSyncProperties.getRefreshQueueCapacity());
+        executor.setThreadNamePrefix("Geekflex-Refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
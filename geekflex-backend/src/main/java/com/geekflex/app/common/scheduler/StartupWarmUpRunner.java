@@ -0,0 +1,225 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.admin.service.AdminCacheService;
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.repository.ContentListTagRepository;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.ContentRefreshService;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import com.geekflex.app.content.service.tmdb.TmdbClientProperties;
+import com.geekflex.app.content.service.tmdb.TmdbDetailCache;
+import com.geekflex.app.content.service.tmdb.TmdbEndpoint;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 직후 예열.
+ * <p>
+ * 1. 시드: 공개된 스냅샷이 없는 카테고리만 가상 스레드에서 동시에 수집한다.
+ * 동시 수집 수는 TMDB 수집용 동시 호출 한도(max-concurrent-calls.INGESTION)를 카테고리당 동시 페이지 수로 나눈 값으로 제한한다.
+ * 2. 상세: 인기 상위 콘텐츠의 상세를 DB 스냅샷에서 L1으로 채우고, 스냅샷이 없는 콘텐츠는 TMDB에서 받는다.
+ * (백그라운드 갱신과 같은 동시 실행 수 사용, TMDB 사용 불가 시 중단)
+ * <p>
+ * 예열이 끝나거나 warmUpTimeout이 지나면 {@link #isWarm()}이 true가 되어 readiness가 UP으로 바뀐다.
+ * 단계별 소요 시간은 로그와 readiness 상세에 남긴다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class StartupWarmUpRunner {
+
+    private final ContentListTagRepository contentListTagRepository;
+    private final AdminCacheService adminCacheService;
+    private final ContentRepository contentRepository;
+    private final ContentRefreshService contentRefreshService;
+    private final TmdbDetailCache tmdbDetailCache;
+    private final TmdbSyncProperties tmdbSyncProperties;
+    private final TmdbClientProperties tmdbClientProperties;
+    private final TmdbCategoryProperties tmdbCategoryProperties;
+    private final TaskScheduler taskScheduler;
+
+    private static final Map<TagType, String> MOVIE_SEED_TARGETS = new LinkedHashMap<>();
+    private static final Map<TagType, String> TV_SEED_TARGETS = new LinkedHashMap<>();
+
+    static {
+        MOVIE_SEED_TARGETS.put(TagType.NOW_PLAYING, "/movie/now_playing");
+        MOVIE_SEED_TARGETS.put(TagType.POPULAR, "/movie/popular");
+        MOVIE_SEED_TARGETS.put(TagType.TOP_RATED, "/movie/top_rated");
+        MOVIE_SEED_TARGETS.put(TagType.UPCOMING, "/movie/upcoming");
+
+        TV_SEED_TARGETS.put(TagType.TV_AIRING_TODAY, "/tv/airing_today");
+        TV_SEED_TARGETS.put(TagType.TV_POPULAR, "/tv/popular");
+        TV_SEED_TARGETS.put(TagType.TV_TOP_RATED, "/tv/top_rated");
+        TV_SEED_TARGETS.put(TagType.TV_ON_THE_AIR, "/tv/on_the_air");
+    }
+
+    private volatile boolean warm;
+
+    // 단계 → 소요 시간(ms), 끝난 단계만
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpAfterStartup() {
+        Thread.ofVirtual().name("Geekflex-WarmUp").start(this::warmUp);
+        taskScheduler.schedule(this::markTimedOut, Instant.now().plus(tmdbSyncProperties.getWarmUpTimeout()));
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public Map<String, Long> phaseMillis() {
+        synchronized (phaseMillis) {
+            return Map.copyOf(phaseMillis);
+        }
+    }
+
+    public void warmUp() {
+        long startedAt = System.nanoTime();
+        runPhase("seed", this::seedMissingCategories);
+        runPhase("detail", this::warmUpDetails);
+
+        if (!warm) {
+            warm = true;
+            log.info("[BOOTSTRAP] 예열 완료 - 총 {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } else {
+            log.info("[BOOTSTRAP] 시간 초과 후 예열 완료 - 총 {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+
+    private void markTimedOut() {
+        if (!warm) {
+            warm = true;
+            log.warn("[BOOTSTRAP] 예열 시간 초과 ({}) - readiness UP, 남은 예열은 계속 진행", tmdbSyncProperties.getWarmUpTimeout());
+        }
+    }
+
+    private void runPhase(String phase, Runnable task) {
+        long startedAt = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[BOOTSTRAP] {} 단계 실패", phase, e);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        synchronized (phaseMillis) {
+            phaseMillis.put(phase, elapsed);
+        }
+        log.info("[BOOTSTRAP] {} 단계 종료 - {}ms", phase, elapsed);
+    }
+
+    private void seedMissingCategories() {
+        Map<TagType, Runnable> missing = new LinkedHashMap<>();
+        MOVIE_SEED_TARGETS.forEach((tagType, apiPath) -> {
+            if (!contentListTagRepository.hasPublishedSnapshot(tagType)) {
+                missing.put(tagType, () -> adminCacheService.cacheMovieCategory(tagType, apiPath));
+            }
+        });
+        TV_SEED_TARGETS.forEach((tagType, apiPath) -> {
+            if (!contentListTagRepository.hasPublishedSnapshot(tagType)) {
+                missing.put(tagType, () -> adminCacheService.cacheTvCategory(tagType, apiPath));
+            }
+        });
+
+        if (missing.isEmpty()) {
+            log.info("[BOOTSTRAP] 카테고리 시드 건너뜀 - 기존 데이터가 이미 존재합니다.");
+            return;
+        }
+
+        int concurrency = seedConcurrency();
+        log.info("[BOOTSTRAP] 카테고리 시드 시작 - {} (동시 {}개)", missing.keySet(), concurrency);
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            missing.forEach((tagType, seed) -> executor.submit(() -> {
+                permits.acquireUninterruptibly();
+                long startedAt = System.nanoTime();
+                try {
+                    seed.run();
+                    log.info("[BOOTSTRAP] {} 시드 완료 - {}ms", tagType,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                } catch (Exception e) {
+                    log.error("[BOOTSTRAP] {} 시드 실패", tagType, e);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+    }
+
+    /**
+     * 카테고리 수집은 동시에 maxConcurrentPages개의 페이지를 요청하므로,
+     * 수집용 bulkhead(대기 없이 거절)를 넘지 않는 카테고리 수만 동시에 수집한다.
+     */
+    private int seedConcurrency() {
+        int ingestionCalls = tmdbClientProperties.maxConcurrentCallsOf(TmdbEndpoint.Traffic.INGESTION);
+        return Math.max(1, ingestionCalls / Math.max(1, tmdbCategoryProperties.getMaxConcurrentPages()));
+    }
+
+    private void warmUpDetails() {
+        int size = tmdbSyncProperties.getDetailWarmUpSize();
+        if (size <= 0) {
+            return;
+        }
+
+        AtomicBoolean tmdbUnavailable = new AtomicBoolean();
+        AtomicInteger fetched = new AtomicInteger();
+        Semaphore permits = new Semaphore(Math.max(1, tmdbSyncProperties.getRefreshConcurrency()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ContentType contentType : ContentType.values()) {
+                List<Long> top = contentRepository.findTopTmdbIdsByPopularity(contentType, Limit.of(size));
+                List<Long> missing = tmdbDetailCache.warmUp(contentType, top);
+                log.info("[BOOTSTRAP] {} 상세 스냅샷 예열 - 대상 {}건, 스냅샷 {}건, TMDB 조회 대상 {}건",
+                        contentType, top.size(), top.size() - missing.size(), missing.size());
+                if (missing.isEmpty()) {
+                    continue;
+                }
+
+                for (Content content : contentRepository.findByContentTypeAndTmdbIdIn(contentType, missing)) {
+                    executor.submit(() -> prefetch(content, permits, tmdbUnavailable, fetched));
+                }
+            }
+        }
+        log.info("[BOOTSTRAP] 상세 TMDB 조회 {}건{}", fetched.get(), tmdbUnavailable.get() ? " (TMDB 사용 불가로 중단)" : "");
+    }
+
+    private void prefetch(Content content, Semaphore permits, AtomicBoolean tmdbUnavailable, AtomicInteger fetched) {
+        permits.acquireUninterruptibly();
+        try {
+            // Redis(L2)에 남아 있으면 L1에 채우고 끝
+            if (tmdbUnavailable.get() || tmdbDetailCache.isCached(content.getContentType(), content.getTmdbId())) {
+                return;
+            }
+            contentRefreshService.refreshNow(content);
+            fetched.incrementAndGet();
+        } catch (TmdbUnavailableException e) {
+            if (tmdbUnavailable.compareAndSet(false, true)) {
+                log.warn("[BOOTSTRAP] TMDB 사용 불가, 상세 예열 중단: {}", e.getMessage());
+            }
+        } catch (Exception e) {
+            log.warn("[BOOTSTRAP] 상세 예열 실패 - tmdbId={}, type={}: {}",
+                    content.getTmdbId(), content.getContentType(), e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -21,7 +21,7 @@ public class TvCacheScheduler {
      * TV_AIRING_TODAY (오늘 방영) 데이터 갱신
      * 2일마다 새벽 3시 02분 00초에 실행
      */
-    @Scheduled(cron = "0 2 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "0 2 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cacheAiringTodayTv() {
         log.info("[SCHEDULER] TV_AIRING_TODAY 데이터 캐싱 시작");
         try {
@@ -36,7 +36,7 @@ public class TvCacheScheduler {
      * TV_POPULAR (인기 드라마) 데이터 갱신
      * 2일마다 새벽 3시 02분 20초에 실행
      */
-    @Scheduled(cron = "20 2 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "20 2 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cachePopularTv() {
         log.info("[SCHEDULER] TV_POPULAR 데이터 캐싱 시작");
         try {
@@ -51,7 +51,7 @@ public class TvCacheScheduler {
      * TV_TOP_RATED (높은 평점) 데이터 갱신
      * 2일마다 새벽 3시 02분 40초에 실행
      */
-    @Scheduled(cron = "40 2 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "40 2 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cacheTopRatedTv() {
         log.info("[SCHEDULER] TV_TOP_RATED 데이터 캐싱 시작");
         try {
@@ -66,7 +66,7 @@ public class TvCacheScheduler {
      * TV_ON_THE_AIR (방영 중) 데이터 갱신
      * 2일마다 새벽 3시 03분 00초에 실행
      */
-    @Scheduled(cron = "0 3 3 */2 * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "0 3 3 */2 * *", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
     public void cacheOnTheAirTv() {
         log.info("[SCHEDULER] TV_ON_THE_AIR 데이터 캐싱 시작");
         try {
@@ -0,0 +1,23 @@
+package com.geekflex.app.common.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 예열 상태 (readiness 그룹에 포함, 이름: warmUp).
+ * 예열이 끝나거나 시간 초과될 때까지 OUT_OF_SERVICE를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmUpRunner startupWarmUpRunner;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = startupWarmUpRunner.isWarm() ? Health.up() : Health.outOfService();
+        return builder.withDetail("phaseMillis", startupWarmUpRunner.phaseMillis()).build();
+    }
+}
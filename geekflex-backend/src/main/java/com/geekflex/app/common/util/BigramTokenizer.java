@@ -0,0 +1,72 @@
+package com.geekflex.app.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인용 문자 bigram 토크나이저.
+ * <p>
+ * 제목을 소문자로 바꾸고 공백/기호를 제거한 뒤 연속한 두 글자 단위로 자른다.
+ * 한글은 음절 단위로 자르므로 띄어쓰기가 달라도 ("반지의 제왕" / "반지의제왕") 같은 토큰이 나온다.
+ * <p>
+ * 엔티티(Content의 검색용 컬럼), 리포지토리(FULLTEXT 검색식), 검색 색인이 함께 사용하므로 common에 둔다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BigramTokenizer {
+
+    /**
+     * 비교용 정규화: NFKC → 소문자 → 문자/숫자만 남김
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder compact = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(compact::appendCodePoint);
+        return compact.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 bigram 집합 (한 글자 이하면 빈 집합)
+     */
+    public static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    /**
+     * DB FULLTEXT 색인용 bigram 문자열 (정규화된 값들의 bigram을 공백으로 이어 붙임)
+     */
+    public static String bigramText(String... normalizedValues) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String value : normalizedValues) {
+            if (value != null) {
+                grams.addAll(bigrams(value));
+            }
+        }
+        return String.join(" ", grams);
+    }
+
+    /**
+     * 검색어의 bigram을 모두 포함해야 하는 FULLTEXT boolean mode 검색식 (예: +"반지" +"지의")
+     * normalize 결과는 문자/숫자뿐이므로 연산자가 섞이지 않는다.
+     */
+    public static String booleanQuery(String normalized) {
+        return bigrams(normalized).stream()
+                .map(gram -> "+\"" + gram + "\"")
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -1,12 +1,20 @@
 package com.geekflex.app.content.controller;
 
+import com.geekflex.app.common.dto.CursorPageResponse;
+import com.geekflex.app.content.dto.BrowseSort;
 import com.geekflex.app.content.dto.ContentResponse;
+import com.geekflex.app.content.dto.DiscoverSort;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.entity.TmdbGenre;
 import com.geekflex.app.content.service.ContentService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -19,15 +27,59 @@ public class ContentController {
 
     private final ContentService contentService;
 
-    @Operation(summary = "랜덤 작품 조회", description = "DB에 저장된 영화/드라마 중 무작위 작품 1개를 반환합니다.")
+    @Operation(summary = "장르 둘러보기", description = "장르/원어로 거른 영화 또는 드라마를 인기도나 개봉일 순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/browse")
+    public CursorPageResponse<ContentResponse> browse(
+            @RequestParam ContentType type,
+            @Parameter(description = "모두 포함해야 하는 장르 (예: THRILLER, 여러 개 지정 가능)")
+            @RequestParam(required = false) List<TmdbGenre> genre,
+            @Parameter(description = "원어 코드", example = "ko")
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = "POPULARITY") BrowseSort sort,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return contentService.browse(type, genre, language, sort, cursor, size);
+    }
+
+    @Operation(summary = "디스커버", description = "타입/장르/개봉 연도/최소 투표 수로 거른 작품을 정렬 기준 순으로 커서 기반 페이지 조회합니다. 필터와 정렬은 인메모리 카탈로그에서 처리합니다.")
+    @GetMapping("/discover")
+    public CursorPageResponse<ContentResponse> discover(
+            @RequestParam(required = false) ContentType type,
+            @Parameter(description = "모두 포함해야 하는 장르 (여러 개 지정 가능)")
+            @RequestParam(required = false) List<TmdbGenre> genre,
+            @Parameter(description = "개봉 연도 하한 (포함)", example = "2015")
+            @RequestParam(required = false) Integer fromYear,
+            @Parameter(description = "개봉 연도 상한 (포함)", example = "2024")
+            @RequestParam(required = false) Integer toYear,
+            @Parameter(description = "최소 투표 수", example = "100")
+            @RequestParam(defaultValue = "0") int minVotes,
+            @RequestParam(defaultValue = "POPULARITY") DiscoverSort sort,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return contentService.discover(type, genre, fromYear, toYear, minVotes, sort, cursor, size);
+    }
+
+    @Operation(summary = "랜덤 작품 조회", description = "DB에 저장된 영화/드라마 중 무작위 작품 1개를 반환합니다. (type, tag로 범위 제한 가능)")
     @GetMapping("/random")
-    public ContentResponse getRandomContent() {
-        return contentService.getRandomContent();
+    public ContentResponse getRandomContent(
+            @RequestParam(required = false) ContentType type,
+            @RequestParam(required = false) TagType tag
+    ) {
+        return contentService.getRandomContent(type, tag);
     }
 
-    @Operation(summary = "랜덤 검색 제안 조회", description = "DB에 저장된 영화/드라마 중 검색 제안으로 사용할 작품 4개를 반환합니다.")
+    @Operation(summary = "랜덤 검색 제안 조회", description = "DB에 저장된 영화/드라마 중 검색 제안으로 사용할 작품 4개를 반환합니다. (type, tag로 범위 제한 가능)")
     @GetMapping("/random-suggestions")
-    public List<ContentResponse> getRandomContentSuggestions() {
-        return contentService.getRandomContentSuggestions();
+    public List<ContentResponse> getRandomContentSuggestions(
+            @RequestParam(required = false) ContentType type,
+            @RequestParam(required = false) TagType tag
+    ) {
+        return contentService.getRandomContentSuggestions(type, tag);
     }
 }
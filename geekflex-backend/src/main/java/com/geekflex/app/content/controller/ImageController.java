@@ -0,0 +1,99 @@
+package com.geekflex.app.content.controller;
+
+import com.geekflex.app.content.service.image.TmdbImageProperties;
+import com.geekflex.app.content.service.image.TmdbImageProxyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+@Tag(name = "Image", description = "TMDB 이미지 프록시 API")
+public class ImageController {
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터가 응답 본문을 커널에서 바로 소켓으로 복사)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final TmdbImageProxyService tmdbImageProxyService;
+    private final TmdbImageProperties tmdbImageProperties;
+
+    @Operation(summary = "TMDB 이미지", description = "TMDB 포스터/배경 이미지를 지정한 크기로 반환합니다. 처음 요청 시 TMDB에서 받아 서버 디스크에 캐싱합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 크기/파일명"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "TMDB에 없는 이미지")
+    })
+    @GetMapping("/{size}/{fileName:.+}")
+    public void getImage(
+            @Parameter(description = "이미지 크기", example = "w500")
+            @PathVariable String size,
+            @Parameter(description = "TMDB 이미지 파일명", example = "8UlWHLMpgZm9bx6QYh0NFoq67TZ.jpg")
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        // TMDB 이미지 경로는 내용이 바뀌면 새 파일명이 되므로 경로 자체를 ETag로 사용
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + size + "/" + fileName + "\"")) {
+            return;
+        }
+
+        Path image = tmdbImageProxyService.resolve(size, fileName);
+        if (image == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(image);
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setContentLengthLong(length);
+        // 브라우저가 내용으로 타입을 추측해 이미지가 아닌 문서로 해석하지 않도록
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(tmdbImageProperties.getMaxAge())
+                .cachePublic()
+                .immutable()
+                .getHeaderValue());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+
+        // sendfile을 쓸 수 없는 환경 (다른 커넥터, MockMvc 등): FileChannel.transferTo로 전송
+        try (FileChannel channel = FileChannel.open(image, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.geekflex.app.content.controller;
 
 import com.geekflex.app.common.dto.ApiResponse;
+import com.geekflex.app.common.dto.CursorPageResponse;
+import com.geekflex.app.content.dto.AutocompleteResponse;
 import com.geekflex.app.content.dto.ContentResponse;
 import com.geekflex.app.content.dto.movie.MovieSearchResponse;
 import com.geekflex.app.content.dto.tmdb.MovieDetailResponse;
@@ -17,9 +19,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -39,11 +43,36 @@ public class MovieController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/now-playing")
-    public List<ContentResponse> getNowPlaying() {
-        return contentService.getContentsByTagType(TagType.NOW_PLAYING);
+    public ResponseEntity<byte[]> getNowPlaying(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.NOW_PLAYING, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "현재 상영작 커서 페이지 조회", description = "현재 상영작 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/now-playing/page")
+    public CursorPageResponse<ContentResponse> getNowPlayingPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.NOW_PLAYING, cursor, size);
     }
 
     @Operation(summary = "인기 영화 조회", description = "TMDB 기준 인기 영화 목록을 반환합니다.")
@@ -51,12 +80,37 @@ public class MovieController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
 
     @GetMapping("/popular")
-    public List<ContentResponse> getPopular() {
-        return contentService.getContentsByTagType(TagType.POPULAR);
+    public ResponseEntity<byte[]> getPopular(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.POPULAR, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "인기 영화 커서 페이지 조회", description = "인기 영화 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/popular/page")
+    public CursorPageResponse<ContentResponse> getPopularPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.POPULAR, cursor, size);
     }
 
     @Operation(summary = "높은 평점 영화 조회", description = "TMDB 기준 평점이 높은 영화 목록을 반환합니다.")
@@ -64,11 +118,36 @@ public class MovieController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/top_rated")
-    public List<ContentResponse> getTopRated() {
-        return contentService.getContentsByTagType(TagType.TOP_RATED);
+    public ResponseEntity<byte[]> getTopRated(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.TOP_RATED, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "높은 평점 영화 커서 페이지 조회", description = "높은 평점 영화 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/top_rated/page")
+    public CursorPageResponse<ContentResponse> getTopRatedPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.TOP_RATED, cursor, size);
     }
 
     @Operation(summary = "개봉 예정 영화 조회", description = "TMDB 기준 개봉 예정 영화 목록을 반환합니다.")
@@ -76,11 +155,36 @@ public class MovieController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/upcoming")
-    public List<ContentResponse> getUpcoming() {
-        return contentService.getContentsByTagType(TagType.UPCOMING);
+    public ResponseEntity<byte[]> getUpcoming(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.UPCOMING, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "개봉 예정 영화 커서 페이지 조회", description = "개봉 예정 영화 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/upcoming/page")
+    public CursorPageResponse<ContentResponse> getUpcomingPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.UPCOMING, cursor, size);
     }
 
     @Operation(summary = "영화 상세 조회", description = "TMDB ID로 영화 상세 정보를 조회합니다. DB 정보와 TMDB API 정보를 결합하여 반환합니다.")
@@ -94,13 +198,29 @@ public class MovieController {
             )
     })
     @GetMapping("/{tmdbId}")
-    public MovieDetailResponse getMovieDetail(
+    public Mono<MovieDetailResponse> getMovieDetail(
             @Parameter(description = "TMDB 영화 ID", example = "550", required = true)
             @PathVariable Long tmdbId,
             @Parameter(description = "응답 언어 코드", example = "ko-KR")
             @RequestParam(defaultValue = "ko-KR") String language) {
         log.info("영화 상세 조회 - tmdbId: {}", tmdbId);
-        return contentService.getMovieDetailWithCaching(tmdbId, language);
+        return contentService.getMovieDetailAsync(tmdbId, language);
+    }
+
+    @Operation(summary = "영화 제목 자동완성", description = "입력 중인 제목(자모 단위 접두어) 또는 초성(예: ㅇㅂㅈㅅ)으로 저장된 영화를 인기도 순으로 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = AutocompleteResponse.class)))
+            )
+    })
+    @GetMapping("/autocomplete")
+    public List<AutocompleteResponse> autocomplete(
+            @Parameter(description = "입력 중인 검색어", example = "어벤", required = true)
+            @RequestParam("keyword") String keyword,
+            @Parameter(description = "최대 건수", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        return movieSearchService.autocomplete(keyword, size);
     }
 
     @Operation(summary = "영화 검색", description = "제목으로 영화를 검색합니다. 정확 일치 → 부분 일치 순으로 정렬된 결과를 반환합니다.")
@@ -111,7 +231,7 @@ public class MovieController {
             )
     })
     @GetMapping("/search")
-    public List<MovieSearchResponse> searchMovies(
+    public Mono<List<MovieSearchResponse>> searchMovies(
             @Parameter(description = "검색어 (영화 제목)", example = "아바타", required = true)
             @RequestParam("keyword") String keyword) {
         log.info("영화 검색 API 호출 - keyword: {}", keyword);
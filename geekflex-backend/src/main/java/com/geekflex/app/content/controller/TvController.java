@@ -1,6 +1,8 @@
 package com.geekflex.app.content.controller;
 
 import com.geekflex.app.common.dto.ApiResponse;
+import com.geekflex.app.common.dto.CursorPageResponse;
+import com.geekflex.app.content.dto.AutocompleteResponse;
 import com.geekflex.app.content.dto.ContentResponse;
 import com.geekflex.app.content.dto.tv.TvSearchResponse;
 import com.geekflex.app.content.dto.tmdb.TvDetailResponse;
@@ -17,9 +19,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -38,11 +42,36 @@ public class TvController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/airing-today")
-    public List<ContentResponse> getAiringToday() {
-        return contentService.getContentsByTagType(TagType.TV_AIRING_TODAY);
+    public ResponseEntity<byte[]> getAiringToday(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.TV_AIRING_TODAY, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "오늘 방영 드라마 커서 페이지 조회", description = "오늘 방영 드라마 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/airing-today/page")
+    public CursorPageResponse<ContentResponse> getAiringTodayPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.TV_AIRING_TODAY, cursor, size);
     }
 
     @Operation(summary = "인기 드라마 조회", description = "TMDB 기준 인기 드라마 목록을 반환합니다.")
@@ -50,11 +79,36 @@ public class TvController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/popular")
-    public List<ContentResponse> getPopular() {
-        return contentService.getContentsByTagType(TagType.TV_POPULAR);
+    public ResponseEntity<byte[]> getPopular(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.TV_POPULAR, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "인기 드라마 커서 페이지 조회", description = "인기 드라마 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/popular/page")
+    public CursorPageResponse<ContentResponse> getPopularPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.TV_POPULAR, cursor, size);
     }
 
     @Operation(summary = "높은 평점 드라마 조회", description = "TMDB 기준 평점이 높은 드라마 목록을 반환합니다.")
@@ -62,11 +116,36 @@ public class TvController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/top-rated")
-    public List<ContentResponse> getTopRated() {
-        return contentService.getContentsByTagType(TagType.TV_TOP_RATED);
+    public ResponseEntity<byte[]> getTopRated(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.TV_TOP_RATED, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "높은 평점 드라마 커서 페이지 조회", description = "높은 평점 드라마 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/top-rated/page")
+    public CursorPageResponse<ContentResponse> getTopRatedPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.TV_TOP_RATED, cursor, size);
     }
 
     @Operation(summary = "방영 중 드라마 조회", description = "TMDB 기준 현재 방영 중인 드라마 목록을 반환합니다.")
@@ -74,11 +153,36 @@ public class TvController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContentResponse.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"
             )
     })
     @GetMapping("/on-the-air")
-    public List<ContentResponse> getOnTheAir() {
-        return contentService.getContentsByTagType(TagType.TV_ON_THE_AIR);
+    public ResponseEntity<byte[]> getOnTheAir(
+            @Parameter(description = "최대 조회 건수", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return contentService.getContentsPayloadByTagType(TagType.TV_ON_THE_AIR, size).toResponseEntity(ifNoneMatch);
+    }
+
+    @Operation(summary = "방영 중 드라마 커서 페이지 조회", description = "방영 중 드라마 목록을 커서 기반으로 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400", description = "잘못된 커서"
+            )
+    })
+    @GetMapping("/on-the-air/page")
+    public CursorPageResponse<ContentResponse> getOnTheAirPage(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return contentService.getContentPageByTagType(TagType.TV_ON_THE_AIR, cursor, size);
     }
 
     @Operation(summary = "드라마 상세 조회", description = "TMDB ID로 드라마 상세 정보를 조회합니다. DB 정보와 TMDB API 정보를 결합하여 반환합니다.")
@@ -92,13 +196,29 @@ public class TvController {
             )
     })
     @GetMapping("/{tmdbId}")
-    public TvDetailResponse getTvDetail(
+    public Mono<TvDetailResponse> getTvDetail(
             @Parameter(description = "TMDB 드라마 ID", example = "94605", required = true)
             @PathVariable Long tmdbId,
             @Parameter(description = "응답 언어 코드", example = "ko-KR")
             @RequestParam(defaultValue = "ko-KR") String language) {
         log.info("드라마 상세 조회 - tmdbId: {}", tmdbId);
-        return contentService.getTvDetailWithCaching(tmdbId, language);
+        return contentService.getTvDetailAsync(tmdbId, language);
+    }
+
+    @Operation(summary = "드라마 제목 자동완성", description = "입력 중인 제목(자모 단위 접두어) 또는 초성(예: ㅇㅂㅈㅅ)으로 저장된 드라마를 인기도 순으로 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = AutocompleteResponse.class)))
+            )
+    })
+    @GetMapping("/autocomplete")
+    public List<AutocompleteResponse> autocomplete(
+            @Parameter(description = "입력 중인 검색어", example = "ㅇㅈㅇ", required = true)
+            @RequestParam("keyword") String keyword,
+            @Parameter(description = "최대 건수", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        return tvSearchService.autocomplete(keyword, size);
     }
 
     @Operation(summary = "드라마 검색", description = "제목으로 드라마를 검색합니다. 정확 일치 → 부분 일치 순으로 정렬된 결과를 반환합니다.")
@@ -109,7 +229,7 @@ public class TvController {
             )
     })
     @GetMapping("/search")
-    public List<TvSearchResponse> searchTv(
+    public Mono<List<TvSearchResponse>> searchTv(
             @Parameter(description = "검색어 (드라마 제목)", example = "오징어게임", required = true)
             @RequestParam("keyword") String keyword) {
         log.info("드라마 검색 API 호출 - keyword: {}", keyword);
@@ -0,0 +1,32 @@
+package com.geekflex.app.content.dto;
+
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.service.search.AutocompleteIndex;
+import com.geekflex.app.content.service.tmdb.TmdbImageUrlBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 제목 자동완성 항목
+ *
+ * @param id        DB PK
+ * @param tmdbId    TMDB 고유 ID
+ * @param posterUrl 포스터 이미지 URL
+ */
+public record AutocompleteResponse(Long id, Long tmdbId, ContentType contentType, String title, String originalTitle,
+                                   String posterUrl, LocalDate releaseDate, BigDecimal popularity) {
+
+    public static AutocompleteResponse from(AutocompleteIndex.Suggestion suggestion) {
+        return new AutocompleteResponse(
+                suggestion.id(),
+                suggestion.tmdbId(),
+                suggestion.contentType(),
+                suggestion.title(),
+                suggestion.originalTitle(),
+                TmdbImageUrlBuilder.poster(suggestion.posterPath()),
+                suggestion.releaseDate(),
+                suggestion.popularity()
+        );
+    }
+}
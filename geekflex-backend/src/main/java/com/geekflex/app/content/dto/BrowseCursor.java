@@ -0,0 +1,73 @@
+package com.geekflex.app.content.dto;
+
+import com.geekflex.app.content.entity.Content;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 장르 둘러보기 keyset 페이지네이션 커서.
+ * 정렬 기준 값(인기도 또는 개봉일)과 id의 마지막 값을 정렬 기준과 함께 불투명한 문자열로 인코딩한다.
+ * 정렬 기준 값이 없는 콘텐츠는 둘러보기 대상에서 제외되므로 커서에도 항상 값이 있다.
+ */
+public record BrowseCursor(BrowseSort sort, String key, long id) {
+
+    // 첫 페이지: 모든 콘텐츠보다 앞선 위치 (popularity는 DECIMAL(8, 3))
+    private static final String FIRST_POPULARITY = "100000";
+    private static final String FIRST_RELEASE_DATE = "9999-12-31";
+
+    public static BrowseCursor first(BrowseSort sort) {
+        return new BrowseCursor(sort, sort == BrowseSort.POPULARITY ? FIRST_POPULARITY : FIRST_RELEASE_DATE,
+                Long.MAX_VALUE);
+    }
+
+    public static BrowseCursor after(BrowseSort sort, Content content) {
+        String key = sort == BrowseSort.POPULARITY
+                ? content.getPopularity().toPlainString()
+                : content.getReleaseDate().toString();
+        return new BrowseCursor(sort, key, content.getId());
+    }
+
+    /**
+     * @throws IllegalArgumentException 손상된 커서이거나 다른 정렬 기준으로 만든 커서
+     */
+    public static BrowseCursor decode(BrowseSort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+
+        BrowseCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            decoded = new BrowseCursor(BrowseSort.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+            // 값 형식 검증
+            if (decoded.sort() == BrowseSort.POPULARITY) {
+                decoded.popularity();
+            } else {
+                decoded.releaseDate();
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        if (decoded.sort() != sort) {
+            throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+        }
+        return decoded;
+    }
+
+    public BigDecimal popularity() {
+        return new BigDecimal(key);
+    }
+
+    public LocalDate releaseDate() {
+        return LocalDate.parse(key);
+    }
+
+    public String encode() {
+        String raw = sort.name() + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.geekflex.app.content.dto;
+
+/**
+ * 장르 둘러보기 정렬 기준 (내림차순, 같은 값이면 id 내림차순)
+ */
+public enum BrowseSort {
+    POPULARITY,
+    RELEASE_DATE
+}
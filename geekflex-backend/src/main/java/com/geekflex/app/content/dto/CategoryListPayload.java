@@ -0,0 +1,37 @@
+package com.geekflex.app.content.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 미리 직렬화된 카테고리 목록 응답 (JSON 바이트 + strong ETag)
+ */
+public record CategoryListPayload(byte[] body, String etag) {
+
+    /**
+     * If-None-Match가 현재 ETag와 같으면 304, 아니면 직렬화된 본문을 그대로 반환
+     */
+    public ResponseEntity<byte[]> toResponseEntity(String ifNoneMatch) {
+        if (matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
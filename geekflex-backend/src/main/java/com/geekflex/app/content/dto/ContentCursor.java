@@ -0,0 +1,46 @@
+package com.geekflex.app.content.dto;
+
+import com.geekflex.app.content.entity.Content;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 카테고리 목록 keyset 페이지네이션 커서.
+ * 정렬 기준인 (개봉일 DESC, id DESC)의 마지막 값을 불투명한 문자열로 인코딩한다.
+ * 개봉일이 없는 콘텐츠는 {@link #NO_RELEASE_DATE}로 취급하여 맨 뒤에 정렬된다.
+ */
+public record ContentCursor(LocalDate releaseDate, long id) {
+
+    public static final LocalDate NO_RELEASE_DATE = LocalDate.of(1000, 1, 1);
+
+    // 첫 페이지: 모든 콘텐츠보다 앞선 위치
+    public static final ContentCursor FIRST = new ContentCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    public static ContentCursor after(Content content) {
+        LocalDate date = content.getReleaseDate() != null ? content.getReleaseDate() : NO_RELEASE_DATE;
+        return new ContentCursor(date, content.getId());
+    }
+
+    public static ContentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('_');
+            return new ContentCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = releaseDate + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
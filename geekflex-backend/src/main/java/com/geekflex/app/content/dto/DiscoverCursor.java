@@ -0,0 +1,52 @@
+package com.geekflex.app.content.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 디스커버 keyset 페이지네이션 커서.
+ * 인메모리 카탈로그의 정렬 키(double)와 id의 마지막 값을 정렬 기준과 함께 불투명한 문자열로 인코딩한다.
+ */
+public record DiscoverCursor(DiscoverSort sort, double key, long id) {
+
+    public static DiscoverCursor first(DiscoverSort sort) {
+        return new DiscoverCursor(sort, Double.POSITIVE_INFINITY, Long.MAX_VALUE);
+    }
+
+    /**
+     * @throws IllegalArgumentException 손상된 커서이거나 다른 정렬 기준으로 만든 커서
+     */
+    public static DiscoverCursor decode(DiscoverSort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+
+        DiscoverCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            decoded = new DiscoverCursor(DiscoverSort.valueOf(parts[0]), Double.parseDouble(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        if (decoded.sort() != sort) {
+            throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+        }
+        return decoded;
+    }
+
+    /**
+     * (key DESC, id DESC) 순서에서 커서 위치보다 뒤인지
+     */
+    public boolean precedes(double otherKey, long otherId) {
+        int compared = Double.compare(otherKey, key);
+        return compared < 0 || (compared == 0 && otherId < id);
+    }
+
+    public String encode() {
+        // Double.toString은 parseDouble로 같은 값이 복원됨
+        String raw = sort.name() + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
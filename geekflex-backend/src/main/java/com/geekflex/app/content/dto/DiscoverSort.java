@@ -0,0 +1,11 @@
+package com.geekflex.app.content.dto;
+
+/**
+ * 디스커버 정렬 기준 (내림차순, 같은 값이면 id 내림차순)
+ */
+public enum DiscoverSort {
+    POPULARITY,
+    VOTE_AVERAGE,
+    VOTE_COUNT,
+    RELEASE_DATE
+}
@@ -38,6 +38,25 @@ public class MovieDetailResponse {
 
     private String status;
     private String tagline;
+
+    /**
+     * TMDB를 사용할 수 없을 때 DB 값만으로 만든 응답 (상세 전용 필드는 비어 있음)
+     */
+    public static MovieDetailResponse fromContent(Content content) {
+        return from(content, new TmdbMovieDetailResponse());
+    }
+
+    /**
+     * 기본 언어 응답의 번역 필드를 다른 언어로 덮어쓴다. (번역이 없는 필드는 기본 언어 값 유지)
+     */
+    public MovieDetailResponse localize(TmdbLocalizedText text) {
+        this.title = TmdbLocalizedText.orDefault(text.title(), title);
+        this.overview = TmdbLocalizedText.orDefault(text.overview(), overview);
+        this.tagline = TmdbLocalizedText.orDefault(text.tagline(), tagline);
+        this.genres = text.localizeMovieGenres(genres);
+        return this;
+    }
+
     public static MovieDetailResponse from(Content content, TmdbMovieDetailResponse detail) {
 
         return MovieDetailResponse.builder()
@@ -0,0 +1,29 @@
+package com.geekflex.app.content.dto.tmdb;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * TMDB 변경 목록 응답 DTO (/movie/changes, /tv/changes)
+ * - 기간 내 데이터가 바뀐 작품의 id만 포함 (페이지당 최대 100건)
+ */
+@Data
+public class TmdbChangesResponse {
+
+    private int page;
+
+    private List<Change> results;
+
+    @JsonProperty("total_pages")
+    private int totalPages;
+
+    @JsonProperty("total_results")
+    private int totalResults;
+
+    @Data
+    public static class Change {
+        private Long id;
+        private Boolean adult;
+    }
+}
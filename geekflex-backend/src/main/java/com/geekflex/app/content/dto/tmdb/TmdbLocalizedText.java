@@ -0,0 +1,110 @@
+package com.geekflex.app.content.dto.tmdb;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기본 언어(ko-KR)가 아닌 언어의 상세 응답 중 번역되는 문자열만 모은 것.
+ * <p>
+ * 상영 시간, 제작사, id 등 언어와 무관한 필드는 기본 언어 상세 캐시를 함께 쓰므로,
+ * 언어가 하나 늘 때마다 이 문자열만큼만 캐시에 추가된다.
+ * TMDB에 번역이 없는 필드는 빈 값으로 오며, 응답 시 기본 언어 값을 그대로 둔다.
+ *
+ * @param genreNames 장르 id → 장르명
+ * @param seasons    시즌 id → 시즌명/개요 (TV만)
+ */
+public record TmdbLocalizedText(String title, String overview, String tagline,
+                                Map<Long, String> genreNames, Map<Long, SeasonText> seasons) {
+
+    public static TmdbLocalizedText of(TmdbMovieDetailResponse detail) {
+        Map<Long, String> genreNames = new HashMap<>();
+        if (detail.getGenres() != null) {
+            detail.getGenres().forEach(genre -> putIfPresent(genreNames, genre.getId(), genre.getName()));
+        }
+        return new TmdbLocalizedText(detail.getTitle(), detail.getOverview(), detail.getTagline(), genreNames, Map.of());
+    }
+
+    public static TmdbLocalizedText of(TmdbTvDetailResponse detail) {
+        Map<Long, String> genreNames = new HashMap<>();
+        if (detail.getGenres() != null) {
+            detail.getGenres().forEach(genre -> putIfPresent(genreNames, genre.getId(), genre.getName()));
+        }
+        Map<Long, SeasonText> seasons = new HashMap<>();
+        if (detail.getSeasons() != null) {
+            for (TmdbTvDetailResponse.Season season : detail.getSeasons()) {
+                if (season.getId() != null) {
+                    seasons.put(season.getId(), new SeasonText(season.getName(), season.getOverview()));
+                }
+            }
+        }
+        return new TmdbLocalizedText(detail.getName(), detail.getOverview(), detail.getTagline(), genreNames, seasons);
+    }
+
+    /**
+     * 번역이 있으면 번역, 없으면 기본 언어 값
+     */
+    public static String orDefault(String localized, String fallback) {
+        return localized != null && !localized.isBlank() ? localized : fallback;
+    }
+
+    public List<TmdbMovieDetailResponse.Genre> localizeMovieGenres(List<TmdbMovieDetailResponse.Genre> genres) {
+        if (genres == null) {
+            return null;
+        }
+        // 캐시에 있는 기본 언어 상세 객체를 바꾸지 않도록 복사
+        return genres.stream().map(genre -> {
+            TmdbMovieDetailResponse.Genre localized = new TmdbMovieDetailResponse.Genre();
+            localized.setId(genre.getId());
+            localized.setName(orDefault(genreName(genre.getId()), genre.getName()));
+            return localized;
+        }).toList();
+    }
+
+    public List<TmdbTvDetailResponse.Genre> localizeTvGenres(List<TmdbTvDetailResponse.Genre> genres) {
+        if (genres == null) {
+            return null;
+        }
+        return genres.stream().map(genre -> {
+            TmdbTvDetailResponse.Genre localized = new TmdbTvDetailResponse.Genre();
+            localized.setId(genre.getId());
+            localized.setName(orDefault(genreName(genre.getId()), genre.getName()));
+            return localized;
+        }).toList();
+    }
+
+    public List<TmdbTvDetailResponse.Season> localizeSeasons(List<TmdbTvDetailResponse.Season> seasons) {
+        if (seasons == null) {
+            return null;
+        }
+        return seasons.stream().map(season -> {
+            SeasonText text = season.getId() != null && this.seasons != null ? this.seasons.get(season.getId()) : null;
+            if (text == null) {
+                return season;
+            }
+            TmdbTvDetailResponse.Season localized = new TmdbTvDetailResponse.Season();
+            localized.setAirDate(season.getAirDate());
+            localized.setEpisodeCount(season.getEpisodeCount());
+            localized.setId(season.getId());
+            localized.setName(orDefault(text.name(), season.getName()));
+            localized.setOverview(orDefault(text.overview(), season.getOverview()));
+            localized.setPosterPath(season.getPosterPath());
+            localized.setSeasonNumber(season.getSeasonNumber());
+            localized.setVoteAverage(season.getVoteAverage());
+            return localized;
+        }).toList();
+    }
+
+    private String genreName(Long genreId) {
+        return genreId != null && genreNames != null ? genreNames.get(genreId) : null;
+    }
+
+    private static void putIfPresent(Map<Long, String> names, Long id, String name) {
+        if (id != null && name != null) {
+            names.put(id, name);
+        }
+    }
+
+    public record SeasonText(String name, String overview) {
+    }
+}
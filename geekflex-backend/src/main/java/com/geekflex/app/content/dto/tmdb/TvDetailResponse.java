@@ -44,6 +44,25 @@ public class TvDetailResponse {
     private String status;
     private String tagline;
 
+    /**
+     * TMDB를 사용할 수 없을 때 DB 값만으로 만든 응답 (상세 전용 필드는 비어 있음)
+     */
+    public static TvDetailResponse fromContent(Content content) {
+        return from(content, new TmdbTvDetailResponse());
+    }
+
+    /**
+     * 기본 언어 응답의 번역 필드를 다른 언어로 덮어쓴다. (번역이 없는 필드는 기본 언어 값 유지)
+     */
+    public TvDetailResponse localize(TmdbLocalizedText text) {
+        this.name = TmdbLocalizedText.orDefault(text.title(), name);
+        this.overview = TmdbLocalizedText.orDefault(text.overview(), overview);
+        this.tagline = TmdbLocalizedText.orDefault(text.tagline(), tagline);
+        this.genres = text.localizeTvGenres(genres);
+        this.seasons = text.localizeSeasons(seasons);
+        return this;
+    }
+
     public static TvDetailResponse from(Content content, TmdbTvDetailResponse detail) {
         return TvDetailResponse.builder()
                 // Content 기반 (DB 값 우선)
@@ -1,5 +1,6 @@
 package com.geekflex.app.content.entity;
 
+import com.geekflex.app.common.util.BigramTokenizer;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -43,6 +44,18 @@ public class Content {
     @Column(name = "original_title", length = 200)
     private String originalTitle; // 원제목
 
+    @Column(name = "title_normalized", length = 200)
+    @Setter(AccessLevel.NONE)
+    private String titleNormalized; // 검색용 정규화 제목 (소문자, 문자/숫자만)
+
+    @Column(name = "original_title_normalized", length = 200)
+    @Setter(AccessLevel.NONE)
+    private String originalTitleNormalized; // 검색용 정규화 원제목
+
+    @Column(name = "title_bigrams", columnDefinition = "TEXT")
+    @Setter(AccessLevel.NONE)
+    private String titleBigrams; // 제목/원제목 bigram (FULLTEXT 검색용)
+
     @Column(name = "original_language", length = 10)
     private String originalLanguage; // 원어 코드 (예: en, ko)
 
@@ -73,6 +86,10 @@ public class Content {
     @Column(length = 100)
     private String genre; // 장르명
 
+    @Column(name = "genre_bits", nullable = false)
+    @Builder.Default
+    private long genreBits = 0L; // TMDB 장르 비트 (TmdbGenre.bit, 장르 필터용)
+
     @Column(name = "origin_country", length = 50)
     private String originCountry; // 제작 국가
 
@@ -82,6 +99,9 @@ public class Content {
     @Column(name = "last_synced_at")
     private LocalDateTime lastSyncedAt; // TMDB API 마지막 동기화 시각
 
+    @Column(name = "payload_hash")
+    private Long payloadHash; // 저장 필드 기준 TMDB 상세 해시 (ContentPayloadHash, 변경 없는 갱신의 UPDATE 생략)
+
     @OneToMany(mappedBy = "content", fetch = FetchType.LAZY)
     @ToString.Exclude
     private List<ContentListTag> tags;
@@ -89,6 +109,29 @@ public class Content {
     @PrePersist
     public void onCreate() {
         this.createdAt = LocalDateTime.now();
+        updateSearchColumns();
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updateSearchColumns();
+    }
+
+    /**
+     * 제목/원제목으로 검색용 컬럼 재계산
+     */
+    public void updateSearchColumns() {
+        this.titleNormalized = normalizeForSearch(title);
+        this.originalTitleNormalized = normalizeForSearch(originalTitle);
+        this.titleBigrams = BigramTokenizer.bigramText(titleNormalized, originalTitleNormalized);
+    }
+
+    /**
+     * 검색용 정규화 (컬럼 길이를 넘지 않도록 자름)
+     */
+    public static String normalizeForSearch(String value) {
+        String normalized = BigramTokenizer.normalize(value);
+        return normalized.length() > 200 ? normalized.substring(0, 200) : normalized;
     }
 
     /**
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
         uniqueConstraints = {
                 @UniqueConstraint(
                         name = "uq_content_tag",
-                        columnNames = {"content_id", "tag_type"}
+                        columnNames = {"tag_type", "snapshot_id", "content_id"}
                 )
         }
 )
@@ -33,6 +33,10 @@ public class ContentListTag {
     @Column(name = "tag_type", nullable = false)
     private TagType tagType;
 
+    // 목록 스냅샷 번호 (content_list_current가 가리키는 스냅샷만 조회됨)
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
     private String region;
     private LocalDateTime snapshotAt;
 
@@ -2,41 +2,67 @@ package com.geekflex.app.content.entity;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
- * TMDB 영화 장르 Enum
+ * TMDB 영화/TV 장르 Enum
  * TMDB API에서 제공하는 장르 ID와 한글 이름을 매핑
+ * <p>
+ * bit는 contents.genre_bits에 저장되는 비트 위치이므로 한 번 정한 값은 바꾸지 않는다. (새 장르는 다음 번호로 추가)
  */
 @Getter
 public enum TmdbGenre {
-    ACTION(28, "액션"),
-    ADVENTURE(12, "모험"),
-    ANIMATION(16, "애니메이션"),
-    COMEDY(35, "코미디"),
-    CRIME(80, "범죄"),
-    DOCUMENTARY(99, "다큐멘터리"),
-    DRAMA(18, "드라마"),
-    FAMILY(10751, "가족"),
-    FANTASY(14, "판타지"),
-    HISTORY(36, "역사"),
-    HORROR(27, "공포"),
-    MUSIC(10402, "음악"),
-    MYSTERY(9648, "미스터리"),
-    ROMANCE(10749, "로맨스"),
-    SCIENCE_FICTION(878, "SF"),
-    TV_MOVIE(10770, "TV 영화"),
-    THRILLER(53, "스릴러"),
-    WAR(10752, "전쟁"),
-    WESTERN(37, "서부");
+    ACTION(28, "액션", 0),
+    ADVENTURE(12, "모험", 1),
+    ANIMATION(16, "애니메이션", 2),
+    COMEDY(35, "코미디", 3),
+    CRIME(80, "범죄", 4),
+    DOCUMENTARY(99, "다큐멘터리", 5),
+    DRAMA(18, "드라마", 6),
+    FAMILY(10751, "가족", 7),
+    FANTASY(14, "판타지", 8),
+    HISTORY(36, "역사", 9),
+    HORROR(27, "공포", 10),
+    MUSIC(10402, "음악", 11),
+    MYSTERY(9648, "미스터리", 12),
+    ROMANCE(10749, "로맨스", 13),
+    SCIENCE_FICTION(878, "SF", 14),
+    TV_MOVIE(10770, "TV 영화", 15),
+    THRILLER(53, "스릴러", 16),
+    WAR(10752, "전쟁", 17),
+    WESTERN(37, "서부", 18),
+
+    // TV 전용 장르
+    ACTION_ADVENTURE(10759, "액션 & 어드벤처", 19),
+    KIDS(10762, "키즈", 20),
+    NEWS(10763, "뉴스", 21),
+    REALITY(10764, "리얼리티", 22),
+    SCI_FI_FANTASY(10765, "SF & 판타지", 23),
+    SOAP(10766, "연속극", 24),
+    TALK(10767, "토크", 25),
+    WAR_POLITICS(10768, "전쟁 & 정치", 26);
+
+    /**
+     * 장르명 구분자 (목록/상세 경로 공통)
+     */
+    public static final String SEPARATOR = ", ";
 
     private final int id;
     private final String koreanName;
+    private final int bit;
 
-    TmdbGenre(int id, String koreanName) {
+    TmdbGenre(int id, String koreanName, int bit) {
         this.id = id;
         this.koreanName = koreanName;
+        this.bit = bit;
+    }
+
+    public long mask() {
+        return 1L << bit;
     }
 
     /**
@@ -59,6 +85,28 @@ public enum TmdbGenre {
         return genre != null ? genre.getKoreanName() : null;
     }
 
+    private static final Map<String, TmdbGenre> KOREAN_NAME_MAP = Arrays.stream(values())
+            .collect(Collectors.toMap(TmdbGenre::getKoreanName, genre -> genre));
+
+    /**
+     * 장르명 문자열(contents.genre)을 genre_bits 값으로 변환합니다. (한글 장르명이 아닌 이름은 무시)
+     *
+     * @param genreNames {@link #SEPARATOR}로 구분된 장르명 (예: "드라마, 스릴러")
+     */
+    public static long toBitsFromNames(String genreNames) {
+        if (genreNames == null || genreNames.isBlank()) {
+            return 0L;
+        }
+        long bits = 0L;
+        for (String name : genreNames.split(SEPARATOR)) {
+            TmdbGenre genre = KOREAN_NAME_MAP.get(name.trim());
+            if (genre != null) {
+                bits |= genre.mask();
+            }
+        }
+        return bits;
+    }
+
     /**
      * 장르 ID 리스트를 콤마로 구분된 한글 장르명 문자열로 변환합니다.
      * 
@@ -73,15 +121,48 @@ public enum TmdbGenre {
         return genreIds.stream()
                 .map(TmdbGenre::getKoreanNameById)
                 .filter(name -> name != null)
-                .collect(java.util.stream.Collectors.joining(", "));
+                .collect(java.util.stream.Collectors.joining(SEPARATOR));
     }
-}
-
-
-
-
-
-
 
+    /**
+     * 장르 ID 목록을 genre_bits 값으로 변환합니다. (알 수 없는 ID는 무시)
+     *
+     * @param genreIds TMDB 장르 ID 목록 (Integer/Long 모두 허용)
+     * @return 장르 비트 OR 값, 장르가 없으면 0
+     */
+    public static long toBits(Collection<? extends Number> genreIds) {
+        if (genreIds == null) {
+            return 0L;
+        }
+        long bits = 0L;
+        for (Number genreId : genreIds) {
+            TmdbGenre genre = genreId != null ? ID_MAP.get(genreId.intValue()) : null;
+            if (genre != null) {
+                bits |= genre.mask();
+            }
+        }
+        return bits;
+    }
 
+    /**
+     * genre_bits 값에 포함된 장르 목록 (bit 순)
+     */
+    public static List<TmdbGenre> fromBits(long bits) {
+        return Arrays.stream(values())
+                .filter(genre -> (bits & genre.mask()) != 0)
+                .toList();
+    }
 
+    /**
+     * 장르 목록을 조회 조건용 마스크로 변환합니다. (모든 장르를 포함해야 일치)
+     */
+    public static long toMask(Collection<TmdbGenre> genres) {
+        if (genres == null) {
+            return 0L;
+        }
+        return genres.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(TmdbGenre::mask)
+                .reduce(0L, (a, b) -> a | b);
+    }
+}
@@ -0,0 +1,9 @@
+package com.geekflex.app.content.event;
+
+import com.geekflex.app.content.entity.TagType;
+
+/**
+ * 카테고리 목록의 새 스냅샷이 공개되었음을 알리는 이벤트
+ */
+public record CategoryRefreshedEvent(TagType tagType, long snapshotId) {
+}
@@ -0,0 +1,12 @@
+package com.geekflex.app.content.event;
+
+import com.geekflex.app.content.entity.Content;
+
+import java.util.Collection;
+
+/**
+ * 콘텐츠가 저장(신규 저장 또는 갱신)되었음을 알리는 이벤트.
+ * 저장 직후 id가 채워진 엔티티를 전달하며, 리스너는 이벤트 처리 중에만 엔티티를 읽는다.
+ */
+public record ContentUpsertedEvent(Collection<Content> contents) {
+}
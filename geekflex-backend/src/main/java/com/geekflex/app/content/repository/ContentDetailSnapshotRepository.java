@@ -0,0 +1,113 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.content.entity.ContentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * content_detail_snapshot 테이블 (TMDB 상세 응답 원본, 압축된 바이트).
+ * 엔티티로 다룰 필요가 없는 BLOB이므로 JDBC로 직접 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentDetailSnapshotRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO content_detail_snapshot (content_type, tmdb_id, language, payload, fetched_at)
+            VALUES (:contentType, :tmdbId, :language, :payload, :fetchedAt)
+            ON DUPLICATE KEY UPDATE
+                payload    = VALUES(payload),
+                fetched_at = VALUES(fetched_at)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT tmdb_id, payload
+            FROM content_detail_snapshot
+            WHERE content_type = :contentType
+              AND language = :language
+              AND tmdb_id IN (:tmdbIds)
+            """;
+
+    private static final String SELECT_ONE_SQL = """
+            SELECT payload, fetched_at
+            FROM content_detail_snapshot
+            WHERE content_type = :contentType
+              AND tmdb_id = :tmdbId
+              AND language = :language
+            """;
+
+    private static final String EXISTS_SQL = """
+            SELECT COUNT(*)
+            FROM content_detail_snapshot
+            WHERE content_type = :contentType
+              AND tmdb_id = :tmdbId
+              AND language = :language
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void upsert(ContentType contentType, Long tmdbId, String language, byte[] payload, LocalDateTime fetchedAt) {
+        jdbcTemplate.update(UPSERT_SQL, new MapSqlParameterSource()
+                .addValue("contentType", contentType.name())
+                .addValue("tmdbId", tmdbId)
+                .addValue("language", language)
+                .addValue("payload", payload)
+                .addValue("fetchedAt", Timestamp.valueOf(fetchedAt)));
+    }
+
+    public boolean exists(ContentType contentType, Long tmdbId, String language) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, new MapSqlParameterSource()
+                .addValue("contentType", contentType.name())
+                .addValue("tmdbId", tmdbId)
+                .addValue("language", language), Integer.class);
+        return count != null && count > 0;
+    }
+
+    public byte[] find(ContentType contentType, Long tmdbId, String language) {
+        return findAll(contentType, List.of(tmdbId), language).get(tmdbId);
+    }
+
+    /**
+     * 저장 시각과 함께 조회 (번역 문자열처럼 스냅샷 자체의 나이로 신선도를 판단하는 경우)
+     * @return 없으면 null
+     */
+    public SnapshotRow findRow(ContentType contentType, Long tmdbId, String language) {
+        List<SnapshotRow> rows = jdbcTemplate.query(SELECT_ONE_SQL, new MapSqlParameterSource()
+                        .addValue("contentType", contentType.name())
+                        .addValue("tmdbId", tmdbId)
+                        .addValue("language", language),
+                (rs, rowNum) -> new SnapshotRow(rs.getBytes("payload"),
+                        rs.getTimestamp("fetched_at").toLocalDateTime()));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * @return tmdbId → 압축된 상세 응답 (없는 tmdbId는 제외)
+     */
+    public Map<Long, byte[]> findAll(ContentType contentType, Collection<Long> tmdbIds, String language) {
+        Map<Long, byte[]> payloads = new HashMap<>();
+        if (tmdbIds.isEmpty()) {
+            return payloads;
+        }
+        jdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource()
+                        .addValue("contentType", contentType.name())
+                        .addValue("language", language)
+                        .addValue("tmdbIds", tmdbIds),
+                rs -> {
+                    payloads.put(rs.getLong("tmdb_id"), rs.getBytes("payload"));
+                });
+        return payloads;
+    }
+
+    public record SnapshotRow(byte[] payload, LocalDateTime fetchedAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.content.entity.TagType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 카테고리 목록 스냅샷 관리.
+ * <p>
+ * 갱신 시 새 snapshot_id로 태그를 모두 저장한 뒤, content_list_current의 포인터 한 건만 바꿔 공개한다.
+ * 조회는 항상 포인터가 가리키는 스냅샷만 읽으므로, 갱신 중에도 비어 있거나 일부만 채워진 목록이 보이지 않는다.
+ */
+public interface ContentListTagRepositoryCustom {
+
+    /**
+     * 새 스냅샷 번호 발급 (아직 공개되지 않음)
+     */
+    long createSnapshot(TagType tagType);
+
+    /**
+     * 카테고리 태그를 한 번의 배치로 INSERT (contentIds 순서 = 카테고리 내 순서)
+     * @return 저장된 건수
+     */
+    int insertAll(TagType tagType, long snapshotId, String region, Collection<Long> contentIds);
+
+    /**
+     * 스냅샷 공개 (포인터 교체). 더 최신 스냅샷이 이미 공개되어 있으면 무시된다.
+     */
+    void publishSnapshot(TagType tagType, long snapshotId);
+
+    /**
+     * 공개된 스냅샷이 있는지 확인
+     */
+    boolean hasPublishedSnapshot(TagType tagType);
+
+    /**
+     * 공개 중이 아니면서 기준 시각 이전에 만들어진 스냅샷 번호 조회 (GC 대상)
+     */
+    List<Long> findStaleSnapshotIds(LocalDateTime createdBefore);
+
+    /**
+     * 스냅샷과 그 태그 삭제
+     * @return 삭제된 태그 수
+     */
+    int deleteSnapshot(long snapshotId);
+
+    /**
+     * 공개된 스냅샷에 포함된 콘텐츠 id 목록 (순서 없음)
+     */
+    List<Long> findCurrentContentIds(TagType tagType);
+}
@@ -0,0 +1,131 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.content.entity.TagType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentListTagRepositoryCustomImpl implements ContentListTagRepositoryCustom {
+
+    private static final String CREATE_SNAPSHOT_SQL = """
+            INSERT INTO content_list_snapshot (tag_type, created_at)
+            VALUES (:tagType, :createdAt)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO content_list_tag (content_id, tag_type, snapshot_id, region, snapshot_at)
+            VALUES (:contentId, :tagType, :snapshotId, :region, :snapshotAt)
+            """;
+
+    // switched_at을 먼저 갱신해야 비교 시점의 snapshot_id가 이전 값이다
+    private static final String PUBLISH_SQL = """
+            INSERT INTO content_list_current (tag_type, snapshot_id, switched_at)
+            VALUES (:tagType, :snapshotId, :switchedAt)
+            ON DUPLICATE KEY UPDATE
+                switched_at = IF(VALUES(snapshot_id) > snapshot_id, VALUES(switched_at), switched_at),
+                snapshot_id = GREATEST(snapshot_id, VALUES(snapshot_id))
+            """;
+
+    private static final String EXISTS_SQL = """
+            SELECT COUNT(*)
+            FROM content_list_current
+            WHERE tag_type = :tagType
+            """;
+
+    private static final String STALE_SNAPSHOTS_SQL = """
+            SELECT s.id
+            FROM content_list_snapshot s
+            LEFT JOIN content_list_current p ON p.snapshot_id = s.id
+            WHERE p.snapshot_id IS NULL
+              AND s.created_at < :createdBefore
+            ORDER BY s.id
+            """;
+
+    private static final String CURRENT_CONTENT_IDS_SQL = """
+            SELECT t.content_id
+            FROM content_list_current p
+            JOIN content_list_tag t ON t.tag_type = p.tag_type AND t.snapshot_id = p.snapshot_id
+            WHERE p.tag_type = :tagType
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public long createSnapshot(TagType tagType) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(CREATE_SNAPSHOT_SQL, new MapSqlParameterSource()
+                        .addValue("tagType", tagType.name())
+                        .addValue("createdAt", Timestamp.valueOf(LocalDateTime.now())),
+                keyHolder, new String[]{"id"});
+        return Objects.requireNonNull(keyHolder.getKey(), "스냅샷 번호 발급 실패").longValue();
+    }
+
+    @Override
+    public int insertAll(TagType tagType, long snapshotId, String region, Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return 0;
+        }
+
+        // uq_content_tag (tag_type, snapshot_id, content_id) 위반 방지
+        Timestamp snapshotAt = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = new LinkedHashSet<>(contentIds).stream()
+                .map(contentId -> new MapSqlParameterSource()
+                        .addValue("contentId", contentId)
+                        .addValue("tagType", tagType.name())
+                        .addValue("snapshotId", snapshotId)
+                        .addValue("region", region)
+                        .addValue("snapshotAt", snapshotAt))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        return batch.length;
+    }
+
+    @Override
+    public void publishSnapshot(TagType tagType, long snapshotId) {
+        jdbcTemplate.update(PUBLISH_SQL, new MapSqlParameterSource()
+                .addValue("tagType", tagType.name())
+                .addValue("snapshotId", snapshotId)
+                .addValue("switchedAt", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    @Override
+    public boolean hasPublishedSnapshot(TagType tagType) {
+        Long count = jdbcTemplate.queryForObject(EXISTS_SQL,
+                new MapSqlParameterSource("tagType", tagType.name()), Long.class);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<Long> findStaleSnapshotIds(LocalDateTime createdBefore) {
+        return jdbcTemplate.queryForList(STALE_SNAPSHOTS_SQL,
+                new MapSqlParameterSource("createdBefore", Timestamp.valueOf(createdBefore)), Long.class);
+    }
+
+    @Override
+    public List<Long> findCurrentContentIds(TagType tagType) {
+        return jdbcTemplate.queryForList(CURRENT_CONTENT_IDS_SQL,
+                new MapSqlParameterSource("tagType", tagType.name()), Long.class);
+    }
+
+    @Override
+    public int deleteSnapshot(long snapshotId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("snapshotId", snapshotId);
+        int deleted = jdbcTemplate.update("DELETE FROM content_list_tag WHERE snapshot_id = :snapshotId", params);
+        jdbcTemplate.update("DELETE FROM content_list_snapshot WHERE id = :snapshotId", params);
+        return deleted;
+    }
+}
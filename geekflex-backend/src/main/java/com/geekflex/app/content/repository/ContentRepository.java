@@ -2,45 +2,57 @@ package com.geekflex.app.content.repository;
 
 import com.geekflex.app.content.entity.Content;
 import com.geekflex.app.content.entity.ContentType;
-import com.geekflex.app.content.entity.TagType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 
-public interface ContentRepository extends JpaRepository<Content, Long> {
+public interface ContentRepository extends JpaRepository<Content, Long>, ContentRepositoryCustom {
 
     Optional<Content> findByTmdbId(Long tmdbId);
 
     /** TMDB ID + 콘텐츠 타입으로 조회 (중복 저장 방지) */
     Optional<Content> findByTmdbIdAndContentType(Long tmdbId, ContentType contentType);
 
-    /** 저장된 콘텐츠 중 무작위로 1건 조회 */
-    @Query(value = "SELECT * FROM contents ORDER BY RAND() LIMIT 1", nativeQuery = true)
-    Optional<Content> findRandom();
-
-    /** 저장된 콘텐츠 중 무작위로 4건 조회 */
-    @Query(value = "SELECT * FROM contents ORDER BY RAND() LIMIT 4", nativeQuery = true)
-    List<Content> findRandomSuggestions();
-
-    /** tagType으로 필터링된 콘텐츠 목록 조회 (최신순 정렬) */
-    @Query("""
-            SELECT c
-            FROM Content c
-            JOIN ContentListTag t ON c.id = t.content.id
-            WHERE t.tagType = :tagType
-            ORDER BY c.releaseDate DESC
-            """)
-    List<Content> findByTagType(@Param("tagType") TagType tagType);
+    /** 저장된 콘텐츠의 tmdbId만 골라냄 (TMDB 변경 목록과의 교집합) */
+    @Query("select c.tmdbId from Content c where c.contentType = :contentType and c.tmdbId in :tmdbIds")
+    List<Long> findStoredTmdbIds(@Param("contentType") ContentType contentType,
+                                 @Param("tmdbIds") Collection<Long> tmdbIds);
+
+    List<Content> findByContentTypeAndTmdbIdIn(ContentType contentType, Collection<Long> tmdbIds);
+
+    /** 인기도 상위 tmdbId (상세 캐시 예열용) */
+    @Query("select c.tmdbId from Content c where c.contentType = :contentType and c.popularity is not null"
+            + " order by c.popularity desc")
+    List<Long> findTopTmdbIdsByPopularity(@Param("contentType") ContentType contentType, Limit limit);
+
+    /** id 순 일괄 조회 (검색 색인 재구성용) */
+    List<Content> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * tagType 콘텐츠 목록 keyset 페이지 조회 (개봉일 DESC, id DESC)
+     * 커서 위치 이후의 콘텐츠를 limit건 조회한다. 개봉일이 없으면 '1000-01-01'로 취급한다.
+     * 현재 공개된 스냅샷(content_list_current)의 태그만 읽는다.
+     */
+    @Query(value = """
+            SELECT c.*
+            FROM content_list_current p
+            JOIN content_list_tag t ON t.tag_type = p.tag_type AND t.snapshot_id = p.snapshot_id
+            JOIN contents c ON c.id = t.content_id
+            WHERE p.tag_type = :tagType
+              AND (COALESCE(c.release_date, '1000-01-01') < :cursorDate
+                   OR (COALESCE(c.release_date, '1000-01-01') = :cursorDate AND c.id < :cursorId))
+            ORDER BY COALESCE(c.release_date, '1000-01-01') DESC, c.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Content> findPageByTagType(@Param("tagType") String tagType,
+                                    @Param("cursorDate") LocalDate cursorDate,
+                                    @Param("cursorId") long cursorId,
+                                    @Param("limit") int limit);
 }
-
-
-
-
-
-
-
-
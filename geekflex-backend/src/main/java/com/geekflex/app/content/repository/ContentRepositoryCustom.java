@@ -0,0 +1,75 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+public interface ContentRepositoryCustom {
+
+    /**
+     * 콘텐츠 목록을 한 번의 배치로 INSERT ... ON DUPLICATE KEY UPDATE (uq_contents_tmdb 기준)
+     * @return tmdbId → contents.id
+     */
+    Map<Long, Long> upsertAll(ContentType contentType, Collection<Content> contents);
+
+    /**
+     * 전체 콘텐츠의 (타입, id)를 엔티티를 만들지 않고 차례로 전달 (무작위 추출용 id 목록 적재)
+     */
+    void forEachId(ObjLongConsumer<ContentType> consumer);
+
+    /**
+     * 동기화 시각이 [from, syncedAt) 구간인 콘텐츠의 동기화 시각을 syncedAt으로 일괄 연장
+     * (TMDB 변경 목록으로 변경 없음이 확인된 콘텐츠, excludedTmdbIds는 제외)
+     * @return 연장된 건수
+     */
+    int extendLastSyncedAt(ContentType contentType, LocalDateTime from, LocalDateTime syncedAt,
+                           Collection<Long> excludedTmdbIds);
+
+    /**
+     * 지정한 콘텐츠들의 동기화 시각을 syncedAt으로 일괄 갱신 (이미 더 최신이면 유지)
+     * (TMDB 응답이 저장된 값과 같아 UPDATE를 생략한 콘텐츠, ContentSyncTimestampBuffer에서 모아서 호출)
+     * @return 갱신된 건수
+     */
+    int touchLastSyncedAt(Collection<Long> ids, LocalDateTime syncedAt);
+
+    /**
+     * 콘텐츠의 content_genre 행을 현재 genre_bits와 정렬 값(인기도/개봉일/원어)으로 교체 (id가 있는 콘텐츠만)
+     */
+    void replaceGenres(Collection<Content> contents);
+
+    /**
+     * 장르 둘러보기 keyset 페이지의 콘텐츠 id (인기도 DESC, id DESC, 인기도가 없는 콘텐츠는 제외)
+     * <p>
+     * 장르/언어 조건 유무마다 그 조합의 인덱스를 타는 쿼리를 따로 만든다.
+     * - 장르 없음: contents의 (content_type[, original_language], popularity, id) 인덱스
+     * - 장르 있음: content_genre의 (genre_id, content_type[, original_language], popularity, id) 인덱스를
+     *   첫 장르로 읽고, 장르가 여럿이면 나머지 장르는 contents.genre_bits로 거른다.
+     * 인덱스 순서대로 읽다가 limit건을 채우면 멈추지만, 두 번째 이후 장르에 맞는 콘텐츠가 드물면
+     * 그만큼 더 많은 행을 읽는다.
+     *
+     * @param genreMask 모두 가져야 하는 장르 (0이면 장르 조건 없음)
+     * @param language  원어 (null이면 조건 없음)
+     */
+    List<Long> findBrowsePageIdsByPopularity(ContentType contentType, long genreMask, String language,
+                                             BigDecimal cursorPopularity, long cursorId, int limit);
+
+    /**
+     * 장르 둘러보기 keyset 페이지의 콘텐츠 id (개봉일 DESC, id DESC, 개봉일이 없는 콘텐츠는 제외)
+     * 조건과 인덱스 선택은 {@link #findBrowsePageIdsByPopularity}와 같다.
+     */
+    List<Long> findBrowsePageIdsByReleaseDate(ContentType contentType, long genreMask, String language,
+                                              LocalDate cursorDate, long cursorId, int limit);
+
+    /**
+     * genre_bits가 0인 콘텐츠의 genre_bits 일괄 설정 (장르 비트 도입 전 행 보정용)
+     * @return 갱신된 건수
+     */
+    int updateEmptyGenreBits(Map<Long, Long> genreBitsById);
+}
@@ -0,0 +1,306 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TmdbGenre;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentRepositoryCustomImpl implements ContentRepositoryCustom {
+
+    // 목록 API에 없는 필드(origin_country, end_date)와 동기화 시각은 기존 값을 유지
+    // 목록 값으로 바뀐 행은 상세 해시와 맞지 않을 수 있으므로 payload_hash를 비워 다음 상세 갱신에서 비교하게 한다
+    private static final String UPSERT_SQL = """
+            INSERT INTO contents (tmdb_id, content_type, title, original_title, title_normalized,
+                                  original_title_normalized, title_bigrams, original_language, overview,
+                                  release_date, poster_url, backdrop_url, popularity, vote_average, vote_count,
+                                  genre, genre_bits, origin_country, created_at)
+            VALUES (:tmdbId, :contentType, :title, :originalTitle, :titleNormalized,
+                    :originalTitleNormalized, :titleBigrams, :originalLanguage, :overview,
+                    :releaseDate, :posterUrl, :backdropUrl, :popularity, :voteAverage, :voteCount,
+                    :genre, :genreBits, :originCountry, :createdAt)
+            ON DUPLICATE KEY UPDATE
+                title             = VALUES(title),
+                original_title    = VALUES(original_title),
+                title_normalized  = VALUES(title_normalized),
+                original_title_normalized = VALUES(original_title_normalized),
+                title_bigrams     = VALUES(title_bigrams),
+                original_language = VALUES(original_language),
+                overview          = VALUES(overview),
+                release_date      = VALUES(release_date),
+                poster_url        = VALUES(poster_url),
+                backdrop_url      = VALUES(backdrop_url),
+                popularity        = VALUES(popularity),
+                vote_average      = VALUES(vote_average),
+                vote_count        = VALUES(vote_count),
+                genre             = VALUES(genre),
+                genre_bits        = VALUES(genre_bits),
+                payload_hash      = NULL
+            """;
+
+    private static final String SELECT_IDS_SQL = """
+            SELECT id, tmdb_id
+            FROM contents
+            WHERE content_type = :contentType
+              AND tmdb_id IN (:tmdbIds)
+            """;
+
+    private static final String SELECT_ALL_IDS_SQL = """
+            SELECT id, content_type
+            FROM contents
+            """;
+
+    private static final String EXTEND_SYNCED_AT_SQL = """
+            UPDATE contents
+            SET last_synced_at = :syncedAt
+            WHERE content_type = :contentType
+              AND last_synced_at >= :from
+              AND last_synced_at < :syncedAt
+            """;
+
+    private static final String TOUCH_SYNCED_AT_SQL = """
+            UPDATE contents
+            SET last_synced_at = :syncedAt
+            WHERE id IN (:ids)
+              AND (last_synced_at IS NULL OR last_synced_at < :syncedAt)
+            """;
+
+    private static final String UPDATE_EMPTY_GENRE_BITS_SQL = """
+            UPDATE contents
+            SET genre_bits = :genreBits
+            WHERE id = :id
+              AND genre_bits = 0
+            """;
+
+    private static final String DELETE_GENRES_SQL = """
+            DELETE FROM content_genre
+            WHERE id IN (:ids)
+            """;
+
+    private static final String INSERT_GENRE_SQL = """
+            INSERT INTO content_genre (genre_id, content_type, original_language, popularity, release_date, id)
+            VALUES (:genreId, :contentType, :originalLanguage, :popularity, :releaseDate, :id)
+            """;
+
+    // %1$s: 읽을 테이블 (contents 또는 content_genre, 별칭 s), %2$s: 추가 조건, %3$s: 정렬 컬럼
+    private static final String BROWSE_SQL = """
+            SELECT s.id
+            FROM %1$s
+            WHERE s.content_type = :contentType%2$s
+              AND (s.%3$s < :cursorValue
+                   OR (s.%3$s = :cursorValue AND s.id < :cursorId))
+            ORDER BY s.%3$s DESC, s.id DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<Long, Long> upsertAll(ContentType contentType, Collection<Content> contents) {
+        if (contents.isEmpty()) {
+            return Map.of();
+        }
+
+        // 동시 갱신 간 락 획득 순서를 고정해 데드락을 피한다
+        List<Content> sorted = contents.stream()
+                .sorted(Comparator.comparing(Content::getTmdbId))
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = sorted.stream()
+                .map(content -> toParameters(contentType, content, now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+
+        MapSqlParameterSource idParams = new MapSqlParameterSource()
+                .addValue("contentType", contentType.name())
+                .addValue("tmdbIds", sorted.stream().map(Content::getTmdbId).toList());
+
+        Map<Long, Long> idsByTmdbId = new HashMap<>();
+        jdbcTemplate.query(SELECT_IDS_SQL, idParams, (RowCallbackHandler) rs ->
+                idsByTmdbId.put(rs.getLong("tmdb_id"), rs.getLong("id")));
+
+        // 같은 트랜잭션에서 장르 둘러보기 행도 교체
+        Map<Long, Content> contentsById = new HashMap<>();
+        sorted.forEach(content -> {
+            Long id = idsByTmdbId.get(content.getTmdbId());
+            if (id != null) {
+                contentsById.put(id, content);
+            }
+        });
+        replaceGenres(contentType, contentsById);
+        return idsByTmdbId;
+    }
+
+    @Override
+    public void replaceGenres(Collection<Content> contents) {
+        Map<ContentType, Map<Long, Content>> byType = new HashMap<>();
+        contents.stream()
+                .filter(content -> content.getId() != null && content.getContentType() != null)
+                .forEach(content -> byType.computeIfAbsent(content.getContentType(), type -> new HashMap<>())
+                        .put(content.getId(), content));
+        byType.forEach(this::replaceGenres);
+    }
+
+    @Override
+    public int updateEmptyGenreBits(Map<Long, Long> genreBitsById) {
+        if (genreBitsById.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = genreBitsById.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("genreBits", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        return Arrays.stream(jdbcTemplate.batchUpdate(UPDATE_EMPTY_GENRE_BITS_SQL, batch)).sum();
+    }
+
+    @Override
+    public List<Long> findBrowsePageIdsByPopularity(ContentType contentType, long genreMask, String language,
+                                                    BigDecimal cursorPopularity, long cursorId, int limit) {
+        return findBrowsePageIds(contentType, genreMask, language, "popularity", cursorPopularity, cursorId, limit);
+    }
+
+    @Override
+    public List<Long> findBrowsePageIdsByReleaseDate(ContentType contentType, long genreMask, String language,
+                                                     LocalDate cursorDate, long cursorId, int limit) {
+        return findBrowsePageIds(contentType, genreMask, language, "release_date", Date.valueOf(cursorDate),
+                cursorId, limit);
+    }
+
+    /**
+     * 조건마다 "(:x IS NULL OR ...)" 없이 필요한 조건만 넣어, 각 조합이 자기 인덱스를 타도록 한다.
+     */
+    private List<Long> findBrowsePageIds(ContentType contentType, long genreMask, String language,
+                                         String sortColumn, Object cursorValue, long cursorId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("contentType", contentType.name())
+                .addValue("cursorValue", cursorValue)
+                .addValue("cursorId", cursorId)
+                .addValue("limit", limit);
+
+        List<TmdbGenre> genres = TmdbGenre.fromBits(genreMask);
+        String source;
+        StringBuilder conditions = new StringBuilder();
+        if (genres.isEmpty()) {
+            source = "contents s";
+        } else {
+            params.addValue("genreId", genres.getFirst().getId());
+            conditions.append("\n  AND s.genre_id = :genreId");
+            if (genres.size() == 1) {
+                source = "content_genre s";
+            } else {
+                source = "content_genre s JOIN contents c ON c.id = s.id";
+                params.addValue("genreMask", genreMask);
+                conditions.append("\n  AND (c.genre_bits & :genreMask) = :genreMask");
+            }
+        }
+        if (language != null) {
+            params.addValue("language", language);
+            conditions.append("\n  AND s.original_language = :language");
+        }
+
+        String sql = BROWSE_SQL.formatted(source, conditions, sortColumn);
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    private void replaceGenres(ContentType contentType, Map<Long, Content> contentsById) {
+        if (contentsById.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_GENRES_SQL, new MapSqlParameterSource("ids", contentsById.keySet()));
+
+        List<SqlParameterSource> rows = new ArrayList<>();
+        contentsById.forEach((id, content) -> {
+            for (TmdbGenre genre : TmdbGenre.fromBits(content.getGenreBits())) {
+                rows.add(new MapSqlParameterSource()
+                        .addValue("genreId", genre.getId())
+                        .addValue("contentType", contentType.name())
+                        .addValue("originalLanguage", content.getOriginalLanguage())
+                        .addValue("popularity", content.getPopularity())
+                        .addValue("releaseDate", content.getReleaseDate() != null
+                                ? Date.valueOf(content.getReleaseDate()) : null)
+                        .addValue("id", id));
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_GENRE_SQL, rows.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    @Override
+    public void forEachId(ObjLongConsumer<ContentType> consumer) {
+        jdbcTemplate.query(SELECT_ALL_IDS_SQL, (RowCallbackHandler) rs ->
+                consumer.accept(ContentType.valueOf(rs.getString("content_type")), rs.getLong("id")));
+    }
+
+    @Override
+    public int extendLastSyncedAt(ContentType contentType, LocalDateTime from, LocalDateTime syncedAt,
+                                  Collection<Long> excludedTmdbIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("contentType", contentType.name())
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("syncedAt", Timestamp.valueOf(syncedAt));
+        if (excludedTmdbIds.isEmpty()) {
+            return jdbcTemplate.update(EXTEND_SYNCED_AT_SQL, params);
+        }
+        params.addValue("excluded", excludedTmdbIds);
+        return jdbcTemplate.update(EXTEND_SYNCED_AT_SQL + "  AND tmdb_id NOT IN (:excluded)", params);
+    }
+
+    @Override
+    public int touchLastSyncedAt(Collection<Long> ids, LocalDateTime syncedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("syncedAt", Timestamp.valueOf(syncedAt));
+        return jdbcTemplate.update(TOUCH_SYNCED_AT_SQL, params);
+    }
+
+    private SqlParameterSource toParameters(ContentType contentType, Content content, LocalDateTime now) {
+        content.updateSearchColumns();
+        return new MapSqlParameterSource()
+                .addValue("tmdbId", content.getTmdbId())
+                .addValue("contentType", contentType.name())
+                .addValue("title", content.getTitle())
+                .addValue("originalTitle", content.getOriginalTitle())
+                .addValue("titleNormalized", content.getTitleNormalized())
+                .addValue("originalTitleNormalized", content.getOriginalTitleNormalized())
+                .addValue("titleBigrams", content.getTitleBigrams())
+                .addValue("originalLanguage", content.getOriginalLanguage())
+                .addValue("overview", content.getOverview())
+                .addValue("releaseDate", content.getReleaseDate() != null ? Date.valueOf(content.getReleaseDate()) : null)
+                .addValue("posterUrl", content.getPosterUrl())
+                .addValue("backdropUrl", content.getBackdropUrl())
+                .addValue("popularity", content.getPopularity())
+                .addValue("voteAverage", content.getVoteAverage())
+                .addValue("voteCount", content.getVoteCount())
+                .addValue("genre", content.getGenre())
+                .addValue("genreBits", content.getGenreBits())
+                .addValue("originCountry", content.getOriginCountry())
+                .addValue("createdAt", Timestamp.valueOf(now));
+    }
+}
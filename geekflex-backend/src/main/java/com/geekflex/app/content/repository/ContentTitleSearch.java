@@ -0,0 +1,71 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.common.util.BigramTokenizer;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.QContent;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+/**
+ * 영화/드라마 제목 검색 조건과 정렬 ({@link MovieSearchRepositoryImpl}, {@link TvSearchRepositoryImpl} 공용)
+ * <p>
+ * - 두 글자 이상: title_bigrams FULLTEXT 색인으로 검색어 bigram을 모두 가진 후보만 찾은 뒤,
+ * 정규화 컬럼 LIKE로 실제 포함 여부를 확인한다. (정확 일치/시작도 포함에 속하므로 함께 찾아짐)
+ * - 한 글자 (bigram 없음): (content_type, title_normalized) B-tree 색인으로 정확 일치/시작만 찾는다.
+ */
+final class ContentTitleSearch {
+
+    private static final QContent content = QContent.content;
+
+    private final String keyword;
+
+    private ContentTitleSearch(String keyword) {
+        this.keyword = keyword;
+    }
+
+    static ContentTitleSearch of(String keyword) {
+        return new ContentTitleSearch(Content.normalizeForSearch(keyword));
+    }
+
+    /**
+     * 정규화 후 남는 글자가 없는 검색어 (기호/공백만 입력)
+     */
+    boolean isEmpty() {
+        return keyword.isEmpty();
+    }
+
+    BooleanExpression predicate(ContentType contentType) {
+        BooleanExpression byType = content.contentType.eq(contentType);
+        if (keyword.codePointCount(0, keyword.length()) < 2) {
+            return byType.and(content.titleNormalized.startsWith(keyword)
+                    .or(content.originalTitleNormalized.startsWith(keyword)));
+        }
+
+        NumberExpression<Double> relevance = Expressions.numberTemplate(Double.class,
+                "function('match_against', {0}, {1})", content.titleBigrams, BigramTokenizer.booleanQuery(keyword));
+        return byType
+                .and(relevance.gt(0))
+                .and(content.titleNormalized.contains(keyword)
+                        .or(content.originalTitleNormalized.contains(keyword)));
+    }
+
+    /**
+     * 우선순위 점수:
+     * 정확 일치 (제목) → 5, 정확 일치 (원제목) → 4
+     * 시작 (제목) → 3, 시작 (원제목) → 2
+     * 포함 (제목) → 1, 포함 (원제목) → 0
+     */
+    NumberExpression<Integer> matchPriority() {
+        return new CaseBuilder()
+                .when(content.titleNormalized.eq(keyword)).then(5)
+                .when(content.originalTitleNormalized.eq(keyword)).then(4)
+                .when(content.titleNormalized.startsWith(keyword)).then(3)
+                .when(content.originalTitleNormalized.startsWith(keyword)).then(2)
+                .when(content.titleNormalized.contains(keyword)).then(1)
+                .when(content.originalTitleNormalized.contains(keyword)).then(0)
+                .otherwise(-1);
+    }
+}
@@ -1,7 +1,7 @@
 package com.geekflex.app.content.repository;
 import com.geekflex.app.content.dto.movie.MovieSearchResponse;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * 영화 검색 관련 인터페이스
@@ -13,9 +13,9 @@ public interface MovieSearchRepositoryCustom {
      *
      * @param keyword  검색어 (영화 제목)
      * @param pageable 페이지 정보
-     * @return {@link Page<MovieSearchResponse>}
+     * @return {@link Slice<MovieSearchResponse>} (전체 건수 없이 다음 페이지 여부만 포함)
      */
-    Page<MovieSearchResponse> searchByKeyword(String keyword, Pageable pageable);
+    Slice<MovieSearchResponse> searchByKeyword(String keyword, Pageable pageable);
 }
 
 
@@ -0,0 +1,19 @@
+package com.geekflex.app.content.repository;
+import com.geekflex.app.content.dto.tv.TvSearchResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 드라마 검색 관련 인터페이스
+ */
+public interface TvSearchRepositoryCustom {
+
+    /**
+     * 제목으로 드라마 검색 (정확 일치 -> 부분 일치 순으로 정렬)
+     *
+     * @param keyword  검색어 (드라마 제목)
+     * @param pageable 페이지 정보
+     * @return {@link Slice<TvSearchResponse>} (전체 건수 없이 다음 페이지 여부만 포함)
+     */
+    Slice<TvSearchResponse> searchByKeyword(String keyword, Pageable pageable);
+}
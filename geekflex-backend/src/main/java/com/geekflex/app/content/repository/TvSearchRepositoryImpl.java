@@ -0,0 +1,62 @@
+package com.geekflex.app.content.repository;
+import com.geekflex.app.content.dto.tv.TvSearchResponse;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.QContent;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TvSearchRepositoryImpl implements TvSearchRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<TvSearchResponse> searchByKeyword(String keyword, Pageable pageable) {
+        QContent content = QContent.content;
+
+        ContentTitleSearch search = ContentTitleSearch.of(keyword);
+        if (search.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        // 전체 건수(count) 대신 한 건 더 조회해서 다음 페이지 여부만 판단
+        List<TvSearchResponse> contentList = queryFactory
+                .select(Projections.constructor(TvSearchResponse.class,
+                        content.id,
+                        content.tmdbId,
+                        content.title,
+                        content.originalTitle,
+                        content.overview,
+                        content.releaseDate,
+                        content.posterUrl,
+                        content.backdropUrl,
+                        content.popularity,
+                        content.voteAverage,
+                        content.voteCount
+                ))
+                .from(content)
+                .where(search.predicate(ContentType.TV))
+                .orderBy(
+                        search.matchPriority().desc(), // 먼저 우선순위 높은 것 (정확 일치 -> 부분 일치)
+                        content.popularity.desc()      // 그 다음 인기도 높은 순
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = contentList.size() > pageable.getPageSize();
+        if (hasNext) {
+            contentList = contentList.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(contentList, pageable, hasNext);
+    }
+
+}
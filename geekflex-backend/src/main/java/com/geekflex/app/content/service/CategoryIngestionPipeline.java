@@ -0,0 +1,273 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.common.exception.TmdbApiException;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * TMDB 카테고리 수집 파이프라인: fetch → transform → write.
+ * <p>
+ * - fetch: TMDB 페이지 응답 스트림 (DB 커넥션 없이 수행)
+ * - transform: 응답을 Content로 변환 (전용 스레드)
+ * - write: 배치 단위로 짧은 트랜잭션에서 bulk upsert (호출 스레드), 저장 후 {@link ContentUpsertedEvent} 발행
+ * <p>
+ * 단계 사이는 크기가 제한된 큐로 연결되어, 뒤 단계가 밀리면 앞 단계가 대기한다.
+ * 단계별 처리 시간(tmdb.ingest.stage)과 큐 적재량(tmdb.ingest.queue.depth)을 기록한다.
+ */
+@Component
+@Log4j2
+public class CategoryIngestionPipeline {
+
+    private final ContentRepository contentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TmdbCategoryProperties tmdbCategoryProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 실행 중인 수집 작업들의 단계별 큐 (게이지 집계용)
+    private final Set<BlockingQueue<?>> transformQueues = ConcurrentHashMap.newKeySet();
+    private final Set<BlockingQueue<?>> writeQueues = ConcurrentHashMap.newKeySet();
+
+    private final Timer fetchTimer;
+    private final Timer transformTimer;
+    private final Timer writeTimer;
+
+    public CategoryIngestionPipeline(ContentRepository contentRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     TmdbCategoryProperties tmdbCategoryProperties,
+                                     ApplicationEventPublisher eventPublisher,
+                                     MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.tmdbCategoryProperties = tmdbCategoryProperties;
+        this.eventPublisher = eventPublisher;
+
+        this.fetchTimer = stageTimer(meterRegistry, "fetch");
+        this.transformTimer = stageTimer(meterRegistry, "transform");
+        this.writeTimer = stageTimer(meterRegistry, "write");
+        queueGauge(meterRegistry, "transform", transformQueues);
+        queueGauge(meterRegistry, "write", writeQueues);
+    }
+
+    /**
+     * TMDB 페이지 요청에 fetch 단계 처리 시간을 기록한다.
+     */
+    public <R> Mono<R> timedFetch(Mono<R> request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return request.doFinally(signal -> sample.stop(fetchTimer));
+        });
+    }
+
+    /**
+     * 페이지 스트림을 수집하여 콘텐츠를 저장한다.
+     * @return 카테고리 순서를 유지한 tmdbId → contents.id (중복 제거됨, 수집된 페이지가 없으면 빈 Map)
+     */
+    public <R> Map<Long, Long> run(TagType tagType, ContentType contentType,
+                                   Flux<R> pages, Function<R, List<Content>> transform) {
+        int capacity = tmdbCategoryProperties.getStageQueueCapacity();
+        BlockingQueue<StageItem<R>> transformQueue = new ArrayBlockingQueue<>(capacity);
+        BlockingQueue<StageItem<List<Content>>> writeQueue = new ArrayBlockingQueue<>(capacity);
+        transformQueues.add(transformQueue);
+        writeQueues.add(writeQueue);
+
+        // fetch: 응답 수신 스레드(event loop)를 막지 않도록 boundedElastic에서 큐에 적재
+        Disposable fetch = pages
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .subscribe(
+                        page -> put(transformQueue, StageItem.of(page)),
+                        error -> put(transformQueue, StageItem.failed(error)),
+                        () -> put(transformQueue, StageItem.end()));
+
+        Thread transformer = Thread.ofVirtual()
+                .name("tmdb-ingest-transform-" + tagType)
+                .start(() -> transformLoop(transformQueue, writeQueue, transform));
+
+        try {
+            return writeLoop(tagType, contentType, writeQueue);
+        } finally {
+            // 실패로 중단된 경우 큐 적재 대기 중인 앞 단계를 풀어준다
+            fetch.dispose();
+            transformer.interrupt();
+            transformQueue.clear();
+            writeQueue.clear();
+            transformQueues.remove(transformQueue);
+            writeQueues.remove(writeQueue);
+        }
+    }
+
+    private <R> void transformLoop(BlockingQueue<StageItem<R>> transformQueue,
+                                   BlockingQueue<StageItem<List<Content>>> writeQueue,
+                                   Function<R, List<Content>> transform) {
+        try {
+            while (true) {
+                StageItem<R> item = transformQueue.take();
+                if (item.isEnd() || item.error() != null) {
+                    writeQueue.put(StageItem.forward(item));
+                    return;
+                }
+
+                try {
+                    List<Content> contents = transformTimer.record(() -> transform.apply(item.value()));
+                    writeQueue.put(StageItem.of(contents));
+                } catch (RuntimeException e) {
+                    writeQueue.put(StageItem.failed(e));
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // write 단계가 종료되어 더 이상 전달할 곳이 없음
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<Long, Long> writeLoop(TagType tagType, ContentType contentType,
+                                      BlockingQueue<StageItem<List<Content>>> writeQueue) {
+        Map<Long, Long> contentIds = new LinkedHashMap<>();
+        List<Content> batch = new ArrayList<>();
+
+        while (true) {
+            StageItem<List<Content>> item = take(writeQueue);
+            if (item.error() != null) {
+                throw item.error() instanceof RuntimeException runtime
+                        ? runtime
+                        : new TmdbApiException("[" + tagType + "] 카테고리 수집 실패", item.error());
+            }
+            if (item.isEnd()) {
+                break;
+            }
+
+            batch.addAll(item.value());
+            if (batch.size() >= tmdbCategoryProperties.getWriteBatchSize()) {
+                writeBatch(tagType, contentType, batch, contentIds);
+                batch.clear();
+            }
+        }
+
+        writeBatch(tagType, contentType, batch, contentIds);
+        return contentIds;
+    }
+
+    /**
+     * 배치 하나를 짧은 트랜잭션으로 bulk upsert.
+     * 카테고리 내 순서를 유지하면서 중복 제거 (페이지 경계에서 순위가 바뀌면 같은 작품이 두 번 올 수 있음)
+     */
+    private void writeBatch(TagType tagType, ContentType contentType, List<Content> batch, Map<Long, Long> contentIds) {
+        Map<Long, Content> unique = new LinkedHashMap<>();
+        for (Content content : batch) {
+            if (contentIds.containsKey(content.getTmdbId()) || unique.putIfAbsent(content.getTmdbId(), content) != null) {
+                log.warn("[{}] 중복된 콘텐츠 건너뛰기: tmdbId={}", tagType, content.getTmdbId());
+            }
+        }
+        if (unique.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> saved = writeTimer.record(() ->
+                transactionTemplate.execute(status -> contentRepository.upsertAll(contentType, unique.values())));
+
+        List<Content> upserted = new ArrayList<>(unique.size());
+        unique.forEach((tmdbId, content) -> {
+            Long contentId = saved != null ? saved.get(tmdbId) : null;
+            if (contentId != null) {
+                contentIds.put(tmdbId, contentId);
+                content.setId(contentId);
+                upserted.add(content);
+            }
+        });
+        eventPublisher.publishEvent(new ContentUpsertedEvent(upserted));
+    }
+
+    /**
+     * 큐에 적재. 공유 스레드(boundedElastic)에 이전 작업의 인터럽트가 남아 있어도 항목을 버리지 않도록,
+     * 적재에 성공할 때까지 다시 시도한 뒤 인터럽트 상태를 복원한다.
+     * (실패/종료 항목이 버려지면 write 단계가 영원히 대기함. 중단 시에는 run()이 큐를 비우므로 적재가 끝난다)
+     */
+    private static <T> void put(BlockingQueue<T> queue, T item) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(item);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static <T> T take(BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TmdbApiException("카테고리 수집 중 인터럽트 발생", e);
+        }
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("tmdb.ingest.stage")
+                .description("TMDB 카테고리 수집 단계별 처리 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static void queueGauge(MeterRegistry meterRegistry, String stage, Set<BlockingQueue<?>> queues) {
+        Gauge.builder("tmdb.ingest.queue.depth", queues,
+                        active -> active.stream().mapToInt(BlockingQueue::size).sum())
+                .description("TMDB 카테고리 수집 단계별 대기 중인 항목 수")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단계 사이에 전달되는 항목 (값 / 실패 / 종료)
+     */
+    private record StageItem<T>(T value, Throwable error, boolean isEnd) {
+
+        static <T> StageItem<T> of(T value) {
+            return new StageItem<>(value, null, false);
+        }
+
+        static <T> StageItem<T> failed(Throwable error) {
+            return new StageItem<>(null, error, false);
+        }
+
+        static <T> StageItem<T> end() {
+            return new StageItem<>(null, null, true);
+        }
+
+        static <T> StageItem<T> forward(StageItem<?> item) {
+            return new StageItem<>(null, item.error(), item.isEnd());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.geekflex.app.content.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geekflex.app.content.dto.CategoryListPayload;
+import com.geekflex.app.content.dto.ContentCursor;
+import com.geekflex.app.content.dto.ContentResponse;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.event.CategoryRefreshedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리(TagType) 목록 인메모리 캐시.
+ * <p>
+ * 목록은 스케줄러가 갱신할 때만 바뀌므로, 최대 크기(max-page-size)만큼의 불변 목록을 보관하고
+ * 요청 크기별 JSON 바이트와 ETag를 미리 만들어 둔다. (기본 크기는 적재 시점에 직렬화)
+ * 같은 인스턴스의 갱신은 {@link CategoryRefreshedEvent}로 즉시 다시 적재하고,
+ * 다른 인스턴스의 갱신은 list-cache-refresh 주기로 반영된다.
+ */
+@Component
+@Log4j2
+public class CategoryListCache {
+
+    public static final int DEFAULT_SIZE = 20;
+
+    private final ContentRepository contentRepository;
+    private final ObjectMapper objectMapper;
+    private final TmdbCategoryProperties tmdbCategoryProperties;
+    private final LoadingCache<TagType, CategoryList> cache;
+
+    public CategoryListCache(ContentRepository contentRepository,
+                             ObjectMapper objectMapper,
+                             TmdbCategoryProperties tmdbCategoryProperties) {
+        this.contentRepository = contentRepository;
+        this.objectMapper = objectMapper;
+        this.tmdbCategoryProperties = tmdbCategoryProperties;
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(tmdbCategoryProperties.getListCacheRefresh())
+                .build(this::load);
+    }
+
+    /**
+     * 카테고리 목록 앞에서부터 최대 size건
+     */
+    public List<ContentResponse> getItems(TagType tagType, int size) {
+        List<ContentResponse> items = cache.get(tagType).items();
+        return items.subList(0, Math.min(clampSize(size), items.size()));
+    }
+
+    /**
+     * 카테고리 목록 앞에서부터 최대 size건의 직렬화된 응답
+     */
+    public CategoryListPayload getPayload(TagType tagType, int size) {
+        return payload(cache.get(tagType), clampSize(size));
+    }
+
+    @EventListener
+    public void onCategoryRefreshed(CategoryRefreshedEvent event) {
+        cache.put(event.tagType(), load(event.tagType()));
+        log.info("[{}] 카테고리 목록 캐시 재적재 (snapshot={})", event.tagType(), event.snapshotId());
+    }
+
+    private CategoryList load(TagType tagType) {
+        ContentCursor first = ContentCursor.FIRST;
+        List<ContentResponse> items = contentRepository.findPageByTagType(
+                        tagType.name(), first.releaseDate(), first.id(), tmdbCategoryProperties.getMaxPageSize())
+                .stream()
+                .map(ContentResponse::from)
+                .toList();
+
+        CategoryList list = new CategoryList(items, new ConcurrentHashMap<>());
+        payload(list, clampSize(DEFAULT_SIZE));
+        return list;
+    }
+
+    private int clampSize(int size) {
+        return Math.clamp(size, 1, tmdbCategoryProperties.getMaxPageSize());
+    }
+
+    private CategoryListPayload payload(CategoryList list, int size) {
+        int effectiveSize = Math.min(size, list.items().size());
+        return list.payloads().computeIfAbsent(effectiveSize, count -> serialize(list.items().subList(0, count)));
+    }
+
+    private CategoryListPayload serialize(List<ContentResponse> items) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(items);
+            return new CategoryListPayload(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 목록 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 불변 목록 + 크기별 직렬화 결과 (목록이 다시 적재되면 함께 교체됨)
+     */
+    private record CategoryList(List<ContentResponse> items, Map<Integer, CategoryListPayload> payloads) {
+    }
+}
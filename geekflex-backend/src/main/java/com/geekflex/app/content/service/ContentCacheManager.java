@@ -1,22 +1,27 @@
 package com.geekflex.app.content.service;
 
+import com.geekflex.app.common.concurrent.SingleFlight;
 import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
 import com.geekflex.app.content.entity.Content;
 import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
 import com.geekflex.app.content.repository.ContentRepository;
 import com.geekflex.app.content.service.factory.ContentFactory;
 import com.geekflex.app.content.service.tmdb.TmdbApiService;
 import com.geekflex.app.content.service.tmdb.TmdbDetailCache;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Component
-@RequiredArgsConstructor
 @Log4j2
 public class ContentCacheManager {
 
@@ -24,45 +29,110 @@ public class ContentCacheManager {
     private final TmdbApiService tmdbApiService;
     private final ContentFactory contentFactory;
     private final TmdbDetailCache tmdbDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // (tmdbId, type) 단위로 TMDB 조회 + INSERT를 한 번만 수행하기 위한 single-flight
+    private final SingleFlight<ContentKey, Content> createFlight;
+
+    public ContentCacheManager(ContentRepository contentRepository,
+                               TmdbApiService tmdbApiService,
+                               ContentFactory contentFactory,
+                               TmdbDetailCache tmdbDetailCache,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.tmdbApiService = tmdbApiService;
+        this.contentFactory = contentFactory;
+        this.tmdbDetailCache = tmdbDetailCache;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.createFlight = new SingleFlight<>("content.create", meterRegistry);
+    }
 
     public Content getOrCreate(Long tmdbId, ContentType type) {
         return contentRepository.findByTmdbIdAndContentType(tmdbId, type)
-                .orElseGet(() -> {
-                            Content content;
-
-                            if (type == ContentType.MOVIE) {
-                                TmdbMovieDetailResponse detail = tmdbApiService.getMovieDetails(tmdbId);
-                                content = contentFactory.fromTmdbDetail(detail, type);
-                                // TMDB 응답을 캐시에 저장하여 ContentServiceImpl에서 이중 API 호출 방지
-                                tmdbDetailCache.putMovieDetail(tmdbId, detail);
-                            } else if (type == ContentType.TV) {
-                                TmdbTvDetailResponse detail = tmdbApiService.getTvDetails(tmdbId);
-                                content = contentFactory.fromTmdbTvDetail(detail, type);
-                                tmdbDetailCache.putTvDetail(tmdbId, detail);
-                            } else {
-                                log.warn("지원하지 않는 ContentType: {}", type);
-                                throw new IllegalArgumentException("지원하지 않는 ContentType: " + type);
-                            }
-
-                            // 동기화 시각 설정 → ContentServiceImpl의 freshness 체크에서 API 스킵됨
-                            content.setLastSyncedAt(LocalDateTime.now());
-
-                            try {
-                                return contentRepository.save(content);
-                            } catch (DataIntegrityViolationException e) {
-                                log.warn("동시성으로 인한 중복 INSERT 감지 - tmdbId={}, type={}",
-                                        tmdbId, type, e);
-                                return contentRepository.findByTmdbIdAndContentType(tmdbId, type)
-                                        .orElseThrow(() -> e);
-                            }
-                        }
-                );
+                .orElseGet(() -> createCoalesced(tmdbId, type, () -> fetchAndSave(tmdbId, type)));
     }
-}
 
+    /**
+     * 이미 조회한 TMDB 영화 상세로 콘텐츠를 조회하거나 저장한다. (논블로킹 상세 조회 경로에서 사용)
+     */
+    public Content getOrSaveMovie(TmdbMovieDetailResponse detail) {
+        return createCoalesced(detail.getId(), ContentType.MOVIE, () -> saveMovie(detail));
+    }
 
+    /**
+     * 이미 조회한 TMDB TV 상세로 콘텐츠를 조회하거나 저장한다. (논블로킹 상세 조회 경로에서 사용)
+     */
+    public Content getOrSaveTv(TmdbTvDetailResponse detail) {
+        return createCoalesced(detail.getId(), ContentType.TV, () -> saveTv(detail));
+    }
 
+    /**
+     * 동시에 같은 콘텐츠가 요청되면 리더 한 건만 TMDB 조회와 INSERT를 수행한다.
+     * 결과를 공유받은 호출자는 리더의 엔티티 인스턴스를 함께 수정하지 않도록 DB에서 다시 읽는다.
+     */
+    private Content createCoalesced(Long tmdbId, ContentType type, Supplier<Content> creator) {
+        SingleFlight.Result<Content> result = createFlight.execute(new ContentKey(tmdbId, type),
+                // 대기 중 다른 리더가 이미 저장했을 수 있으므로 한 번 더 확인
+                () -> contentRepository.findByTmdbIdAndContentType(tmdbId, type).orElseGet(creator));
 
+        if (!result.shared()) {
+            return result.value();
+        }
 
+        return contentRepository.findById(result.value().getId())
+                .orElseGet(result::value);
+    }
 
+    private Content fetchAndSave(Long tmdbId, ContentType type) {
+        if (type == ContentType.MOVIE) {
+            return saveMovie(tmdbApiService.getMovieDetails(tmdbId));
+        }
+        if (type == ContentType.TV) {
+            return saveTv(tmdbApiService.getTvDetails(tmdbId));
+        }
+        log.warn("지원하지 않는 ContentType: {}", type);
+        throw new IllegalArgumentException("지원하지 않는 ContentType: " + type);
+    }
 
+    private Content saveMovie(TmdbMovieDetailResponse detail) {
+        Content content = contentFactory.fromTmdbDetail(detail, ContentType.MOVIE);
+        // TMDB 응답을 캐시에 저장하여 ContentServiceImpl에서 이중 API 호출 방지
+        tmdbDetailCache.putMovieDetail(detail.getId(), detail);
+        return saveNew(content);
+    }
+
+    private Content saveTv(TmdbTvDetailResponse detail) {
+        Content content = contentFactory.fromTmdbTvDetail(detail, ContentType.TV);
+        tmdbDetailCache.putTvDetail(detail.getId(), detail);
+        return saveNew(content);
+    }
+
+    private Content saveNew(Content content) {
+        // 동기화 시각 설정 → ContentServiceImpl의 freshness 체크에서 API 스킵됨
+        content.setLastSyncedAt(LocalDateTime.now());
+
+        try {
+            // content_genre는 콘텐츠와 같은 트랜잭션에서 저장하고, 색인은 커밋된 뒤에 반영
+            Content saved = transactionTemplate.execute(status -> {
+                Content inserted = contentRepository.save(content);
+                contentRepository.replaceGenres(List.of(inserted));
+                return inserted;
+            });
+            eventPublisher.publishEvent(new ContentUpsertedEvent(List.of(saved)));
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스(서버)와의 경합은 single-flight로 막을 수 없으므로 기존 처리 유지
+            log.warn("동시성으로 인한 중복 INSERT 감지 - tmdbId={}, type={}",
+                    content.getTmdbId(), content.getContentType(), e);
+            return contentRepository.findByTmdbIdAndContentType(content.getTmdbId(), content.getContentType())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private record ContentKey(Long tmdbId, ContentType type) {
+    }
+}
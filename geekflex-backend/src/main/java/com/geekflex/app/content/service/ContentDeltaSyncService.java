@@ -0,0 +1,144 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbApiService;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TMDB 변경 목록 기반 델타 동기화.
+ * <p>
+ * 1. 조회 구간(lookback)의 /movie/changes, /tv/changes에서 바뀐 tmdbId를 받아 저장된 콘텐츠와 교집합을 구한다.
+ * 2. 교집합(변경된 콘텐츠)만 batch 단위로 상세를 다시 받아 갱신한다.
+ * 3. 구간 시작 이후 동기화된 나머지 콘텐츠는 변경이 없음이 확인되었으므로 동기화 시각만 일괄 연장한다.
+ * <p>
+ * 구간 시작 이전에 동기화된 콘텐츠는 그 사이 변경 여부를 알 수 없으므로 건드리지 않는다. (요청 시 기존 방식으로 갱신)
+ */
+@Service
+@Log4j2
+public class ContentDeltaSyncService {
+
+    // TMDB 변경 목록 조회 기간 제한
+    private static final Duration MAX_LOOKBACK = Duration.ofDays(14);
+
+    private final ContentRepository contentRepository;
+    private final ContentRefreshService contentRefreshService;
+    private final TmdbApiService tmdbApiService;
+    private final TmdbSyncProperties tmdbSyncProperties;
+
+    private final Counter refreshedCounter;
+    private final Counter failedCounter;
+    private final Counter extendedCounter;
+
+    public ContentDeltaSyncService(ContentRepository contentRepository,
+                                   ContentRefreshService contentRefreshService,
+                                   TmdbApiService tmdbApiService,
+                                   TmdbSyncProperties tmdbSyncProperties,
+                                   MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.contentRefreshService = contentRefreshService;
+        this.tmdbApiService = tmdbApiService;
+        this.tmdbSyncProperties = tmdbSyncProperties;
+        this.refreshedCounter = syncCounter(meterRegistry, "refreshed");
+        this.failedCounter = syncCounter(meterRegistry, "failed");
+        this.extendedCounter = syncCounter(meterRegistry, "extended");
+    }
+
+    /**
+     * 콘텐츠 타입 하나의 델타 동기화
+     */
+    public Result sync(ContentType contentType) {
+        // 변경 목록 조회 전에 기준 시각을 정해야 조회 중 바뀐 콘텐츠가 연장되지 않는다
+        LocalDateTime syncedAt = LocalDateTime.now();
+        Duration lookback = tmdbSyncProperties.getDeltaSyncLookback().compareTo(MAX_LOOKBACK) > 0
+                ? MAX_LOOKBACK
+                : tmdbSyncProperties.getDeltaSyncLookback();
+
+        // TMDB 날짜는 UTC 기준: 시작일 0시(UTC)부터의 변경이 모두 포함된다
+        LocalDate endDate = LocalDate.now(ZoneOffset.UTC);
+        LocalDate startDate = LocalDateTime.now(ZoneOffset.UTC).minus(lookback).toLocalDate();
+        LocalDateTime windowStart = LocalDateTime.ofInstant(
+                startDate.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneId.systemDefault());
+
+        Set<Long> changedIds = tmdbApiService.getChangedIds(contentType, startDate, endDate);
+        List<Long> changedStored = findStored(contentType, changedIds);
+
+        int refreshed = 0;
+        int failed = 0;
+        refresh:
+        for (List<Long> batch : partition(changedStored, tmdbSyncProperties.getDeltaSyncBatchSize())) {
+            for (Content content : contentRepository.findByContentTypeAndTmdbIdIn(contentType, batch)) {
+                try {
+                    contentRefreshService.refreshNow(content);
+                    refreshed++;
+                } catch (TmdbUnavailableException e) {
+                    // TMDB 장애: 남은 콘텐츠는 연장 대상에서 빠지므로 다음 실행 또는 요청 시 갱신된다
+                    failed = changedStored.size() - refreshed;
+                    log.warn("델타 동기화 갱신 중단 (TMDB 사용 불가) - type: {}: {}", contentType, e.getMessage());
+                    break refresh;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("델타 동기화 갱신 실패 - type: {}, tmdbId: {}: {}",
+                            contentType, content.getTmdbId(), e.getMessage());
+                }
+            }
+        }
+
+        int extended = contentRepository.extendLastSyncedAt(contentType, windowStart, syncedAt, changedStored);
+
+        refreshedCounter.increment(refreshed);
+        failedCounter.increment(failed);
+        extendedCounter.increment(extended);
+        log.info("델타 동기화 완료 - type: {}, 구간: {} ~ {}, TMDB 변경 {}건, 저장된 콘텐츠 중 변경 {}건, 갱신 {}건, 실패 {}건, 연장 {}건",
+                contentType, startDate, endDate, changedIds.size(), changedStored.size(), refreshed, failed, extended);
+        return new Result(changedIds.size(), changedStored.size(), refreshed, failed, extended);
+    }
+
+    private List<Long> findStored(ContentType contentType, Set<Long> changedIds) {
+        List<Long> stored = new ArrayList<>();
+        for (List<Long> batch : partition(new ArrayList<>(changedIds), 1000)) {
+            stored.addAll(contentRepository.findStoredTmdbIds(contentType, batch));
+        }
+        return stored;
+    }
+
+    private static List<List<Long>> partition(List<Long> ids, int size) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += size) {
+            batches.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return batches;
+    }
+
+    private static Counter syncCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("content.delta-sync")
+                .description("TMDB 변경 목록 기반 델타 동기화 결과 (콘텐츠 수)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param changed       TMDB 변경 목록 전체 건수
+     * @param changedStored 그중 저장된 콘텐츠 수
+     * @param refreshed     다시 받아 갱신한 수
+     * @param failed        갱신 실패 수
+     * @param extended      동기화 시각만 연장한 수
+     */
+    public record Result(int changed, int changedStored, int refreshed, int failed, int extended) {
+    }
+}
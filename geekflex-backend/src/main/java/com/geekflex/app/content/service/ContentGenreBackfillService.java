@@ -0,0 +1,118 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TmdbGenre;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbDetailSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장르 비트(genre_bits) 도입 전에 저장된 콘텐츠 보정 (일회성).
+ * <p>
+ * 기존 행은 genre_bits가 0으로 남고, 델타 동기화는 동기화 시각만 연장하며 해시가 같은 갱신은 UPDATE를 생략하므로
+ * 요청 경로에서는 채워지지 않는다. id 순으로 전체 콘텐츠를 읽어
+ * 1. genre_bits가 0이면 DB 상세 스냅샷의 장르 ID, 없으면 장르명(contents.genre)으로 비트를 계산해 저장하고
+ * 2. 모든 콘텐츠의 content_genre 행을 다시 만든다.
+ * 여러 번 실행해도 결과는 같다.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ContentGenreBackfillService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ContentRepository contentRepository;
+    private final TmdbDetailSnapshotStore snapshotStore;
+
+    /**
+     * @return genre_bits를 채운 콘텐츠 수
+     */
+    public int backfill() {
+        int scanned = 0;
+        int filled = 0;
+        int unresolved = 0;
+        long lastId = 0;
+        Limit limit = Limit.of(BATCH_SIZE);
+
+        List<Content> contents;
+        while (!(contents = contentRepository.findByIdGreaterThanOrderByIdAsc(lastId, limit)).isEmpty()) {
+            Map<Long, Long> genreBitsById = resolveEmptyGenreBits(contents);
+            filled += contentRepository.updateEmptyGenreBits(genreBitsById);
+            unresolved += (int) contents.stream()
+                    .filter(content -> content.getGenreBits() == 0 && content.getGenre() != null)
+                    .count();
+            contentRepository.replaceGenres(contents);
+
+            scanned += contents.size();
+            lastId = contents.getLast().getId();
+        }
+
+        log.info("장르 비트 보정 완료 - 콘텐츠 {}건 중 {}건 채움, 장르명을 해석하지 못한 {}건", scanned, filled, unresolved);
+        return filled;
+    }
+
+    /**
+     * genre_bits가 0인 콘텐츠의 장르 비트 계산 (계산한 값은 엔티티에도 반영해 content_genre 행에 쓰임)
+     * @return id → genre_bits (장르를 알 수 없는 콘텐츠는 제외)
+     */
+    private Map<Long, Long> resolveEmptyGenreBits(List<Content> contents) {
+        Map<ContentType, Map<Long, Content>> empty = new HashMap<>();
+        for (Content content : contents) {
+            if (content.getGenreBits() == 0 && content.getContentType() != null) {
+                empty.computeIfAbsent(content.getContentType(), type -> new HashMap<>())
+                        .put(content.getTmdbId(), content);
+            }
+        }
+
+        Map<Long, Long> genreBitsById = new HashMap<>();
+        empty.forEach((contentType, byTmdbId) -> {
+            Map<Long, Long> snapshotBits = snapshotGenreBits(contentType, byTmdbId.keySet());
+            byTmdbId.forEach((tmdbId, content) -> {
+                long bits = snapshotBits.getOrDefault(tmdbId, 0L);
+                if (bits == 0) {
+                    bits = TmdbGenre.toBitsFromNames(content.getGenre());
+                }
+                if (bits != 0) {
+                    content.setGenreBits(bits);
+                    genreBitsById.put(content.getId(), bits);
+                }
+            });
+        });
+        return genreBitsById;
+    }
+
+    /**
+     * 상세 스냅샷(기본 언어)의 장르 ID로 계산한 비트 (스냅샷이 없는 콘텐츠는 제외)
+     */
+    private Map<Long, Long> snapshotGenreBits(ContentType contentType, Collection<Long> tmdbIds) {
+        Map<Long, Long> bits = new HashMap<>();
+        if (contentType == ContentType.MOVIE) {
+            snapshotStore.getAll(contentType, tmdbIds, TmdbMovieDetailResponse.class).forEach((tmdbId, detail) -> {
+                if (detail.getGenres() != null) {
+                    bits.put(tmdbId, TmdbGenre.toBits(
+                            detail.getGenres().stream().map(TmdbMovieDetailResponse.Genre::getId).toList()));
+                }
+            });
+        } else {
+            snapshotStore.getAll(contentType, tmdbIds, TmdbTvDetailResponse.class).forEach((tmdbId, detail) -> {
+                if (detail.getGenres() != null) {
+                    bits.put(tmdbId, TmdbGenre.toBits(
+                            detail.getGenres().stream().map(TmdbTvDetailResponse.Genre::getId).toList()));
+                }
+            });
+        }
+        return bits;
+    }
+}
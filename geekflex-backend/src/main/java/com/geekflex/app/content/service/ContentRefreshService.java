@@ -0,0 +1,288 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.dto.tmdb.MovieDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TvDetailResponse;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.factory.ContentFactory;
+import com.geekflex.app.content.service.factory.ContentPayloadHash;
+import com.geekflex.app.content.service.tmdb.TmdbApiService;
+import com.geekflex.app.content.service.tmdb.TmdbDetailCache;
+import com.geekflex.app.content.service.tmdb.TmdbLanguage;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TMDB 상세 데이터로 콘텐츠를 갱신하는 서비스.
+ * <p>
+ * - 요청 경로의 동기 갱신 (DB 비교&업데이트 + 상세 캐시 저장)
+ *   저장된 payload_hash와 TMDB 응답의 해시가 같으면 비교/UPDATE를 생략하고 동기화 시각만 모아서 반영
+ *   (상세 캐시도 L1 교체 + Redis TTL 연장만 하고 스냅샷은 다시 쓰지 않음)
+ * - stale-while-revalidate 모드의 백그라운드 갱신 (동시 실행 수 제한 + tmdbId 단위 중복 제거)
+ * - 동기화 주기가 지난 번역 문자열의 백그라운드 재조회 (같은 실행기, (tmdbId, 언어) 단위 중복 제거)
+ * - 자주 조회되는 콘텐츠의 만료 전 선제 갱신 (같은 백그라운드 실행기 사용)
+ */
+@Service
+@Log4j2
+public class ContentRefreshService {
+
+    private final ContentRepository contentRepository;
+    private final TmdbApiService tmdbApiService;
+    private final ContentFactory contentFactory;
+    private final TmdbDetailCache tmdbDetailCache;
+    private final TmdbSyncProperties tmdbSyncProperties;
+    private final ThreadPoolTaskExecutor contentRefreshExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentSyncTimestampBuffer contentSyncTimestampBuffer;
+
+    // 백그라운드 갱신이 진행 중이거나 대기 중인 콘텐츠
+    private final Set<RefreshKey> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    private final Counter scheduledCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Counter unchangedWriteCounter;
+    private final Counter updatedWriteCounter;
+
+    public ContentRefreshService(ContentRepository contentRepository,
+                                 TmdbApiService tmdbApiService,
+                                 ContentFactory contentFactory,
+                                 TmdbDetailCache tmdbDetailCache,
+                                 TmdbSyncProperties tmdbSyncProperties,
+                                 ThreadPoolTaskExecutor contentRefreshExecutor,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ContentSyncTimestampBuffer contentSyncTimestampBuffer,
+                                 MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.tmdbApiService = tmdbApiService;
+        this.contentFactory = contentFactory;
+        this.tmdbDetailCache = tmdbDetailCache;
+        this.tmdbSyncProperties = tmdbSyncProperties;
+        this.contentRefreshExecutor = contentRefreshExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.contentSyncTimestampBuffer = contentSyncTimestampBuffer;
+        this.scheduledCounter = refreshCounter(meterRegistry, "scheduled");
+        this.deduplicatedCounter = refreshCounter(meterRegistry, "deduplicated");
+        this.rejectedCounter = refreshCounter(meterRegistry, "rejected");
+        this.failedCounter = refreshCounter(meterRegistry, "failed");
+        this.unchangedWriteCounter = writeCounter(meterRegistry, "unchanged");
+        this.updatedWriteCounter = writeCounter(meterRegistry, "updated");
+    }
+
+    /**
+     * 동기화 주기는 지났지만 hard-stale 상한 이내라 stale 응답이 허용되는지 판단
+     */
+    public boolean isServableStale(Content content) {
+        if (!tmdbSyncProperties.isStaleWhileRevalidate() || content.getLastSyncedAt() == null) {
+            return false;
+        }
+        Duration age = Duration.between(content.getLastSyncedAt(), LocalDateTime.now());
+        return age.compareTo(tmdbSyncProperties.getHardStaleCeiling()) < 0;
+    }
+
+    /**
+     * TMDB 영화 상세로 콘텐츠를 갱신하고 응답을 만든다.
+     */
+    public MovieDetailResponse applyMovieDetail(Content content, TmdbMovieDetailResponse detail) {
+        long payloadHash = ContentPayloadHash.of(detail);
+        if (isUnchanged(content, payloadHash)) {
+            tmdbDetailCache.touchMovieDetail(content.getTmdbId(), detail);
+            return MovieDetailResponse.from(content, detail);
+        }
+
+        tmdbDetailCache.putMovieDetail(content.getTmdbId(), detail);
+
+        // DB 비교&업데이트 + 동기화 시각 갱신
+        boolean contentChanged = contentFactory.updateContentFromMovie(content, detail);
+        save(content, payloadHash, contentChanged);
+
+        return MovieDetailResponse.from(content, detail);
+    }
+
+    /**
+     * TMDB TV 상세로 콘텐츠를 갱신하고 응답을 만든다.
+     */
+    public TvDetailResponse applyTvDetail(Content content, TmdbTvDetailResponse detail) {
+        long payloadHash = ContentPayloadHash.of(detail);
+        if (isUnchanged(content, payloadHash)) {
+            tmdbDetailCache.touchTvDetail(content.getTmdbId(), detail);
+            return TvDetailResponse.from(content, detail);
+        }
+
+        tmdbDetailCache.putTvDetail(content.getTmdbId(), detail);
+
+        // DB 비교&업데이트 + 동기화 시각 갱신
+        boolean contentChanged = contentFactory.updateContentFromTv(content, detail);
+        save(content, payloadHash, contentChanged);
+
+        return TvDetailResponse.from(content, detail);
+    }
+
+    /**
+     * 백그라운드 갱신 예약. 같은 콘텐츠가 이미 예약되어 있으면 무시한다.
+     */
+    public void scheduleRefresh(Content content) {
+        RefreshKey key = new RefreshKey(content.getTmdbId(), content.getContentType(), TmdbLanguage.DEFAULT);
+        schedule(key, () -> refreshInBackground(content.getId(), key));
+    }
+
+    /**
+     * 번역 문자열 백그라운드 재조회 예약. 같은 (콘텐츠, 언어)가 이미 예약되어 있으면 무시한다.
+     */
+    public void scheduleLocalizedRefresh(ContentType contentType, Long tmdbId, String language) {
+        RefreshKey key = new RefreshKey(tmdbId, contentType, language);
+        schedule(key, () -> refreshLocalizedInBackground(key));
+    }
+
+    private void schedule(RefreshKey key, Runnable refresh) {
+        if (!pendingRefreshes.add(key)) {
+            deduplicatedCounter.increment();
+            return;
+        }
+
+        try {
+            contentRefreshExecutor.execute(refresh);
+            scheduledCounter.increment();
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 찬 경우: 다음 요청에서 다시 예약됨
+            pendingRefreshes.remove(key);
+            rejectedCounter.increment();
+            log.warn("백그라운드 갱신 대기열 초과 - tmdbId={}, type={}, language={}", key.tmdbId(), key.type(), key.language());
+        }
+    }
+
+    /**
+     * 동기화 주기 만료까지 lead 이내로 남은 콘텐츠를 백그라운드 갱신 예약 (인기 콘텐츠 선제 갱신)
+     * @return 예약을 시도한 콘텐츠 수
+     */
+    public int refreshExpiringSoon(ContentType contentType, Collection<Long> tmdbIds, Duration lead) {
+        if (tmdbIds.isEmpty()) {
+            return 0;
+        }
+        Duration remainingFreshness = tmdbSyncProperties.getSyncInterval().minus(lead);
+        int scheduled = 0;
+        for (Content content : contentRepository.findByContentTypeAndTmdbIdIn(contentType, tmdbIds)) {
+            if (!contentSyncTimestampBuffer.overlay(content).isFresh(remainingFreshness)) {
+                scheduleRefresh(content);
+                scheduled++;
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * 즉시 갱신. (요청 경로 밖의 배치/스케줄러에서 사용)
+     */
+    public void refreshNow(Content content) {
+        if (content.getContentType() == ContentType.MOVIE) {
+            applyMovieDetail(content, tmdbApiService.getMovieDetails(content.getTmdbId()));
+        } else {
+            applyTvDetail(content, tmdbApiService.getTvDetails(content.getTmdbId()));
+        }
+    }
+
+    /**
+     * 저장된 해시와 같으면 필드 비교/UPDATE 없이 동기화 시각만 기록 (일괄 반영)
+     */
+    private boolean isUnchanged(Content content, long payloadHash) {
+        if (content.getId() == null || content.getPayloadHash() == null || content.getPayloadHash() != payloadHash) {
+            return false;
+        }
+        contentSyncTimestampBuffer.touch(content, LocalDateTime.now());
+        unchangedWriteCounter.increment();
+        log.debug("TMDB 응답 변경 없음, 동기화 시각만 기록 - {} tmdbId={}", content.getContentType(), content.getTmdbId());
+        return true;
+    }
+
+    private void save(Content content, long payloadHash, boolean contentChanged) {
+        content.setPayloadHash(payloadHash);
+        content.setLastSyncedAt(LocalDateTime.now());
+        // content_genre는 genre_bits와 같은 트랜잭션에서 교체 (장르 탐색에서 빠지거나 서로 어긋나지 않도록)
+        transactionTemplate.executeWithoutResult(status -> {
+            contentRepository.save(content);
+            if (contentChanged) {
+                contentRepository.replaceGenres(List.of(content));
+            }
+        });
+        updatedWriteCounter.increment();
+
+        if (contentChanged) {
+            // 색인은 커밋된 뒤에 반영 (CategoryIngestionPipeline과 동일)
+            eventPublisher.publishEvent(new ContentUpsertedEvent(List.of(content)));
+        } else {
+            // 해시가 없던(또는 목록 수집으로 비워진) 콘텐츠: 해시와 동기화 시각만 저장
+            log.debug("Content 변경 없음, 해시/동기화 시각만 갱신 - {} tmdbId={}",
+                    content.getContentType(), content.getTmdbId());
+        }
+    }
+
+    private void refreshInBackground(Long contentId, RefreshKey key) {
+        try {
+            // 요청 스레드가 응답에 사용 중인 엔티티를 함께 수정하지 않도록 다시 읽는다
+            contentRepository.findById(contentId).ifPresent(this::refreshNow);
+            log.debug("백그라운드 갱신 완료 - tmdbId={}, type={}", key.tmdbId(), key.type());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("백그라운드 갱신 실패 - tmdbId={}, type={}: {}", key.tmdbId(), key.type(), e.getMessage());
+        } finally {
+            pendingRefreshes.remove(key);
+        }
+    }
+
+    private void refreshLocalizedInBackground(RefreshKey key) {
+        try {
+            TmdbLocalizedText text = key.type() == ContentType.MOVIE
+                    ? TmdbLocalizedText.of(tmdbApiService.getMovieDetails(key.tmdbId(), key.language()))
+                    : TmdbLocalizedText.of(tmdbApiService.getTvDetails(key.tmdbId(), key.language()));
+            tmdbDetailCache.putLocalizedText(key.type(), key.tmdbId(), key.language(), text);
+            log.debug("번역 문자열 백그라운드 갱신 완료 - tmdbId={}, type={}, language={}",
+                    key.tmdbId(), key.type(), key.language());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("번역 문자열 백그라운드 갱신 실패 - tmdbId={}, type={}, language={}: {}",
+                    key.tmdbId(), key.type(), key.language(), e.getMessage());
+        } finally {
+            pendingRefreshes.remove(key);
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("content.refresh")
+                .description("콘텐츠 백그라운드 갱신 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter writeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("content.refresh.write")
+                .description("TMDB 상세 갱신 시 콘텐츠 행 UPDATE 여부 (unchanged: 해시 일치로 생략)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record RefreshKey(Long tmdbId, ContentType type, String language) {
+    }
+}
@@ -1,30 +1,81 @@
 package com.geekflex.app.content.service;
+import com.geekflex.app.common.dto.CursorPageResponse;
+import com.geekflex.app.content.dto.BrowseSort;
+import com.geekflex.app.content.dto.CategoryListPayload;
 import com.geekflex.app.content.dto.ContentResponse;
+import com.geekflex.app.content.dto.DiscoverSort;
 import com.geekflex.app.content.dto.tmdb.MovieDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TvDetailResponse;
 import com.geekflex.app.content.entity.Content;
 import com.geekflex.app.content.entity.ContentType;
 import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.entity.TmdbGenre;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 public interface ContentService {
-    List<ContentResponse> getContentsByTagType(TagType tagType);
+    /**
+     * 카테고리 목록 첫 페이지 (최대 size건)
+     */
+    List<ContentResponse> getContentsByTagType(TagType tagType, int size);
+
+    /**
+     * 카테고리 목록 첫 페이지의 직렬화된 응답 (ETag 포함)
+     */
+    CategoryListPayload getContentsPayloadByTagType(TagType tagType, int size);
+
+    /**
+     * 카테고리 목록 커서 페이지 조회
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    CursorPageResponse<ContentResponse> getContentPageByTagType(TagType tagType, String cursor, int size);
+
+    /**
+     * 장르 둘러보기 커서 페이지 조회
+     * @param genres   모두 포함해야 하는 장르 (비어 있으면 장르 조건 없음)
+     * @param language 원어 코드 (null이면 조건 없음)
+     * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    CursorPageResponse<ContentResponse> browse(ContentType contentType, List<TmdbGenre> genres, String language,
+                                               BrowseSort sort, String cursor, int size);
 
-    ContentResponse getRandomContent();
+    /**
+     * 디스커버: 인메모리 카탈로그에서 거르고 정렬한 뒤 응답할 페이지만 DB에서 읽는다.
+     * @param contentType null이면 전체 타입
+     * @param fromYear    개봉 연도 하한 (포함, null이면 조건 없음)
+     * @param toYear      개봉 연도 상한 (포함, null이면 조건 없음)
+     * @param cursor      이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    CursorPageResponse<ContentResponse> discover(ContentType contentType, List<TmdbGenre> genres, Integer fromYear,
+                                                 Integer toYear, int minVotes, DiscoverSort sort, String cursor,
+                                                 int size);
 
-    List<ContentResponse> getRandomContentSuggestions();
+    /**
+     * 무작위 작품 1개
+     * @param contentType null이면 전체 타입
+     * @param tagType     null이면 태그 조건 없음
+     */
+    ContentResponse getRandomContent(ContentType contentType, TagType tagType);
+
+    /**
+     * 검색 제안용 무작위 작품 (중복 없음)
+     */
+    List<ContentResponse> getRandomContentSuggestions(ContentType contentType, TagType tagType);
 
     /**
-     * TMDB_ID로 콘텐츠를 조회하되, 없으면 TMDB에서 받아서 DB에 저장 후 반환
-     * → 리뷰 작성 시 필수 기능
+     * 영화 상세 정보 논블로킹 조회 (DB에 없으면 TMDB에서 받아 저장)
+     * → TMDB 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+     * → 블로킹 호출부는 .block() 사용
+     *
+     * @param language 응답 언어 (기본 언어가 아니면 제목/개요 등 번역 필드만 해당 언어로 덮어씀)
      */
-    MovieDetailResponse getMovieDetailWithCaching(Long tmdbId, String language);
+    Mono<MovieDetailResponse> getMovieDetailAsync(Long tmdbId, String language);
 
     /**
-     * TV 상세 정보 조회 (캐싱 포함)
+     * TV 상세 정보 논블로킹 조회
      */
-    TvDetailResponse getTvDetailWithCaching(Long tmdbId, String language);
+    Mono<TvDetailResponse> getTvDetailAsync(Long tmdbId, String language);
 
     Content getOrCreateContent(Long tmdbId, ContentType contentType);
 }
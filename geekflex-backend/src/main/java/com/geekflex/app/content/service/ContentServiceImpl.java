@@ -1,128 +1,381 @@
 package com.geekflex.app.content.service;
 
+import com.geekflex.app.common.dto.CursorPageResponse;
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import com.geekflex.app.content.dto.BrowseCursor;
+import com.geekflex.app.content.dto.BrowseSort;
+import com.geekflex.app.content.dto.CategoryListPayload;
+import com.geekflex.app.content.dto.ContentCursor;
 import com.geekflex.app.content.dto.ContentResponse;
+import com.geekflex.app.content.dto.DiscoverCursor;
+import com.geekflex.app.content.dto.DiscoverSort;
 import com.geekflex.app.content.dto.tmdb.MovieDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
 import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TvDetailResponse;
 import com.geekflex.app.content.entity.Content;
 import com.geekflex.app.content.entity.ContentType;
 import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.entity.TmdbGenre;
 import com.geekflex.app.content.repository.ContentRepository;
-import com.geekflex.app.content.service.factory.ContentFactory;
-import com.geekflex.app.content.service.tmdb.TmdbApiService;
+import com.geekflex.app.content.service.search.DiscoverIndex;
+import com.geekflex.app.content.service.tmdb.ReactiveTmdbApiService;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
 import com.geekflex.app.content.service.tmdb.TmdbDetailCache;
+import com.geekflex.app.content.service.tmdb.TmdbLanguage;
 import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class ContentServiceImpl implements ContentService {
+    private static final int RANDOM_SUGGESTION_SIZE = 4;
+
+    // discover 연도 필터 허용 범위 (LocalDate 범위를 넘는 값이 500이 되지 않도록)
+    private static final int MIN_RELEASE_YEAR = 1870;
+    private static final int MAX_RELEASE_YEAR = 9999;
+
     private final ContentRepository contentRepository;
     private final ContentCacheManager contentCacheManager;
-    private final TmdbApiService tmdbApiService;
-    private final ContentFactory contentFactory;
+    private final CategoryListCache categoryListCache;
+    private final ReactiveTmdbApiService reactiveTmdbApiService;
+    private final ContentRefreshService contentRefreshService;
+    private final ContentSyncTimestampBuffer contentSyncTimestampBuffer;
     private final TmdbDetailCache tmdbDetailCache;
     private final TmdbSyncProperties tmdbSyncProperties;
+    private final TmdbCategoryProperties tmdbCategoryProperties;
+    private final RandomContentSampler randomContentSampler;
+    private final HotContentTracker hotContentTracker;
+    private final DiscoverIndex discoverIndex;
 
     // 4개의 API에 대한 콘텐츠 불러오기
     @Override
-    public List<ContentResponse> getContentsByTagType(TagType tagType) {
-        return contentRepository.findByTagType(tagType)
-                .stream()
-                .map(ContentResponse::from)
-                .toList();
+    public List<ContentResponse> getContentsByTagType(TagType tagType, int size) {
+        return categoryListCache.getItems(tagType, size);
     }
 
     @Override
-    public ContentResponse getRandomContent() {
-        return contentRepository.findRandom()
-                .map(ContentResponse::from)
-                .orElseThrow(() -> new IllegalArgumentException("저장된 콘텐츠가 없습니다."));
+    public CategoryListPayload getContentsPayloadByTagType(TagType tagType, int size) {
+        return categoryListCache.getPayload(tagType, size);
     }
 
     @Override
-    public List<ContentResponse> getRandomContentSuggestions() {
-        return contentRepository.findRandomSuggestions()
-                .stream()
-                .map(ContentResponse::from)
-                .toList();
+    public CursorPageResponse<ContentResponse> getContentPageByTagType(TagType tagType, String cursor, int size) {
+        ContentCursor position = ContentCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, tmdbCategoryProperties.getMaxPageSize());
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Content> contents = contentRepository.findPageByTagType(
+                tagType.name(), position.releaseDate(), position.id(), pageSize + 1);
+
+        boolean hasNext = contents.size() > pageSize;
+        List<Content> page = hasNext ? contents.subList(0, pageSize) : contents;
+
+        return CursorPageResponse.<ContentResponse>builder()
+                .items(page.stream().map(ContentResponse::from).toList())
+                .nextCursor(hasNext ? ContentCursor.after(page.getLast()).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
-    public MovieDetailResponse getMovieDetailWithCaching(Long tmdbId, String lang) {
-        Content content = contentCacheManager.getOrCreate(tmdbId, ContentType.MOVIE);
-
-        // freshness 체크: 동기화 주기 이내 + 캐시 hit이면 API 스킵
-        if (content.isFresh(tmdbSyncProperties.getSyncInterval())) {
-            TmdbMovieDetailResponse cached = tmdbDetailCache.getMovieDetail(tmdbId);
-            if (cached != null) {
-                log.debug("TMDB API 스킵 (fresh) - Movie tmdbId={}", tmdbId);
-                return MovieDetailResponse.from(content, cached);
-            }
+    public CursorPageResponse<ContentResponse> browse(ContentType contentType, List<TmdbGenre> genres, String language,
+                                                      BrowseSort sort, String cursor, int size) {
+        BrowseCursor position = BrowseCursor.decode(sort, cursor);
+        int pageSize = Math.clamp(size, 1, tmdbCategoryProperties.getMaxPageSize());
+        long genreMask = TmdbGenre.toMask(genres);
+        String languageFilter = language != null && !language.isBlank() ? language : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Long> ids = sort == BrowseSort.POPULARITY
+                ? contentRepository.findBrowsePageIdsByPopularity(contentType, genreMask, languageFilter,
+                        position.popularity(), position.id(), pageSize + 1)
+                : contentRepository.findBrowsePageIdsByReleaseDate(contentType, genreMask, languageFilter,
+                        position.releaseDate(), position.id(), pageSize + 1);
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Content> page = findContentsInOrder(hasNext ? ids.subList(0, pageSize) : ids);
+
+        return CursorPageResponse.<ContentResponse>builder()
+                .items(page.stream().map(ContentResponse::from).toList())
+                .nextCursor(hasNext && !page.isEmpty() ? BrowseCursor.after(sort, page.getLast()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public CursorPageResponse<ContentResponse> discover(ContentType contentType, List<TmdbGenre> genres,
+                                                        Integer fromYear, Integer toYear, int minVotes,
+                                                        DiscoverSort sort, String cursor, int size) {
+        if (!isSupportedYear(fromYear) || !isSupportedYear(toYear)) {
+            throw new IllegalArgumentException(
+                    "개봉 연도는 " + MIN_RELEASE_YEAR + "~" + MAX_RELEASE_YEAR + " 사이여야 합니다.");
+        }
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new IllegalArgumentException("개봉 연도 범위가 올바르지 않습니다.");
         }
+        DiscoverCursor position = DiscoverCursor.decode(sort, cursor);
+        int pageSize = Math.clamp(size, 1, tmdbCategoryProperties.getMaxPageSize());
+        DiscoverIndex.Filter filter = new DiscoverIndex.Filter(
+                contentType, TmdbGenre.toMask(genres), fromYear, toYear, Math.max(minVotes, 0));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<DiscoverIndex.Hit> hits = discoverIndex.find(filter, sort, position, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        List<DiscoverIndex.Hit> page = hasNext ? hits.subList(0, pageSize) : hits;
+        DiscoverIndex.Hit last = hasNext ? page.getLast() : null;
+
+        return CursorPageResponse.<ContentResponse>builder()
+                .items(findAllInOrder(page.stream().map(DiscoverIndex.Hit::id).toList()))
+                .nextCursor(last != null ? new DiscoverCursor(sort, last.key(), last.id()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static boolean isSupportedYear(Integer year) {
+        return year == null || (year >= MIN_RELEASE_YEAR && year <= MAX_RELEASE_YEAR);
+    }
+
+    @Override
+    public ContentResponse getRandomContent(ContentType contentType, TagType tagType) {
+        return findRandom(contentType, tagType, 1).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("저장된 콘텐츠가 없습니다."));
+    }
+
+    @Override
+    public List<ContentResponse> getRandomContentSuggestions(ContentType contentType, TagType tagType) {
+        return findRandom(contentType, tagType, RANDOM_SUGGESTION_SIZE);
+    }
 
-        // API 호출 필요 (stale 또는 캐시 miss)
-        TmdbMovieDetailResponse detail = tmdbApiService.getMovieDetails(tmdbId);
-        tmdbDetailCache.putMovieDetail(tmdbId, detail);
+    /**
+     * 인메모리 id 목록에서 무작위로 뽑은 콘텐츠 (뽑은 순서 유지)
+     */
+    private List<ContentResponse> findRandom(ContentType contentType, TagType tagType, int count) {
+        return findAllInOrder(randomContentSampler.sample(contentType, tagType, count));
+    }
 
-        // DB 비교&업데이트 + 동기화 시각 갱신
-        boolean contentChanged = contentFactory.updateContentFromMovie(content, detail);
-        content.setLastSyncedAt(LocalDateTime.now());
-        contentRepository.save(content);
+    private List<ContentResponse> findAllInOrder(List<Long> ids) {
+        return findContentsInOrder(ids).stream()
+                .map(ContentResponse::from)
+                .toList();
+    }
 
-        if (!contentChanged) {
-            log.debug("Content 변경 없음, 동기화 시각만 갱신 - Movie tmdbId={}", tmdbId);
+    /**
+     * id 목록을 한 번의 IN 조회로 읽는다. (목록 순서 유지, 그 사이 삭제된 콘텐츠는 제외)
+     */
+    private List<Content> findContentsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        return MovieDetailResponse.from(content, detail);
+        Map<Long, Content> contents = contentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Content::getId, Function.identity()));
+        return ids.stream()
+                .map(contents::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
-    public TvDetailResponse getTvDetailWithCaching(Long tmdbId, String lang) {
-        Content content = contentCacheManager.getOrCreate(tmdbId, ContentType.TV);
-
-        // freshness 체크: 동기화 주기 이내 + 캐시 hit이면 API 스킵
-        if (content.isFresh(tmdbSyncProperties.getSyncInterval())) {
-            TmdbTvDetailResponse cached = tmdbDetailCache.getTvDetail(tmdbId);
-            if (cached != null) {
-                log.debug("TMDB API 스킵 (fresh) - TV tmdbId={}", tmdbId);
-                return TvDetailResponse.from(content, cached);
-            }
+    public Mono<MovieDetailResponse> getMovieDetailAsync(Long tmdbId, String lang) {
+        String language = TmdbLanguage.resolve(lang, tmdbSyncProperties.getSupportedLanguages());
+        // 존재하는 콘텐츠만 조회 빈도에 반영 (없는 id를 훑는 요청이 후보를 채우지 않도록)
+        Mono<MovieDetailResponse> response = defaultMovieDetailAsync(tmdbId)
+                .doOnNext(detail -> hotContentTracker.record(ContentType.MOVIE, tmdbId));
+        if (TmdbLanguage.isDefault(language)) {
+            return response;
         }
 
-        // API 호출 필요 (stale 또는 캐시 miss)
-        TmdbTvDetailResponse detail = tmdbApiService.getTvDetails(tmdbId);
-        tmdbDetailCache.putTvDetail(tmdbId, detail);
+        // 기본 언어 상세와 번역 문자열을 동시에 조회 (번역을 받지 못하면 기본 언어 응답)
+        return Mono.zip(response, localizedTextAsync(ContentType.MOVIE, tmdbId, language)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .map(tuple -> tuple.getT2().map(tuple.getT1()::localize).orElse(tuple.getT1()));
+    }
+
+    private Mono<MovieDetailResponse> defaultMovieDetailAsync(Long tmdbId) {
+        return Mono.fromCallable(() -> contentRepository.findByTmdbIdAndContentType(tmdbId, ContentType.MOVIE))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(found -> {
+                    Content content = found.orElse(null);
+                    MovieDetailResponse cached = content != null ? cachedMovieDetail(content) : null;
+                    if (cached != null) {
+                        return Mono.just(cached);
+                    }
+
+                    // TMDB 응답 대기 중에는 스레드를 점유하지 않고, DB 반영만 boundedElastic에서 수행
+                    return reactiveTmdbApiService.getMovieDetails(tmdbId)
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(detail -> content != null
+                                    ? contentRefreshService.applyMovieDetail(content, detail)
+                                    : MovieDetailResponse.from(contentCacheManager.getOrSaveMovie(detail), detail))
+                            .onErrorResume(TmdbUnavailableException.class, e -> content != null
+                                    ? Mono.fromCallable(() -> fallbackMovieDetail(content, e))
+                                    : Mono.error(e));
+                });
+    }
+
+    /**
+     * freshness 체크: 캐시 hit이면서 동기화 주기 이내이면 API 스킵.
+     * 주기가 지났더라도 stale-while-revalidate 모드에서 hard-stale 상한 이내이면
+     * 캐시 응답을 바로 반환하고 갱신은 백그라운드로 예약한다.
+     * @return 동기 API 호출이 필요하면 null
+     */
+    private MovieDetailResponse cachedMovieDetail(Content content) {
+        // 변경 없는 갱신의 동기화 시각은 일괄 반영 전까지 DB에 없으므로 먼저 덮어쓴다
+        boolean fresh = contentSyncTimestampBuffer.overlay(content).isFresh(tmdbSyncProperties.getSyncInterval());
+        if (!fresh && !contentRefreshService.isServableStale(content)) {
+            return null;
+        }
 
-        // DB 비교&업데이트 + 동기화 시각 갱신
-        boolean contentChanged = contentFactory.updateContentFromTv(content, detail);
-        content.setLastSyncedAt(LocalDateTime.now());
-        contentRepository.save(content);
+        TmdbMovieDetailResponse cached = tmdbDetailCache.getMovieDetail(content.getTmdbId());
+        if (cached == null) {
+            return null;
+        }
 
-        if (!contentChanged) {
-            log.debug("Content 변경 없음, 동기화 시각만 갱신 - TV tmdbId={}", tmdbId);
+        if (fresh) {
+            log.debug("TMDB API 스킵 (fresh) - Movie tmdbId={}", content.getTmdbId());
+        } else {
+            log.debug("stale 응답 후 백그라운드 갱신 - Movie tmdbId={}", content.getTmdbId());
+            contentRefreshService.scheduleRefresh(content);
         }
+        return MovieDetailResponse.from(content, cached);
+    }
 
-        return TvDetailResponse.from(content, detail);
+    /**
+     * TMDB를 사용할 수 없을 때 (circuit open, timeout 등): 남아 있는 상세 캐시가 있으면 사용하고,
+     * 없으면 DB 값만으로 응답한다.
+     */
+    private MovieDetailResponse fallbackMovieDetail(Content content, TmdbUnavailableException e) {
+        log.warn("TMDB 사용 불가, DB 기반 응답 - Movie tmdbId={}: {}", content.getTmdbId(), e.getMessage());
+        TmdbMovieDetailResponse cached = tmdbDetailCache.getMovieDetail(content.getTmdbId());
+        return cached != null ? MovieDetailResponse.from(content, cached) : MovieDetailResponse.fromContent(content);
     }
 
     @Override
-    public Content getOrCreateContent(Long tmdbId, ContentType contentType) {
-        return contentCacheManager.getOrCreate(tmdbId, contentType);
+    public Mono<TvDetailResponse> getTvDetailAsync(Long tmdbId, String lang) {
+        String language = TmdbLanguage.resolve(lang, tmdbSyncProperties.getSupportedLanguages());
+        // 존재하는 콘텐츠만 조회 빈도에 반영 (없는 id를 훑는 요청이 후보를 채우지 않도록)
+        Mono<TvDetailResponse> response = defaultTvDetailAsync(tmdbId)
+                .doOnNext(detail -> hotContentTracker.record(ContentType.TV, tmdbId));
+        if (TmdbLanguage.isDefault(language)) {
+            return response;
+        }
+
+        // 기본 언어 상세와 번역 문자열을 동시에 조회 (번역을 받지 못하면 기본 언어 응답)
+        return Mono.zip(response, localizedTextAsync(ContentType.TV, tmdbId, language)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .map(tuple -> tuple.getT2().map(tuple.getT1()::localize).orElse(tuple.getT1()));
     }
-}
 
+    private Mono<TvDetailResponse> defaultTvDetailAsync(Long tmdbId) {
+        return Mono.fromCallable(() -> contentRepository.findByTmdbIdAndContentType(tmdbId, ContentType.TV))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(found -> {
+                    Content content = found.orElse(null);
+                    TvDetailResponse cached = content != null ? cachedTvDetail(content) : null;
+                    if (cached != null) {
+                        return Mono.just(cached);
+                    }
 
+                    // TMDB 응답 대기 중에는 스레드를 점유하지 않고, DB 반영만 boundedElastic에서 수행
+                    return reactiveTmdbApiService.getTvDetails(tmdbId)
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(detail -> content != null
+                                    ? contentRefreshService.applyTvDetail(content, detail)
+                                    : TvDetailResponse.from(contentCacheManager.getOrSaveTv(detail), detail))
+                            .onErrorResume(TmdbUnavailableException.class, e -> content != null
+                                    ? Mono.fromCallable(() -> fallbackTvDetail(content, e))
+                                    : Mono.error(e));
+                });
+    }
 
+    /**
+     * freshness 체크: 캐시 hit이면서 동기화 주기 이내이면 API 스킵.
+     * 주기가 지났더라도 stale-while-revalidate 모드에서 hard-stale 상한 이내이면
+     * 캐시 응답을 바로 반환하고 갱신은 백그라운드로 예약한다.
+     * @return 동기 API 호출이 필요하면 null
+     */
+    private TvDetailResponse cachedTvDetail(Content content) {
+        // 변경 없는 갱신의 동기화 시각은 일괄 반영 전까지 DB에 없으므로 먼저 덮어쓴다
+        boolean fresh = contentSyncTimestampBuffer.overlay(content).isFresh(tmdbSyncProperties.getSyncInterval());
+        if (!fresh && !contentRefreshService.isServableStale(content)) {
+            return null;
+        }
 
+        TmdbTvDetailResponse cached = tmdbDetailCache.getTvDetail(content.getTmdbId());
+        if (cached == null) {
+            return null;
+        }
 
+        if (fresh) {
+            log.debug("TMDB API 스킵 (fresh) - TV tmdbId={}", content.getTmdbId());
+        } else {
+            log.debug("stale 응답 후 백그라운드 갱신 - TV tmdbId={}", content.getTmdbId());
+            contentRefreshService.scheduleRefresh(content);
+        }
+        return TvDetailResponse.from(content, cached);
+    }
 
+    /**
+     * TMDB를 사용할 수 없을 때 (circuit open, timeout 등): 남아 있는 상세 캐시가 있으면 사용하고,
+     * 없으면 DB 값만으로 응답한다.
+     */
+    private TvDetailResponse fallbackTvDetail(Content content, TmdbUnavailableException e) {
+        log.warn("TMDB 사용 불가, DB 기반 응답 - TV tmdbId={}: {}", content.getTmdbId(), e.getMessage());
+        TmdbTvDetailResponse cached = tmdbDetailCache.getTvDetail(content.getTmdbId());
+        return cached != null ? TvDetailResponse.from(content, cached) : TvDetailResponse.fromContent(content);
+    }
 
+    /**
+     * 기본 언어가 아닌 언어의 번역 문자열.
+     * 캐시 miss이면 그 언어로 TMDB 상세를 받아 번역 문자열만 캐싱한다.
+     * 받은 지 동기화 주기가 지난 번역은 그대로 응답하고 재조회는 백그라운드로 예약한다. (기본 언어 상세와 동일)
+     * TMDB를 사용할 수 없으면 empty (기본 언어 응답 그대로 사용)
+     */
+    private Mono<TmdbLocalizedText> localizedTextAsync(ContentType contentType, Long tmdbId, String language) {
+        Mono<TmdbLocalizedText> fetched = (contentType == ContentType.MOVIE
+                ? reactiveTmdbApiService.getMovieDetails(tmdbId, language).map(TmdbLocalizedText::of)
+                : reactiveTmdbApiService.getTvDetails(tmdbId, language).map(TmdbLocalizedText::of))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(text -> tmdbDetailCache.putLocalizedText(contentType, tmdbId, language, text));
 
+        return Mono.fromCallable(() -> tmdbDetailCache.getLocalizedText(contentType, tmdbId, language))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(cached -> {
+                    if (!cached.isFresh(tmdbSyncProperties.getSyncInterval())) {
+                        log.debug("stale 번역 응답 후 백그라운드 갱신 - {} tmdbId={}, language={}",
+                                contentType, tmdbId, language);
+                        contentRefreshService.scheduleLocalizedRefresh(contentType, tmdbId, language);
+                    }
+                    return cached.text();
+                })
+                .switchIfEmpty(fetched)
+                .onErrorResume(TmdbUnavailableException.class, e -> {
+                    log.warn("TMDB 사용 불가, 기본 언어로 응답 - {} tmdbId={}, language={}: {}",
+                            contentType, tmdbId, language, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Content getOrCreateContent(Long tmdbId, ContentType contentType) {
+        return contentCacheManager.getOrCreate(tmdbId, contentType);
+    }
+}
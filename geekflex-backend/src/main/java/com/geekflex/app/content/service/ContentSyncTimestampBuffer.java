@@ -0,0 +1,121 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.repository.ContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변경 없는 갱신의 동기화 시각(last_synced_at)을 모아 주기적으로 일괄 UPDATE.
+ * <p>
+ * TMDB 응답이 저장된 값과 같으면(payload_hash 일치) 콘텐츠 행을 쓰지 않고 동기화 시각만 여기에 기록한다.
+ * 반영 전까지는 같은 인스턴스의 신선도 판단에 {@link #overlay(Content)}로 기록된 시각을 사용한다.
+ * 반영은 묶음에서 가장 이른 시각으로 하므로, DB의 동기화 시각은 실제보다 최대 반영 주기만큼 이를 수 있다. (더 일찍 만료 → 안전한 쪽)
+ */
+@Component
+@Log4j2
+public class ContentSyncTimestampBuffer {
+
+    // UPDATE 1회당 최대 id 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final ContentRepository contentRepository;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+
+    public ContentSyncTimestampBuffer(ContentRepository contentRepository, MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.flushedCounter = Counter.builder("content.sync.flushed")
+                .description("일괄 UPDATE로 반영한 동기화 시각 건수")
+                .register(meterRegistry);
+        Gauge.builder("content.sync.pending", pending, Map::size)
+                .description("반영 대기 중인 동기화 시각 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동기화 시각 기록 (엔티티에도 바로 반영)
+     */
+    public void touch(Content content, LocalDateTime syncedAt) {
+        content.setLastSyncedAt(syncedAt);
+        pending.merge(content.getId(), syncedAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 동기화 시각이 엔티티 값보다 최신이면 덮어쓴다.
+     */
+    public Content overlay(Content content) {
+        LocalDateTime syncedAt = content.getId() != null ? pending.get(content.getId()) : null;
+        if (syncedAt != null && (content.getLastSyncedAt() == null || syncedAt.isAfter(content.getLastSyncedAt()))) {
+            content.setLastSyncedAt(syncedAt);
+        }
+        return content;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 동기화 시각을 FLUSH_BATCH_SIZE건씩 일괄 UPDATE.
+     * 실패한 묶음은 다시 대기열에 넣어 다음 반영 때 재시도한다.
+     * @return 반영을 시도한 건수
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(FLUSH_BATCH_SIZE);
+        LocalDateTime earliest = null;
+        int flushed = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            // 반영 중 더 최신 시각이 기록된 항목은 남겨 두고 다음 반영에서 처리
+            if (!pending.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            ids.add(entry.getKey());
+            earliest = earliest == null || entry.getValue().isBefore(earliest) ? entry.getValue() : earliest;
+            if (ids.size() == FLUSH_BATCH_SIZE) {
+                flushed += write(ids, earliest);
+                ids = new ArrayList<>(FLUSH_BATCH_SIZE);
+                earliest = null;
+            }
+        }
+        if (!ids.isEmpty()) {
+            flushed += write(ids, earliest);
+        }
+        return flushed;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("종료 전 동기화 시각 반영 실패 - {}건 유실 (다음 조회 시 다시 갱신됨): {}",
+                    pending.size(), e.getMessage());
+        }
+    }
+
+    private int write(List<Long> ids, LocalDateTime syncedAt) {
+        try {
+            contentRepository.touchLastSyncedAt(ids, syncedAt);
+            flushedCounter.increment(ids.size());
+            return ids.size();
+        } catch (RuntimeException e) {
+            ids.forEach(id -> pending.merge(id, syncedAt, (current, failed) -> current));
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.geekflex.app.content.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 빈도 추정용 count-min sketch.
+ * <p>
+ * depth개의 행마다 서로 다른 해시로 칸 하나를 골라 증가시키고, 추정값은 그 칸들의 최솟값이다.
+ * (해시 충돌로 실제보다 크게 추정될 수는 있어도 작게 추정되지는 않음)
+ * 키 개수와 무관하게 depth × width 크기의 메모리만 사용한다.
+ */
+final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final AtomicIntegerArray[] rows;
+    private final int mask;
+
+    /**
+     * @param width 행당 칸 수 (2의 거듭제곱으로 올림)
+     */
+    CountMinSketch(int width) {
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.rows = new AtomicIntegerArray[SEEDS.length];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new AtomicIntegerArray(size);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 1 증가시키고 증가 후의 추정값 반환
+     */
+    int increment(long key) {
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < rows.length; i++) {
+            int count = rows[i].incrementAndGet(index(key, i));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    int estimate(long key) {
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < rows.length; i++) {
+            estimate = Math.min(estimate, rows[i].get(index(key, i)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 칸을 절반으로 줄인다 (오래된 접근의 비중을 낮춤)
+     */
+    void halve() {
+        for (AtomicIntegerArray row : rows) {
+            for (int i = 0; i < row.length(); i++) {
+                row.updateAndGet(i, count -> count >>> 1);
+            }
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,111 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.ContentType;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상세 조회 빈도 추적 (인기 콘텐츠 선제 갱신용).
+ * <p>
+ * 빈도는 {@link CountMinSketch}로 추정하고, 상위 후보만 작은 Map에 보관한다.
+ * 후보가 가득 차면 직전 상위 N건의 최소 빈도보다 자주 조회된 콘텐츠만 가장 약한 후보와 교체된다.
+ * 주기적으로 {@link #decay()}를 호출해 최근 조회에 더 큰 비중을 둔다.
+ */
+@Component
+public class HotContentTracker {
+
+    private static final int SKETCH_WIDTH = 1 << 14;
+    static final int MAX_CANDIDATES = 2_000;
+
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_WIDTH);
+    private final Map<HotContent, Boolean> candidates = new ConcurrentHashMap<>();
+
+    // 후보가 가득 찼을 때 새 후보가 넘어야 하는 빈도 (마지막 top() 결과의 최소 빈도, 상위 N건이 안 되면 0)
+    private volatile int admissionFloor;
+
+    /**
+     * 후보 목록은 MAX_CANDIDATES건을 넘지 않는다.
+     * 가득 차면 admissionFloor(첫 top() 전에는 1)를 넘는 콘텐츠만 가장 약한 후보를 밀어내고 들어온다.
+     * (존재하지 않는 id를 훑는 요청은 빈도가 1이므로 후보가 되지 못함)
+     */
+    public void record(ContentType contentType, Long tmdbId) {
+        if (tmdbId == null) {
+            return;
+        }
+        HotContent key = new HotContent(contentType, tmdbId);
+        int estimate = sketch.increment(sketchKey(key));
+        if (candidates.containsKey(key)
+                || (candidates.size() >= MAX_CANDIDATES && estimate <= Math.max(admissionFloor, 1))) {
+            return;
+        }
+        admit(key, estimate);
+    }
+
+    private synchronized void admit(HotContent key, int estimate) {
+        if (candidates.size() < MAX_CANDIDATES) {
+            candidates.put(key, Boolean.TRUE);
+            return;
+        }
+        HotContent weakest = null;
+        int weakestEstimate = estimate;
+        for (HotContent candidate : candidates.keySet()) {
+            int candidateEstimate = sketch.estimate(sketchKey(candidate));
+            if (candidateEstimate < weakestEstimate) {
+                weakest = candidate;
+                weakestEstimate = candidateEstimate;
+            }
+        }
+        if (weakest != null) {
+            candidates.remove(weakest);
+            candidates.put(key, Boolean.TRUE);
+        }
+    }
+
+    int candidateCount() {
+        return candidates.size();
+    }
+
+    public int estimate(ContentType contentType, Long tmdbId) {
+        return sketch.estimate(sketchKey(new HotContent(contentType, tmdbId)));
+    }
+
+    /**
+     * 추정 빈도 상위 limit건 (빈도 내림차순). 후보 목록은 상위 MAX_CANDIDATES건으로 정리한다.
+     */
+    public List<HotContent> top(int limit) {
+        Map<HotContent, Integer> estimates = new HashMap<>();
+        candidates.keySet().forEach(key -> estimates.put(key, sketch.estimate(sketchKey(key))));
+
+        List<HotContent> ranked = estimates.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<HotContent, Integer>comparingByValue(Comparator.reverseOrder()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // 하위 후보와 빈도가 0이 된 후보 제거
+        candidates.keySet().retainAll(ranked.subList(0, Math.min(ranked.size(), MAX_CANDIDATES)));
+
+        List<HotContent> top = ranked.subList(0, Math.min(ranked.size(), limit));
+        admissionFloor = top.size() < limit ? 0 : estimates.get(top.getLast());
+        return List.copyOf(top);
+    }
+
+    /**
+     * 모든 빈도를 절반으로 줄인다
+     */
+    public void decay() {
+        sketch.halve();
+    }
+
+    private static long sketchKey(HotContent key) {
+        return key.tmdbId() * 2 + key.contentType().ordinal();
+    }
+
+    public record HotContent(ContentType contentType, Long tmdbId) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.geekflex.app.content.service;
 
+import com.geekflex.app.content.dto.AutocompleteResponse;
 import com.geekflex.app.content.dto.movie.MovieSearchResponse;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -12,14 +14,14 @@ public interface MovieSearchService {
      * @param keyword  검색어 (영화 제목)
      * @return 검색된 영화 List
      */
-    List<MovieSearchResponse> searchMovies(String keyword);
-}
-
-
-
-
-
-
-
-
+    Mono<List<MovieSearchResponse>> searchMovies(String keyword);
 
+    /**
+     * 제목 자동완성 (자모 접두어 / 초성)
+     *
+     * @param keyword 입력 중인 검색어 (예: "어벤", "ㅇㅂㅈㅅ")
+     * @param size    최대 건수
+     * @return 인기도 순 영화 List
+     */
+    List<AutocompleteResponse> autocomplete(String keyword, int size);
+}
@@ -0,0 +1,239 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.event.CategoryRefreshedEvent;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentListTagRepository;
+import com.geekflex.app.content.repository.ContentRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 무작위 콘텐츠 추출용 인메모리 id 목록.
+ * <p>
+ * ORDER BY RAND()는 호출마다 contents 전체를 정렬하므로, 타입별 id를 long[]로 보관하고
+ * 위치를 중복 없이 균등하게 뽑는다. (Floyd 알고리즘, 뽑는 개수에만 비례)
+ * <p>
+ * - 타입별 id: 시작 시 id만 읽어 적재하고, 콘텐츠 저장 이벤트로 새 id를 덧붙인다.
+ * 다른 인스턴스가 저장한 콘텐츠는 주기적인 재적재로 반영된다.
+ * - 태그별 id: 공개된 스냅샷의 id를 처음 요청될 때 읽고, 새 스냅샷이 공개되면 버린다.
+ */
+@Component
+@Log4j2
+public class RandomContentSampler {
+
+    private final ContentRepository contentRepository;
+    private final ContentListTagRepository contentListTagRepository;
+
+    private volatile Map<ContentType, IdArray> byType = emptyArrays();
+    private final Map<TagType, long[]> byTag = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // 재적재 중 들어온 id (재적재 완료 후 새 목록에 다시 반영), 재적재 중이 아니면 null
+    private List<Content> pendingDuringRebuild;
+    private final Object writeLock = new Object();
+
+    public RandomContentSampler(ContentRepository contentRepository,
+                                ContentListTagRepository contentListTagRepository) {
+        this.contentRepository = contentRepository;
+        this.contentListTagRepository = contentListTagRepository;
+    }
+
+    public int size(ContentType contentType) {
+        return byType.get(contentType).size();
+    }
+
+    @EventListener
+    public void onContentUpserted(ContentUpsertedEvent event) {
+        synchronized (writeLock) {
+            for (Content content : event.contents()) {
+                if (content.getId() == null || content.getContentType() == null) {
+                    continue;
+                }
+                byType.get(content.getContentType()).add(content.getId());
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(content);
+                }
+            }
+        }
+    }
+
+    @EventListener
+    public void onCategoryRefreshed(CategoryRefreshedEvent event) {
+        byTag.remove(event.tagType());
+    }
+
+    /**
+     * DB의 id 목록을 다시 읽어 교체한다. 태그별 id도 다음 요청 시 다시 읽는다.
+     */
+    public synchronized void rebuild() {
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Map<ContentType, IdArray> rebuilt = emptyArrays();
+        try {
+            contentRepository.forEachId((contentType, id) -> rebuilt.get(contentType).add(id));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            pendingDuringRebuild.forEach(content -> rebuilt.get(content.getContentType()).add(content.getId()));
+            pendingDuringRebuild = null;
+            byType = rebuilt;
+            ready = true;
+        }
+        byTag.clear();
+        log.info("무작위 추출 id 목록 적재 완료 - MOVIE {}건, TV {}건",
+                rebuilt.get(ContentType.MOVIE).size(), rebuilt.get(ContentType.TV).size());
+    }
+
+    /**
+     * 조건에 맞는 콘텐츠 id를 중복 없이 최대 count개 무작위로 뽑는다.
+     *
+     * @param contentType null이면 전체 타입
+     * @param tagType     null이면 태그 조건 없음
+     */
+    public List<Long> sample(ContentType contentType, TagType tagType, int count) {
+        if (!ready) {
+            loadOnce();
+        }
+
+        IdSource source = tagType != null ? tagSource(tagType, contentType) : typeSource(contentType);
+        int total = source.size();
+        int picks = Math.min(count, total);
+        if (picks <= 0) {
+            return List.of();
+        }
+
+        // Floyd 알고리즘: total개 위치 중 picks개를 중복 없이 균등하게 선택
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> chosen = new HashSet<>(picks * 2);
+        for (int bound = total - picks; bound < total; bound++) {
+            int position = random.nextInt(bound + 1);
+            chosen.add(chosen.contains(position) ? bound : position);
+        }
+
+        List<Long> ids = new ArrayList<>(picks);
+        chosen.forEach(position -> ids.add(source.idAt(position)));
+        Collections.shuffle(ids, random);
+        return ids;
+    }
+
+    // 시작 직후 적재가 끝나기 전에 요청이 오면 직접 적재
+    private synchronized void loadOnce() {
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    private IdSource typeSource(ContentType contentType) {
+        Map<ContentType, IdArray> current = byType;
+        if (contentType != null) {
+            return current.get(contentType).snapshot();
+        }
+
+        // 전체 타입: 타입별 목록을 이어 붙인 것처럼 위치를 나눈다
+        IdSource movies = current.get(ContentType.MOVIE).snapshot();
+        IdSource tvs = current.get(ContentType.TV).snapshot();
+        return new IdSource() {
+            @Override
+            public int size() {
+                return movies.size() + tvs.size();
+            }
+
+            @Override
+            public long idAt(int position) {
+                return position < movies.size() ? movies.idAt(position) : tvs.idAt(position - movies.size());
+            }
+        };
+    }
+
+    private IdSource tagSource(TagType tagType, ContentType contentType) {
+        long[] ids = byTag.computeIfAbsent(tagType, tag -> contentListTagRepository.findCurrentContentIds(tag)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray());
+        if (contentType != null) {
+            IdArray ofType = byType.get(contentType);
+            ids = Arrays.stream(ids).filter(ofType::contains).toArray();
+        }
+        return new Snapshot(ids, ids.length);
+    }
+
+    private static Map<ContentType, IdArray> emptyArrays() {
+        Map<ContentType, IdArray> arrays = new EnumMap<>(ContentType.class);
+        for (ContentType contentType : ContentType.values()) {
+            arrays.put(contentType, new IdArray());
+        }
+        return arrays;
+    }
+
+    private interface IdSource {
+        int size();
+
+        long idAt(int position);
+    }
+
+    private record Snapshot(long[] ids, int size) implements IdSource {
+        @Override
+        public long idAt(int position) {
+            return ids[position];
+        }
+    }
+
+    /**
+     * 덧붙이기만 하는 id 배열 (중복 id는 BitSet으로 거름).
+     * 읽기는 (배열, 크기) 스냅샷으로 하므로, 스냅샷 이후 뒤에 덧붙여진 칸은 보지 않는다.
+     */
+    private static final class IdArray {
+        private final BitSet present = new BitSet();
+        private volatile Snapshot snapshot = new Snapshot(new long[64], 0);
+
+        synchronized void add(long id) {
+            if (id < 0 || id > Integer.MAX_VALUE || present.get((int) id)) {
+                return;
+            }
+            present.set((int) id);
+
+            Snapshot current = snapshot;
+            long[] ids = current.ids();
+            if (current.size() == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[current.size()] = id;
+            snapshot = new Snapshot(ids, current.size() + 1);
+        }
+
+        synchronized boolean contains(long id) {
+            return id >= 0 && id <= Integer.MAX_VALUE && present.get((int) id);
+        }
+
+        int size() {
+            return snapshot.size();
+        }
+
+        Snapshot snapshot() {
+            return snapshot;
+        }
+    }
+}
@@ -1,174 +1,128 @@
 package com.geekflex.app.content.service;
 
-import com.geekflex.app.common.exception.TmdbApiException;
 import com.geekflex.app.content.dto.tmdb.TmdbMovieListResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvListResponse;
 import com.geekflex.app.content.entity.Content;
-import com.geekflex.app.content.entity.ContentListTag;
 import com.geekflex.app.content.entity.ContentType;
 import com.geekflex.app.content.entity.TagType;
 import com.geekflex.app.content.entity.TmdbGenre;
+import com.geekflex.app.content.event.CategoryRefreshedEvent;
 import com.geekflex.app.content.repository.ContentListTagRepository;
-import com.geekflex.app.content.repository.ContentRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import com.geekflex.app.content.service.tmdb.TmdbEndpoint;
+import com.geekflex.app.content.service.tmdb.TmdbLanguage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.dao.CannotAcquireLockException;
-import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.LinkedHashMap;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class TmdbCachingService {
 
-    private static final String DEFAULT_LANGUAGE = "ko-KR";
     private static final String DEFAULT_REGION = "KR";
-    private static final int DEFAULT_PAGE = 1;
-    private static final int MAX_RETRIES = 3;
 
     private final WebClient tmdbWebClient;
-    private final ContentRepository contentRepository;
     private final ContentListTagRepository contentListTagRepository;
-
-    @PersistenceContext
-    private EntityManager entityManager;
-
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    private final TmdbCategoryProperties tmdbCategoryProperties;
+    private final CategoryIngestionPipeline categoryIngestionPipeline;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 영화 카테고리 수집. TMDB 호출 중에는 DB 커넥션을 점유하지 않고,
+     * 배치별 upsert와 태그 교체만 각각 짧은 트랜잭션으로 수행한다.
+     */
     public void cacheCategory(TagType tagType, String apiPath) {
-        TmdbMovieListResponse response = requestCategoryMovies(tagType, apiPath);
-        if (isInvalidResponse(response, tagType)) {
-            return;
-        }
+        Map<Long, Long> contentIds = categoryIngestionPipeline.run(tagType, ContentType.MOVIE,
+                categoryPages(tagType, apiPath, true, TmdbMovieListResponse.class, TmdbMovieListResponse::getTotalPages),
+                response -> toContents(response.getResults(), this::toContent));
 
-        replaceCategoryTags(tagType, response);
+        replaceCategoryTags(tagType, contentIds);
     }
 
-    private TmdbMovieListResponse requestCategoryMovies(TagType tagType, String apiPath) {
+    /**
+     * 카테고리 목록 페이지 스트림.
+     * 1페이지로 total_pages를 확인한 뒤, 나머지 페이지는 요청 예산(동시 요청 수, 초당 요청 수) 안에서 병렬로 가져온다.
+     * 페이지 순서를 유지하며, 2페이지 이후의 실패는 해당 페이지만 건너뛴다.
+     */
+    private <T> Flux<T> categoryPages(TagType tagType, String apiPath, boolean withRegion,
+                                      Class<T> responseType, ToIntFunction<T> totalPages) {
         log.info("[{}] TMDB API 호출 시작", tagType);
 
-        TmdbMovieListResponse response = tmdbWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path(apiPath)
-                        .queryParam("language", DEFAULT_LANGUAGE)
-                        .queryParam("page", DEFAULT_PAGE)
-                        .queryParam("region", DEFAULT_REGION)
-                        .build())
+        return requestCategoryPage(apiPath, 1, withRegion, responseType)
+                .flatMapMany(first -> {
+                    int lastPage = Math.min(tmdbCategoryProperties.pageDepthOf(tagType), totalPages.applyAsInt(first));
+                    log.info("TMDB 응답 수신 - API: {}: {}페이지 수집", tagType, lastPage);
+                    if (lastPage <= 1) {
+                        return Flux.just(first);
+                    }
+
+                    Duration spacing = Duration.ofMillis(1_000L / Math.max(1, tmdbCategoryProperties.getRequestsPerSecond()));
+                    Flux<T> rest = Flux.range(2, lastPage - 1)
+                            .delayElements(spacing)
+                            .flatMapSequential(page -> requestCategoryPage(apiPath, page, withRegion, responseType)
+                                            .onErrorResume(e -> {
+                                                log.warn("[{}] {}페이지 수집 실패, 건너뜀: {}", tagType, page, e.getMessage());
+                                                return Mono.empty();
+                                            }),
+                                    tmdbCategoryProperties.getMaxConcurrentPages());
+                    return Flux.concat(Mono.just(first), rest);
+                });
+    }
+
+    private <T> Mono<T> requestCategoryPage(String apiPath, int page, boolean withRegion, Class<T> responseType) {
+        return categoryIngestionPipeline.timedFetch(tmdbWebClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(apiPath)
+                            .queryParam("language", TmdbLanguage.DEFAULT)
+                            .queryParam("page", page);
+                    if (withRegion) {
+                        uriBuilder.queryParam("region", DEFAULT_REGION);
+                    }
+                    return uriBuilder.build();
+                })
+                .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.CATEGORY_LIST)
                 .retrieve()
-                .bodyToMono(TmdbMovieListResponse.class)
-                .block();
-
-        int count = response == null || response.getResults() == null ? 0 : response.getResults().size();
-        log.info("TMDB 응답 수신 - API: {}: {}건", tagType, count);
-        return response;
-    }
-
-    private boolean isInvalidResponse(TmdbMovieListResponse response, TagType tagType) {
-        if (response != null && response.getResults() != null) {
-            return false;
-        }
-
-        log.warn("TMDB 응답 실패 또는 빈 목록 (tagType: {})", tagType);
-        return true;
-    }
-
-    private void replaceCategoryTags(TagType tagType, TmdbMovieListResponse response) {
-        contentListTagRepository.deleteByTagType(tagType);
-
-        Map<Long, ContentListTag> tagMap = buildTagMap(tagType, response);
-        contentListTagRepository.saveAll(tagMap.values());
-
-        log.info("[{}] 태그 저장 완료: {}건", tagType, tagMap.size());
-    }
-
-    private Map<Long, ContentListTag> buildTagMap(TagType tagType, TmdbMovieListResponse response) {
-        Map<Long, ContentListTag> tagMap = new LinkedHashMap<>();
-
-        for (TmdbMovieListResponse.MovieSummary movie : response.getResults()) {
-            if (tagMap.containsKey(movie.getId())) {
-                log.warn("중복된 영화 건너뛰기: tmdbId={}", movie.getId());
-                continue;
-            }
-
-            Content content = getOrCreateContentInSeparateTransaction(movie);
-            tagMap.put(movie.getId(), buildTag(tagType, content));
-        }
-
-        return tagMap;
+                .bodyToMono(responseType));
     }
 
-    private ContentListTag buildTag(TagType tagType, Content content) {
-        return ContentListTag.builder()
-                .content(content)
-                .tagType(tagType)
-                .region(DEFAULT_REGION)
-                .build();
+    private static <S> List<Content> toContents(List<S> results, Function<S, Content> mapper) {
+        return results == null ? List.of() : results.stream().map(mapper).toList();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
-    private Content getOrCreateContentInSeparateTransaction(TmdbMovieListResponse.MovieSummary movie) {
-        int retryCount = 0;
-
-        while (retryCount < MAX_RETRIES) {
-            try {
-                return upsertContent(movie);
-            } catch (CannotAcquireLockException | JpaSystemException e) {
-                retryCount++;
-                clearPersistenceContext();
-
-                if (retryCount >= MAX_RETRIES) {
-                    log.error("데드락 재시도 실패 ({}회 시도) - tmdbId={}", MAX_RETRIES, movie.getId(), e);
-                    throw e;
-                }
-
-                log.warn("데드락 발생 - 재시도 {}/{} - tmdbId={}", retryCount, MAX_RETRIES, movie.getId());
-                sleepBeforeRetry();
-            } catch (DataIntegrityViolationException e) {
-                clearPersistenceContext();
-                log.warn("동시성 중복 INSERT 감지 - tmdbId={}", movie.getId());
-
-                return contentRepository.findByTmdbIdAndContentType(movie.getId(), ContentType.MOVIE)
-                        .map(existing -> updateContent(existing, movie))
-                        .orElseThrow(() -> e);
-            } catch (Exception e) {
-                clearPersistenceContext();
-                throw e;
-            }
+    /**
+     * 새 스냅샷으로 태그 batch insert → 포인터 교체로 공개.
+     * 포인터가 바뀌기 전까지 조회는 이전 스냅샷을 그대로 읽으며, 이전 스냅샷은 백그라운드 GC가 정리한다.
+     */
+    private void replaceCategoryTags(TagType tagType, Map<Long, Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            log.warn("TMDB 응답 실패 또는 빈 목록 (tagType: {})", tagType);
+            return;
         }
 
-        throw new TmdbApiException("영화 캐싱 재시도 로직 오류");
-    }
+        long snapshotId = contentListTagRepository.createSnapshot(tagType);
+        Integer saved = transactionTemplate.execute(status ->
+                contentListTagRepository.insertAll(tagType, snapshotId, DEFAULT_REGION, List.copyOf(contentIds.values())));
+        contentListTagRepository.publishSnapshot(tagType, snapshotId);
+        eventPublisher.publishEvent(new CategoryRefreshedEvent(tagType, snapshotId));
 
-    private Content upsertContent(TmdbMovieListResponse.MovieSummary movie) {
-        return contentRepository.findByTmdbIdAndContentType(movie.getId(), ContentType.MOVIE)
-                .map(existing -> updateContent(existing, movie))
-                .orElseGet(() -> createContent(movie));
+        log.info("[{}] 태그 저장 완료: {}건 (snapshot={})", tagType, saved, snapshotId);
     }
 
-    private void clearPersistenceContext() {
-        entityManager.clear();
-    }
-
-    private void sleepBeforeRetry() {
-        try {
-            Thread.sleep(50 + (long) (Math.random() * 100));
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            throw new TmdbApiException("재시도 중 인터럽트 발생", ie);
-        }
-    }
-
-    private Content createContent(TmdbMovieListResponse.MovieSummary movie) {
-        Content content = Content.builder()
+    private Content toContent(TmdbMovieListResponse.MovieSummary movie) {
+        return Content.builder()
                 .tmdbId(movie.getId())
                 .contentType(ContentType.MOVIE)
                 .title(movie.getTitle())
@@ -182,133 +136,23 @@ public class TmdbCachingService {
                 .voteCount(movie.getVoteCount())
                 .popularity(movie.getPopularity())
                 .genre(TmdbGenre.convertGenreIdsToString(movie.getGenreIds()))
+                .genreBits(TmdbGenre.toBits(movie.getGenreIds()))
                 .originCountry("")
                 .build();
-
-        return contentRepository.save(content);
-    }
-
-    private Content updateContent(Content content, TmdbMovieListResponse.MovieSummary movie) {
-        content.setTitle(movie.getTitle());
-        content.setOriginalTitle(movie.getOriginalTitle());
-        content.setOriginalLanguage(movie.getOriginalLanguage());
-        content.setOverview(movie.getOverview());
-        content.setPosterUrl(movie.getPosterPath());
-        content.setBackdropUrl(movie.getBackdropPath());
-        content.setReleaseDate(movie.getReleaseDate());
-        content.setVoteAverage(movie.getVoteAverage());
-        content.setVoteCount(movie.getVoteCount());
-        content.setPopularity(movie.getPopularity());
-        content.setGenre(TmdbGenre.convertGenreIdsToString(movie.getGenreIds()));
-        return content;
     }
 
     // ========== TV 카테고리 캐싱 ==========
 
-    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void cacheTvCategory(TagType tagType, String apiPath) {
-        TmdbTvListResponse response = requestCategoryTv(tagType, apiPath);
-        if (isInvalidTvResponse(response, tagType)) {
-            return;
-        }
-
-        replaceTvCategoryTags(tagType, response);
-    }
-
-    private TmdbTvListResponse requestCategoryTv(TagType tagType, String apiPath) {
-        log.info("[{}] TMDB TV API 호출 시작", tagType);
-
-        TmdbTvListResponse response = tmdbWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path(apiPath)
-                        .queryParam("language", DEFAULT_LANGUAGE)
-                        .queryParam("page", DEFAULT_PAGE)
-                        .build())
-                .retrieve()
-                .bodyToMono(TmdbTvListResponse.class)
-                .block();
-
-        int count = response == null || response.getResults() == null ? 0 : response.getResults().size();
-        log.info("TMDB TV 응답 수신 - API: {}: {}건", tagType, count);
-        return response;
-    }
-
-    private boolean isInvalidTvResponse(TmdbTvListResponse response, TagType tagType) {
-        if (response != null && response.getResults() != null) {
-            return false;
-        }
-
-        log.warn("TMDB TV 응답 실패 또는 빈 목록 (tagType: {})", tagType);
-        return true;
-    }
-
-    private void replaceTvCategoryTags(TagType tagType, TmdbTvListResponse response) {
-        contentListTagRepository.deleteByTagType(tagType);
-
-        Map<Long, ContentListTag> tagMap = buildTvTagMap(tagType, response);
-        contentListTagRepository.saveAll(tagMap.values());
-
-        log.info("[{}] TV 태그 저장 완료: {}건", tagType, tagMap.size());
-    }
+        Map<Long, Long> contentIds = categoryIngestionPipeline.run(tagType, ContentType.TV,
+                categoryPages(tagType, apiPath, false, TmdbTvListResponse.class, TmdbTvListResponse::getTotalPages),
+                response -> toContents(response.getResults(), this::toTvContent));
 
-    private Map<Long, ContentListTag> buildTvTagMap(TagType tagType, TmdbTvListResponse response) {
-        Map<Long, ContentListTag> tagMap = new LinkedHashMap<>();
-
-        for (TmdbTvListResponse.TvSummary tv : response.getResults()) {
-            if (tagMap.containsKey(tv.getId())) {
-                log.warn("중복된 TV 건너뛰기: tmdbId={}", tv.getId());
-                continue;
-            }
-
-            Content content = getOrCreateTvContentInSeparateTransaction(tv);
-            tagMap.put(tv.getId(), buildTag(tagType, content));
-        }
-
-        return tagMap;
+        replaceCategoryTags(tagType, contentIds);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
-    private Content getOrCreateTvContentInSeparateTransaction(TmdbTvListResponse.TvSummary tv) {
-        int retryCount = 0;
-
-        while (retryCount < MAX_RETRIES) {
-            try {
-                return upsertTvContent(tv);
-            } catch (CannotAcquireLockException | JpaSystemException e) {
-                retryCount++;
-                clearPersistenceContext();
-
-                if (retryCount >= MAX_RETRIES) {
-                    log.error("TV 데드락 재시도 실패 ({}회 시도) - tmdbId={}", MAX_RETRIES, tv.getId(), e);
-                    throw e;
-                }
-
-                log.warn("TV 데드락 발생 - 재시도 {}/{} - tmdbId={}", retryCount, MAX_RETRIES, tv.getId());
-                sleepBeforeRetry();
-            } catch (DataIntegrityViolationException e) {
-                clearPersistenceContext();
-                log.warn("TV 동시성 중복 INSERT 감지 - tmdbId={}", tv.getId());
-
-                return contentRepository.findByTmdbIdAndContentType(tv.getId(), ContentType.TV)
-                        .map(existing -> updateTvContent(existing, tv))
-                        .orElseThrow(() -> e);
-            } catch (Exception e) {
-                clearPersistenceContext();
-                throw e;
-            }
-        }
-
-        throw new TmdbApiException("TV 캐싱 재시도 로직 오류");
-    }
-
-    private Content upsertTvContent(TmdbTvListResponse.TvSummary tv) {
-        return contentRepository.findByTmdbIdAndContentType(tv.getId(), ContentType.TV)
-                .map(existing -> updateTvContent(existing, tv))
-                .orElseGet(() -> createTvContent(tv));
-    }
-
-    private Content createTvContent(TmdbTvListResponse.TvSummary tv) {
-        Content content = Content.builder()
+    private Content toTvContent(TmdbTvListResponse.TvSummary tv) {
+        return Content.builder()
                 .tmdbId(tv.getId())
                 .contentType(ContentType.TV)
                 .title(tv.getName())
@@ -322,24 +166,8 @@ public class TmdbCachingService {
                 .voteCount(tv.getVoteCount())
                 .popularity(tv.getPopularity())
                 .genre(TmdbGenre.convertGenreIdsToString(tv.getGenreIds()))
+                .genreBits(TmdbGenre.toBits(tv.getGenreIds()))
                 .originCountry("")
                 .build();
-
-        return contentRepository.save(content);
-    }
-
-    private Content updateTvContent(Content content, TmdbTvListResponse.TvSummary tv) {
-        content.setTitle(tv.getName());
-        content.setOriginalTitle(tv.getOriginalName());
-        content.setOriginalLanguage(tv.getOriginalLanguage());
-        content.setOverview(tv.getOverview());
-        content.setPosterUrl(tv.getPosterPath());
-        content.setBackdropUrl(tv.getBackdropPath());
-        content.setReleaseDate(tv.getFirstAirDate());
-        content.setVoteAverage(tv.getVoteAverage());
-        content.setVoteCount(tv.getVoteCount());
-        content.setPopularity(tv.getPopularity());
-        content.setGenre(TmdbGenre.convertGenreIdsToString(tv.getGenreIds()));
-        return content;
     }
 }
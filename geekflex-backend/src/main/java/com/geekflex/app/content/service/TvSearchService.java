@@ -1,5 +1,7 @@
 package com.geekflex.app.content.service;
+import com.geekflex.app.content.dto.AutocompleteResponse;
 import com.geekflex.app.content.dto.tv.TvSearchResponse;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -11,14 +13,14 @@ public interface TvSearchService {
      * @param keyword  검색어 (드라마 제목)
      * @return 검색된 드라마 List
      */
-    List<TvSearchResponse> searchTv(String keyword);
-}
-
-
-
-
-
-
-
-
+    Mono<List<TvSearchResponse>> searchTv(String keyword);
 
+    /**
+     * 제목 자동완성 (자모 접두어 / 초성)
+     *
+     * @param keyword 입력 중인 검색어 (예: "어벤", "ㅇㅂㅈㅅ")
+     * @param size    최대 건수
+     * @return 인기도 순 드라마 List
+     */
+    List<AutocompleteResponse> autocomplete(String keyword, int size);
+}
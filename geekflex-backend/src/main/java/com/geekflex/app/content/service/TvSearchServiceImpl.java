@@ -2,14 +2,25 @@ package com.geekflex.app.content.service;
 
 import com.geekflex.app.common.exception.InvalidSearchKeywordException;
 import com.geekflex.app.common.exception.TmdbApiException;
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import com.geekflex.app.content.dto.AutocompleteResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvListResponse;
 import com.geekflex.app.content.dto.tv.TvSearchResponse;
-import com.geekflex.app.content.service.tmdb.TmdbApiService;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.repository.TvSearchRepositoryCustom;
+import com.geekflex.app.content.service.search.AutocompleteIndex;
+import com.geekflex.app.content.service.search.ContentSearchIndex;
+import com.geekflex.app.content.service.search.ContentSearchProperties;
+import com.geekflex.app.content.service.search.SearchResultCache;
+import com.geekflex.app.content.service.tmdb.ReactiveTmdbApiService;
 import com.geekflex.app.content.service.tmdb.TmdbImageUrlBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Comparator;
 import java.util.List;
@@ -19,22 +30,100 @@ import java.util.List;
 @Log4j2
 public class TvSearchServiceImpl implements TvSearchService {
 
-    private final TmdbApiService tmdbApiService;
+    private final ReactiveTmdbApiService reactiveTmdbApiService;
+    private final TvSearchRepositoryCustom tvSearchRepository;
+    private final ContentSearchIndex contentSearchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final ContentSearchProperties contentSearchProperties;
+    private final SearchResultCache searchResultCache;
 
     @Override
-    public List<TvSearchResponse> searchTv(String keyword) {
+    public Mono<List<TvSearchResponse>> searchTv(String keyword) {
         String normalizedKeyword = normalizeKeyword(keyword);
-        TmdbTvListResponse response = requestTvSearch(normalizedKeyword);
 
-        if (isEmptyResponse(response)) {
+        // 로컬 색인 결과가 충분하면 TMDB를 호출하지 않음
+        List<TvSearchResponse> localResults = searchIndex(normalizedKeyword);
+        if (contentSearchIndex.isReady() && localResults.size() >= contentSearchProperties.getRecallThreshold()) {
+            log.debug("로컬 색인 검색 결과 사용 - keyword: {}, 결과 수: {}", normalizedKeyword, localResults.size());
+            return Mono.just(localResults);
+        }
+
+        // 같은 검색어 또는 전체 결과가 캐시된 짧은 검색어(입력 중인 앞부분)가 있으면 재사용
+        List<TvSearchResponse> cached = searchResultCache.get(ContentType.TV, normalizedKeyword, this::narrow);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return requestTvSearch(normalizedKeyword)
+                .map(response -> {
+                    List<TvSearchResponse> results = isEmptyResponse(response)
+                            ? List.of()
+                            : sortByRelevance(response.getResults(), normalizedKeyword).stream()
+                                    .map(this::toTvSearchResponse)
+                                    .toList();
+                    // 첫 페이지에 전체 결과가 담겼으면 이후 더 긴 검색어는 이 결과를 걸러서 사용 가능
+                    boolean complete = response.getResults() == null
+                            || response.getTotalResults() <= response.getResults().size();
+                    searchResultCache.put(ContentType.TV, normalizedKeyword, results, complete);
+                    return results;
+                })
+                .defaultIfEmpty(List.of())
+                .onErrorResume(TmdbUnavailableException.class, e -> searchLocally(normalizedKeyword, localResults, e));
+    }
+
+    @Override
+    public List<AutocompleteResponse> autocomplete(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
             return List.of();
         }
+        int limit = Math.clamp(size, 1, contentSearchProperties.getMaxSuggestions());
+        return autocompleteIndex.suggest(ContentType.TV, keyword.trim(), limit).stream()
+                .map(AutocompleteResponse::from)
+                .toList();
+    }
 
-        return sortByRelevance(response.getResults(), normalizedKeyword).stream()
+    /**
+     * 짧은 검색어의 전체 결과에서 현재 검색어가 제목/원제목에 포함된 항목만 남기고 다시 정렬
+     */
+    private List<TvSearchResponse> narrow(List<TvSearchResponse> results, String keyword) {
+        return results.stream()
+                .filter(result -> normalize(result.name()).contains(keyword)
+                        || normalize(result.originalName()).contains(keyword))
+                .sorted(Comparator
+                        .comparing((TvSearchResponse result) -> normalize(result.name()).equals(keyword)
+                                || normalize(result.originalName()).equals(keyword) ? 0 : 1)
+                        .thenComparing(result -> normalize(result.name()).startsWith(keyword)
+                                || normalize(result.originalName()).startsWith(keyword) ? 0 : 1)
+                        .thenComparing(TvSearchResponse::popularity, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    private List<TvSearchResponse> searchIndex(String keyword) {
+        return contentSearchIndex.search(ContentType.TV, keyword, contentSearchProperties.getMaxResults()).stream()
                 .map(this::toTvSearchResponse)
                 .toList();
     }
 
+    /**
+     * TMDB를 사용할 수 없을 때 (circuit open, timeout 등): 로컬 색인 결과를 사용하고,
+     * 색인이 아직 준비되지 않았으면 DB에서 직접 검색
+     */
+    private Mono<List<TvSearchResponse>> searchLocally(String keyword, List<TvSearchResponse> localResults,
+                                                       TmdbUnavailableException e) {
+        if (contentSearchIndex.isReady()) {
+            log.warn("TMDB 사용 불가, 로컬 색인 결과로 대체 - keyword: {}: {}", keyword, e.getMessage());
+            return Mono.just(localResults);
+        }
+
+        log.warn("TMDB 사용 불가, DB 검색으로 대체 - keyword: {}: {}", keyword, e.getMessage());
+        return Mono.fromCallable(() -> tvSearchRepository
+                        .searchByKeyword(keyword, PageRequest.of(0, contentSearchProperties.getMaxResults()))
+                        .getContent().stream()
+                        .map(this::withImageUrls)
+                        .toList())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     private List<TmdbTvListResponse.TvSummary> sortByRelevance(
             List<TmdbTvListResponse.TvSummary> tvShows,
             String keyword
@@ -86,16 +175,18 @@ public class TvSearchServiceImpl implements TvSearchService {
         return normalized;
     }
 
-    private TmdbTvListResponse requestTvSearch(String keyword) {
-        try {
-            return tmdbApiService.searchTv(keyword);
-        } catch (WebClientException e) {
+    private Mono<TmdbTvListResponse> requestTvSearch(String keyword) {
+        return reactiveTmdbApiService.searchTv(keyword)
+                .onErrorMap(e -> !(e instanceof TmdbApiException), e -> toSearchException(keyword, e));
+    }
+
+    private TmdbApiException toSearchException(String keyword, Throwable e) {
+        if (e instanceof WebClientException) {
             log.error("TMDB API 호출 실패 - keyword: {}, error: {}", keyword, e.getMessage(), e);
-            throw new TmdbApiException("드라마 검색 API 호출에 실패했습니다.", e);
-        } catch (Exception e) {
-            log.error("TMDB API 호출 중 예상치 못한 오류 발생 - keyword: {}, error: {}", keyword, e.getMessage(), e);
-            throw new TmdbApiException("드라마 검색 중 오류가 발생했습니다.", e);
+            return new TmdbApiException("드라마 검색 API 호출에 실패했습니다.", e);
         }
+        log.error("TMDB API 호출 중 예상치 못한 오류 발생 - keyword: {}, error: {}", keyword, e.getMessage(), e);
+        return new TmdbApiException("드라마 검색 중 오류가 발생했습니다.", e);
     }
 
     private boolean isEmptyResponse(TmdbTvListResponse response) {
@@ -116,4 +207,37 @@ public class TvSearchServiceImpl implements TvSearchService {
                 tv.getVoteCount()
         );
     }
+
+    private TvSearchResponse toTvSearchResponse(ContentSearchIndex.Entry entry) {
+        return new TvSearchResponse(
+                entry.id(),
+                entry.tmdbId(),
+                entry.title(),
+                entry.originalTitle(),
+                entry.overview(),
+                entry.releaseDate(),
+                TmdbImageUrlBuilder.poster(entry.posterPath()),
+                TmdbImageUrlBuilder.backdrop(entry.backdropPath()),
+                entry.popularity(),
+                entry.voteAverage(),
+                entry.voteCount()
+        );
+    }
+
+    // DB에는 이미지 상대 경로가 저장되어 있으므로 TMDB 검색 결과와 같은 절대 URL로 변환
+    private TvSearchResponse withImageUrls(TvSearchResponse response) {
+        return new TvSearchResponse(
+                response.id(),
+                response.tmdbId(),
+                response.name(),
+                response.originalName(),
+                response.overview(),
+                response.firstAirDate(),
+                TmdbImageUrlBuilder.poster(response.posterUrl()),
+                TmdbImageUrlBuilder.backdrop(response.backdropUrl()),
+                response.popularity(),
+                response.voteAverage(),
+                response.voteCount()
+        );
+    }
 }
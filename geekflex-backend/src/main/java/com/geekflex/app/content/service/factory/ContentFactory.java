@@ -3,6 +3,7 @@ import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
 import com.geekflex.app.content.entity.Content;
 import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TmdbGenre;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
@@ -28,14 +29,12 @@ public class ContentFactory {
                 .popularity(detail.getPopularity())
                 .voteAverage(detail.getVoteAverage())
                 .voteCount(detail.getVoteCount())
-                .genre(detail.getGenres() != null
-                        ? detail.getGenres().stream()
-                        .map(TmdbMovieDetailResponse.Genre::getName)
-                        .collect(Collectors.joining(","))
-                        : null)
+                .genre(movieGenreNames(detail))
+                .genreBits(movieGenreBits(detail))
                 .originCountry(detail.getOriginCountry() != null
                         ? String.join(",", detail.getOriginCountry())
                         : null)
+                .payloadHash(ContentPayloadHash.of(detail))
                 .build();
     }
 
@@ -46,11 +45,8 @@ public class ContentFactory {
     public boolean updateContentFromMovie(Content content, TmdbMovieDetailResponse detail) {
         boolean changed = false;
 
-        String genreStr = detail.getGenres() != null
-                ? detail.getGenres().stream()
-                .map(TmdbMovieDetailResponse.Genre::getName)
-                .collect(Collectors.joining(","))
-                : null;
+        String genreStr = movieGenreNames(detail);
+        long genreBits = movieGenreBits(detail);
         String originCountryStr = detail.getOriginCountry() != null
                 ? String.join(",", detail.getOriginCountry())
                 : null;
@@ -88,6 +84,9 @@ public class ContentFactory {
         if (!Objects.equals(content.getGenre(), genreStr)) {
             content.setGenre(genreStr); changed = true;
         }
+        if (content.getGenreBits() != genreBits) {
+            content.setGenreBits(genreBits); changed = true;
+        }
         if (!Objects.equals(content.getOriginCountry(), originCountryStr)) {
             content.setOriginCountry(originCountryStr); changed = true;
         }
@@ -105,13 +104,8 @@ public class ContentFactory {
     public boolean updateContentFromTv(Content content, TmdbTvDetailResponse detail) {
         boolean changed = false;
 
-        String genreStr = null;
-        if (detail.getGenres() != null && !detail.getGenres().isEmpty()) {
-            genreStr = detail.getGenres().stream()
-                    .map(TmdbTvDetailResponse.Genre::getName)
-                    .filter(name -> name != null && !name.isEmpty())
-                    .collect(Collectors.joining(","));
-        }
+        String genreStr = tvGenreNames(detail);
+        long genreBits = tvGenreBits(detail);
         String originCountryStr = null;
         if (detail.getOriginCountry() != null && !detail.getOriginCountry().isEmpty()) {
             originCountryStr = String.join(",", detail.getOriginCountry());
@@ -153,6 +147,9 @@ public class ContentFactory {
         if (!Objects.equals(content.getGenre(), genreStr)) {
             content.setGenre(genreStr); changed = true;
         }
+        if (content.getGenreBits() != genreBits) {
+            content.setGenreBits(genreBits); changed = true;
+        }
         if (!Objects.equals(content.getOriginCountry(), originCountryStr)) {
             content.setOriginCountry(originCountryStr); changed = true;
         }
@@ -163,6 +160,41 @@ public class ContentFactory {
         return changed;
     }
 
+    // 장르명은 목록 API 경로(TmdbGenre.convertGenreIdsToString)와 같은 구분자로 저장
+    private static String movieGenreNames(TmdbMovieDetailResponse detail) {
+        if (detail.getGenres() == null || detail.getGenres().isEmpty()) {
+            return null;
+        }
+        return detail.getGenres().stream()
+                .map(TmdbMovieDetailResponse.Genre::getName)
+                .filter(name -> name != null && !name.isEmpty())
+                .collect(Collectors.joining(TmdbGenre.SEPARATOR));
+    }
+
+    private static long movieGenreBits(TmdbMovieDetailResponse detail) {
+        if (detail.getGenres() == null) {
+            return 0L;
+        }
+        return TmdbGenre.toBits(detail.getGenres().stream().map(TmdbMovieDetailResponse.Genre::getId).toList());
+    }
+
+    private static String tvGenreNames(TmdbTvDetailResponse detail) {
+        if (detail.getGenres() == null || detail.getGenres().isEmpty()) {
+            return null;
+        }
+        return detail.getGenres().stream()
+                .map(TmdbTvDetailResponse.Genre::getName)
+                .filter(name -> name != null && !name.isEmpty())
+                .collect(Collectors.joining(TmdbGenre.SEPARATOR));
+    }
+
+    private static long tvGenreBits(TmdbTvDetailResponse detail) {
+        if (detail.getGenres() == null) {
+            return 0L;
+        }
+        return TmdbGenre.toBits(detail.getGenres().stream().map(TmdbTvDetailResponse.Genre::getId).toList());
+    }
+
     private static int compare(java.math.BigDecimal a, java.math.BigDecimal b) {
         if (a == null && b == null) return 0;
         if (a == null || b == null) return 1;
@@ -171,13 +203,8 @@ public class ContentFactory {
 
     public Content fromTmdbTvDetail(TmdbTvDetailResponse detail, ContentType type) {
         // 장르 처리
-        String genreStr = null;
-        if (detail.getGenres() != null && !detail.getGenres().isEmpty()) {
-            genreStr = detail.getGenres().stream()
-                    .map(TmdbTvDetailResponse.Genre::getName)
-                    .filter(name -> name != null && !name.isEmpty())
-                    .collect(Collectors.joining(","));
-        }
+        String genreStr = tvGenreNames(detail);
+        long genreBits = tvGenreBits(detail);
 
         // 제작 국가 처리
         String originCountryStr = null;
@@ -200,7 +227,9 @@ public class ContentFactory {
                 .voteAverage(detail.getVoteAverage())
                 .voteCount(detail.getVoteCount())
                 .genre(genreStr)
+                .genreBits(genreBits)
                 .originCountry(originCountryStr)
+                .payloadHash(ContentPayloadHash.of(detail))
                 .build();
 
         // 로깅으로 실제 매핑된 값 확인
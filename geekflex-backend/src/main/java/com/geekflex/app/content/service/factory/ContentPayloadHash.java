@@ -0,0 +1,69 @@
+package com.geekflex.app.content.service.factory;
+
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * TMDB 상세 응답 중 contents에 저장되는 필드의 해시 (contents.payload_hash).
+ * <p>
+ * 갱신 시 저장된 해시와 같으면 필드별 비교와 UPDATE를 생략한다.
+ * 숫자는 컬럼 정밀도(popularity 소수 3자리, vote_average 2자리)로 맞춰, 저장되지 않는 자릿수의 변화는 무시한다.
+ */
+public final class ContentPayloadHash {
+
+    private static final byte NULL = 0x00;
+    private static final byte SEPARATOR = 0x1F;
+
+    private ContentPayloadHash() {
+    }
+
+    public static long of(TmdbMovieDetailResponse detail) {
+        List<TmdbMovieDetailResponse.Genre> genres = detail.getGenres() != null ? detail.getGenres() : List.of();
+        return hash("MOVIE", detail.getTitle(), detail.getOriginalTitle(), detail.getOriginalLanguage(),
+                detail.getOverview(), detail.getReleaseDate(), null, detail.getPosterPath(), detail.getBackdropPath(),
+                scaled(detail.getPopularity(), 3), scaled(detail.getVoteAverage(), 2), detail.getVoteCount(),
+                genres.stream().map(genre -> genre.getId() + ":" + genre.getName()).toList(),
+                detail.getOriginCountry());
+    }
+
+    public static long of(TmdbTvDetailResponse detail) {
+        List<TmdbTvDetailResponse.Genre> genres = detail.getGenres() != null ? detail.getGenres() : List.of();
+        return hash("TV", detail.getName(), detail.getOriginalName(), detail.getOriginalLanguage(),
+                detail.getOverview(), detail.getFirstAirDate(), detail.getLastAirDate(), detail.getPosterPath(),
+                detail.getBackdropPath(), scaled(detail.getPopularity(), 3), scaled(detail.getVoteAverage(), 2),
+                detail.getVoteCount(),
+                genres.stream().map(genre -> genre.getId() + ":" + genre.getName()).toList(),
+                detail.getOriginCountry());
+    }
+
+    private static String scaled(BigDecimal value, int scale) {
+        return value != null ? value.setScale(scale, RoundingMode.HALF_UP).toPlainString() : null;
+    }
+
+    // SHA-256 앞 8바이트 (null과 "null" 문자열을 구분하도록 null은 별도 바이트로 기록)
+    private static long hash(Object... fields) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+        for (Object field : fields) {
+            if (field == null) {
+                digest.update(NULL);
+            } else {
+                digest.update(field.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update(SEPARATOR);
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+}
@@ -0,0 +1,44 @@
+package com.geekflex.app.content.service.image;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TMDB 이미지 프록시 설정 (원본 서버, 디스크 캐시, 응답 캐시 헤더)
+ */
+@Component
+@ConfigurationProperties(prefix = "tmdb.image")
+@Getter
+@Setter
+public class TmdbImageProperties {
+
+    // 원본 이미지 서버 (테스트에서는 로컬 stub 서버)
+    private String baseUrl = "https://image.tmdb.org/t/p";
+
+    // 디스크 캐시 위치와 최대 크기 (넘으면 가장 오래 사용되지 않은 이미지부터 삭제)
+    private Path cacheDir = Path.of("cache", "tmdb-images");
+    private DataSize maxCacheSize = DataSize.ofGigabytes(2);
+
+    // 원본 서버에서 이미지 1건을 받는 시간 한도
+    private Duration fetchTimeout = Duration.ofSeconds(10);
+
+    // 원본 서버에 없는 이미지(404)를 다시 묻지 않는 기간과 최대 건수 (size/fileName 단위)
+    private Duration notFoundTtl = Duration.ofMinutes(10);
+    private long notFoundCacheMaxSize = 10_000;
+
+    // 클라이언트 캐시 기간 (TMDB 이미지 경로는 내용이 바뀌면 새 경로가 되므로 길게 둠)
+    private Duration maxAge = Duration.ofDays(30);
+
+    // 허용하는 크기 (TMDB configuration의 poster/backdrop/logo 크기)
+    private Set<String> sizes = new LinkedHashSet<>(List.of(
+            "w92", "w154", "w185", "w200", "w300", "w342", "w500", "w780", "w1280", "original"));
+}
@@ -0,0 +1,149 @@
+package com.geekflex.app.content.service.image;
+
+import com.geekflex.app.common.concurrent.SingleFlight;
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * TMDB 이미지 프록시.
+ * <p>
+ * 포스터/배경 이미지를 원본 서버(image.tmdb.org)에서 처음 한 번만 받아 디스크 캐시({@link TmdbImageStore})에 두고,
+ * 이후 요청은 캐시 파일로 응답한다. 같은 이미지를 동시에 요청하면 원본 서버에서는 한 번만 받는다.
+ * 원본 서버에 없는 이미지는 notFoundTtl 동안 기억해 다시 요청하지 않는다.
+ */
+@Service
+@Log4j2
+public class TmdbImageProxyService {
+
+    // TMDB 이미지 파일명 (예: 8UlWHLMpgZm9bx6QYh0NFoq67TZ.jpg), 경로 조작 방지
+    // svg는 스크립트를 담을 수 있어 API와 같은 origin에서 응답하지 않는다 (포스터/배경은 svg가 없음)
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_-]+\\.(jpg|jpeg|png|webp)");
+
+    private final WebClient tmdbImageWebClient;
+    private final TmdbImageStore tmdbImageStore;
+    private final TmdbImageProperties tmdbImageProperties;
+    private final SingleFlight<String, Path> downloads;
+    // 원본 서버 404 (size/fileName)
+    private final Cache<String, Boolean> notFound;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter notFoundCounter;
+
+    public TmdbImageProxyService(WebClient tmdbImageWebClient,
+                                 TmdbImageStore tmdbImageStore,
+                                 TmdbImageProperties tmdbImageProperties,
+                                 MeterRegistry meterRegistry) {
+        this.tmdbImageWebClient = tmdbImageWebClient;
+        this.tmdbImageStore = tmdbImageStore;
+        this.tmdbImageProperties = tmdbImageProperties;
+        this.downloads = new SingleFlight<>("tmdb.image", meterRegistry);
+        this.notFound = Caffeine.newBuilder()
+                .maximumSize(tmdbImageProperties.getNotFoundCacheMaxSize())
+                .expireAfterWrite(tmdbImageProperties.getNotFoundTtl())
+                .build();
+        this.hitCounter = Counter.builder("tmdb.image.cache")
+                .description("TMDB 이미지 디스크 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("tmdb.image.cache")
+                .description("TMDB 이미지 디스크 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.notFoundCounter = Counter.builder("tmdb.image.cache")
+                .description("TMDB 이미지 디스크 캐시 조회 결과")
+                .tag("result", "not_found")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 이미지 파일 (없으면 원본 서버에서 받아 캐시에 저장)
+     *
+     * @param size     TMDB 이미지 크기 (예: w500, original)
+     * @param fileName TMDB 이미지 파일명
+     * @return 원본 서버에 없는 이미지면 null
+     * @throws IllegalArgumentException  허용하지 않는 크기/파일명
+     * @throws TmdbUnavailableException 원본 서버 오류 또는 timeout
+     */
+    public Path resolve(String size, String fileName) {
+        if (!tmdbImageProperties.getSizes().contains(size) || !FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 경로입니다.");
+        }
+
+        Path cached = tmdbImageStore.get(size, fileName);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        String key = size + "/" + fileName;
+        if (notFound.getIfPresent(key) != null) {
+            notFoundCounter.increment();
+            return null;
+        }
+
+        missCounter.increment();
+        return downloads.call(key, () -> download(size, fileName));
+    }
+
+    private Path download(String size, String fileName) {
+        // 앞선 다운로드가 끝난 직후 들어온 요청이면 다시 받지 않음
+        Path cached = tmdbImageStore.get(size, fileName);
+        if (cached != null) {
+            return cached;
+        }
+
+        Path temp = null;
+        try {
+            temp = tmdbImageStore.newTempFile(size);
+            Flux<DataBuffer> body = tmdbImageWebClient.get()
+                    .uri("/{size}/{fileName}", size, fileName)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+            // 메모리에 모으지 않고 받는 대로 임시 파일에 기록
+            DataBufferUtils.write(body, temp)
+                    .timeout(tmdbImageProperties.getFetchTimeout())
+                    .block();
+
+            Path stored = tmdbImageStore.put(size, fileName, temp);
+            log.debug("TMDB 이미지 캐시 저장 - {}/{} ({} bytes)", size, fileName, Files.size(stored));
+            return stored;
+        } catch (WebClientResponseException.NotFound e) {
+            log.debug("TMDB 이미지 없음 - {}/{}", size, fileName);
+            notFound.put(size + "/" + fileName, Boolean.TRUE);
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("TMDB 이미지 캐시 저장 실패: " + size + "/" + fileName, e);
+        } catch (RuntimeException e) {
+            throw new TmdbUnavailableException("TMDB 이미지 다운로드 실패: " + size + "/" + fileName, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("TMDB 이미지 임시 파일 삭제 실패 - {}: {}", temp, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.geekflex.app.content.service.image;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * TMDB 이미지 디스크 캐시 ({크기}/{파일명}).
+ * <p>
+ * 파일별 크기를 접근 순서 LinkedHashMap으로 보관하고, 전체 크기가 상한을 넘으면
+ * 가장 오래 사용되지 않은 파일부터 삭제한다. (LRU)
+ * 다운로드는 같은 디렉터리의 임시 파일에 받은 뒤 원자적으로 옮기므로,
+ * 받는 중인 파일이 응답되거나 재시작 후 캐시로 적재되지 않는다.
+ */
+@Component
+@Log4j2
+public class TmdbImageStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+    private final long maxBytes;
+
+    // key: "{크기}/{파일명}", value: 파일 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public TmdbImageStore(TmdbImageProperties tmdbImageProperties, MeterRegistry meterRegistry) {
+        this.root = tmdbImageProperties.getCacheDir().toAbsolutePath();
+        this.maxBytes = tmdbImageProperties.getMaxCacheSize().toBytes();
+        load();
+
+        Gauge.builder("tmdb.image.cache.bytes", this, TmdbImageStore::totalBytes)
+                .description("TMDB 이미지 디스크 캐시 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("tmdb.image.cache.entries", this, TmdbImageStore::size)
+                .description("TMDB 이미지 디스크 캐시 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시된 파일 경로, 없으면 null
+     */
+    public synchronized Path get(String size, String fileName) {
+        String key = key(size, fileName);
+        return entries.get(key) != null ? root.resolve(key) : null;
+    }
+
+    /**
+     * 다운로드용 임시 파일 (캐시 파일과 같은 디렉터리)
+     */
+    public Path newTempFile(String size) throws IOException {
+        Path directory = Files.createDirectories(root.resolve(size));
+        return Files.createTempFile(directory, "download-", TEMP_SUFFIX);
+    }
+
+    /**
+     * 다운로드가 끝난 임시 파일을 캐시에 넣고, 상한을 넘으면 오래된 파일을 삭제한다.
+     * @return 캐시 파일 경로
+     */
+    public Path put(String size, String fileName, Path downloaded) throws IOException {
+        String key = key(size, fileName);
+        Path target = root.resolve(key);
+        long length = Files.size(downloaded);
+        Files.move(downloaded, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        synchronized (this) {
+            Long previous = entries.put(key, length);
+            totalBytes += length - (previous != null ? previous : 0L);
+            evictOverflow(key);
+        }
+        return target;
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 시작 시 디스크에 남아 있는 이미지를 수정 시각 순으로 적재한다. (남은 임시 파일은 삭제)
+     */
+    private void load() {
+        List<Cached> found = new ArrayList<>();
+        try {
+            Files.createDirectories(root);
+            try (Stream<Path> files = Files.walk(root, 2)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (!Files.isRegularFile(file) || file.getParent().equals(root)) {
+                        continue;
+                    }
+                    if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                        continue;
+                    }
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    found.add(new Cached(root.relativize(file).toString().replace('\\', '/'),
+                            attributes.size(), attributes.lastModifiedTime()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("TMDB 이미지 캐시 디렉터리를 읽을 수 없습니다: " + root, e);
+        }
+
+        found.sort(Comparator.comparing(Cached::modifiedAt));
+        synchronized (this) {
+            for (Cached cached : found) {
+                entries.put(cached.key(), cached.bytes());
+                totalBytes += cached.bytes();
+            }
+            evictOverflow(null);
+        }
+        log.info("TMDB 이미지 캐시 적재 - {}건, {} bytes ({})", entries.size(), totalBytes, root);
+    }
+
+    // 상한을 넘는 동안 가장 오래 사용되지 않은 파일부터 삭제 (방금 넣은 keep은 제외)
+    private void evictOverflow(String keep) {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            try {
+                Files.deleteIfExists(root.resolve(entry.getKey()));
+            } catch (IOException e) {
+                log.warn("TMDB 이미지 캐시 삭제 실패 - {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private static String key(String size, String fileName) {
+        return size + "/" + fileName;
+    }
+
+    private record Cached(String key, long bytes, FileTime modifiedAt) {
+    }
+}
@@ -0,0 +1,352 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.common.scheduler.SchedulerConfig;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제목 자동완성 색인 (자모 접두어 / 초성 접두어).
+ * <p>
+ * - 기본 색인: 전체 제목의 자모 키/초성 키를 {@link PrefixArray}로 보관 (재구성 시에만 새로 만듦)
+ * - 증분 색인: 이후 저장된 콘텐츠의 키를 작은 Map에 보관하고, 일정 건수가 쌓이면 기본 색인에 합친다.
+ * 조회 시 증분 색인에 있는 콘텐츠는 기본 색인의 (이전 제목) 키를 무시한다.
+ * <p>
+ * 합치기(전체 키 정렬)는 저장 이벤트를 발행한 스레드가 아닌 배치 스케줄러에서 writeLock 밖에서 수행하고,
+ * 완성된 색인만 잠금 안에서 교체한다. 그동안 조회는 이전 기본 색인 + 증분 색인을 그대로 사용한다.
+ * <p>
+ * 검색어가 자음으로만 이루어져 있으면 초성 키, 그 외에는 자모 키로 찾고 인기도 상위 k건을 반환한다.
+ * 구간이 넓은 짧은 접두어는 {@link ShortPrefixIndex}의 인기도 순 목록에서 k건을 찾는 즉시 멈춘다.
+ */
+@Component
+@Log4j2
+public class AutocompleteIndex {
+
+    // 자모 키 최대 길이 (이보다 긴 검색어는 앞부분만 비교)
+    private static final int MAX_KEY_LENGTH = 48;
+
+    private static final Comparator<Suggestion> BY_POPULARITY = Comparator.comparing(
+            Suggestion::popularity, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ContentRepository contentRepository;
+    private final ContentSearchProperties contentSearchProperties;
+    private final TaskScheduler batchTaskScheduler;
+
+    private volatile Base base = new Base(PrefixArray.EMPTY, PrefixArray.EMPTY,
+            ShortPrefixIndex.EMPTY, ShortPrefixIndex.EMPTY, new ConcurrentHashMap<>());
+    private final Map<Long, Keys> recent = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // 재구성 중 들어온 갱신 (재구성 완료 후 새 색인에 다시 반영), 재구성 중이 아니면 null
+    private List<Suggestion> pendingDuringRebuild;
+    // 백그라운드 합치기가 예약되었거나 진행 중인지
+    private boolean mergeScheduled;
+    private final Object writeLock = new Object();
+
+    public AutocompleteIndex(ContentRepository contentRepository, ContentSearchProperties contentSearchProperties,
+                             @Qualifier(SchedulerConfig.BATCH_SCHEDULER) TaskScheduler batchTaskScheduler) {
+        this.contentRepository = contentRepository;
+        this.contentSearchProperties = contentSearchProperties;
+        this.batchTaskScheduler = batchTaskScheduler;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return base.documents().size();
+    }
+
+    @EventListener
+    public void onContentUpserted(ContentUpsertedEvent event) {
+        event.contents().forEach(this::index);
+    }
+
+    /**
+     * 콘텐츠 1건 증분 색인. 증분 색인이 커지면 기본 색인 합치기를 백그라운드로 예약한다.
+     */
+    public void index(Content content) {
+        if (content.getId() == null || content.getTitle() == null) {
+            return;
+        }
+        Suggestion suggestion = Suggestion.from(content);
+        synchronized (writeLock) {
+            base.documents().put(suggestion.id(), suggestion);
+            recent.put(suggestion.id(), Keys.of(suggestion));
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(suggestion);
+            }
+            if (!mergeScheduled && recent.size() >= contentSearchProperties.getAutocompleteMergeThreshold()) {
+                mergeScheduled = true;
+                batchTaskScheduler.schedule(this::mergeInBackground, Instant.now());
+            }
+        }
+    }
+
+    /**
+     * DB 전체를 다시 읽어 기본 색인을 만든다.
+     * 읽고 색인을 만드는 동안 들어온 갱신은 교체 직전에 다시 반영한다.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Map<Long, Suggestion> scanned = new ConcurrentHashMap<>();
+        Base built;
+        Map<Long, Suggestion> merged;
+        try {
+            ContentCatalogScanner.forEach(contentRepository, contentSearchProperties.getRebuildBatchSize(), content -> {
+                if (content.getTitle() != null) {
+                    scanned.put(content.getId(), Suggestion.from(content));
+                }
+            });
+            synchronized (writeLock) {
+                pendingDuringRebuild.forEach(suggestion -> scanned.put(suggestion.id(), suggestion));
+                pendingDuringRebuild.clear();
+                merged = snapshotRecent(scanned);
+            }
+            built = build(scanned);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            // 색인을 만드는 동안 들어온 갱신은 문서에만 반영하고 증분 색인에 남겨 둔다
+            pendingDuringRebuild.forEach(suggestion -> scanned.put(suggestion.id(), suggestion));
+            pendingDuringRebuild = null;
+            swap(built, merged);
+            ready = true;
+        }
+        log.info("자동완성 색인 재구성 완료 - 콘텐츠 {}건, 키 {}개",
+                scanned.size(), built.jamo().size() + built.chosung().size());
+    }
+
+    /**
+     * 접두어 자동완성
+     * @return 인기도 상위 limit건 (인기도 내림차순)
+     */
+    public List<Suggestion> suggest(ContentType contentType, String keyword, int limit) {
+        boolean chosung = HangulJamo.isChosungOnly(keyword);
+        String prefix = truncate(chosung ? HangulJamo.chosungKey(keyword) : HangulJamo.jamoKey(keyword));
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Base current = base;
+        TopK topK = new TopK(current.documents(), contentType, limit);
+        if (ShortPrefixIndex.covers(prefix)) {
+            // 인기도 내림차순이므로 기본 색인에서 limit건을 채우면 나머지는 볼 필요 없음
+            (chosung ? current.shortChosung() : current.shortJamo()).scan(prefix, id -> {
+                if (!recent.containsKey(id)) {
+                    topK.offer(id);
+                }
+                return topK.size() < limit;
+            });
+        } else {
+            (chosung ? current.chosung() : current.jamo()).scan(prefix, id -> {
+                if (!recent.containsKey(id)) {
+                    topK.offer(id);
+                }
+            });
+        }
+        recent.forEach((id, keys) -> {
+            if (keys.matches(prefix, chosung)) {
+                topK.offer(id);
+            }
+        });
+        return topK.result();
+    }
+
+    /**
+     * 현재 증분 색인을 기본 색인에 합친다. (배치 스케줄러에서 실행, 색인 생성은 writeLock 밖에서)
+     */
+    private void mergeInBackground() {
+        try {
+            Map<Long, Suggestion> documents;
+            Map<Long, Suggestion> merged;
+            synchronized (writeLock) {
+                documents = base.documents();
+                merged = snapshotRecent(documents);
+            }
+
+            Base built = build(documents);
+
+            synchronized (writeLock) {
+                // 그 사이 재구성으로 기본 색인이 교체되었으면 버림 (재구성이 이미 반영함)
+                if (base.documents() == documents) {
+                    swap(built, merged);
+                }
+            }
+            log.debug("자동완성 증분 색인 합치기 완료 - {}건", merged.size());
+        } catch (RuntimeException e) {
+            log.warn("자동완성 증분 색인 합치기 실패: {}", e.getMessage());
+        } finally {
+            synchronized (writeLock) {
+                mergeScheduled = false;
+            }
+        }
+    }
+
+    /**
+     * documents 전체로 기본 색인을 만든다. (잠금 없이 호출, documents는 그동안 바뀔 수 있음)
+     */
+    private static Base build(Map<Long, Suggestion> documents) {
+        PrefixArray.Builder jamo = new PrefixArray.Builder();
+        PrefixArray.Builder chosung = new PrefixArray.Builder();
+        ShortPrefixIndex.Builder shortJamo = new ShortPrefixIndex.Builder();
+        ShortPrefixIndex.Builder shortChosung = new ShortPrefixIndex.Builder();
+
+        List<Suggestion> byPopularity = new ArrayList<>(documents.values());
+        byPopularity.sort(BY_POPULARITY.reversed());
+        for (Suggestion suggestion : byPopularity) {
+            Keys keys = Keys.of(suggestion);
+            keys.jamo().forEach(key -> {
+                jamo.add(key, suggestion.id());
+                shortJamo.add(key, suggestion.id());
+            });
+            keys.chosung().forEach(key -> {
+                chosung.add(key, suggestion.id());
+                shortChosung.add(key, suggestion.id());
+            });
+        }
+        return new Base(jamo.build(), chosung.build(), shortJamo.build(), shortChosung.build(), documents);
+    }
+
+    /**
+     * 증분 색인에 있는 콘텐츠의 현재 문서 (writeLock 보유 상태에서 호출)
+     */
+    private Map<Long, Suggestion> snapshotRecent(Map<Long, Suggestion> documents) {
+        Map<Long, Suggestion> snapshot = new HashMap<>();
+        recent.keySet().forEach(id -> {
+            Suggestion suggestion = documents.get(id);
+            if (suggestion != null) {
+                snapshot.put(id, suggestion);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * 새 기본 색인으로 교체하고, 만들 때 포함된 증분 색인 항목만 비운다. (writeLock 보유 상태에서 호출)
+     * 만드는 동안 다시 저장된 콘텐츠는 증분 색인에 남아 계속 우선 적용된다.
+     */
+    private void swap(Base built, Map<Long, Suggestion> merged) {
+        base = built;
+        merged.forEach((id, suggestion) -> {
+            if (built.documents().get(id) == suggestion) {
+                recent.remove(id);
+            }
+        });
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * 인기도 상위 k건 (min-heap)
+     */
+    private static final class TopK {
+        private final Map<Long, Suggestion> documents;
+        private final ContentType contentType;
+        private final int limit;
+        private final PriorityQueue<Suggestion> heap;
+        private final Set<Long> seen = new HashSet<>();
+
+        private TopK(Map<Long, Suggestion> documents, ContentType contentType, int limit) {
+            this.documents = documents;
+            this.contentType = contentType;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, BY_POPULARITY);
+        }
+
+        private void offer(long id) {
+            Suggestion suggestion = documents.get(id);
+            if (suggestion == null || suggestion.contentType() != contentType || !seen.add(id)) {
+                return;
+            }
+            heap.offer(suggestion);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        private int size() {
+            return heap.size();
+        }
+
+        private List<Suggestion> result() {
+            List<Suggestion> result = new ArrayList<>(heap);
+            result.sort(BY_POPULARITY.reversed());
+            return result;
+        }
+    }
+
+    /**
+     * 기본 색인 한 벌. documents는 증분 색인과 공유하며 항상 최신 값을 가진다.
+     * (증분 색인에 없는 콘텐츠는 만들 때와 같은 값이므로 shortJamo/shortChosung의 인기도 순서가 유지됨)
+     */
+    private record Base(PrefixArray jamo, PrefixArray chosung, ShortPrefixIndex shortJamo,
+                        ShortPrefixIndex shortChosung, Map<Long, Suggestion> documents) {
+    }
+
+    /**
+     * 제목/원제목의 자모 키와 초성 키
+     */
+    private record Keys(List<String> jamo, List<String> chosung) {
+
+        static Keys of(Suggestion suggestion) {
+            List<String> jamo = new ArrayList<>(2);
+            List<String> chosung = new ArrayList<>(2);
+            for (String title : new String[]{suggestion.title(), suggestion.originalTitle()}) {
+                if (title == null) {
+                    continue;
+                }
+                jamo.add(truncate(HangulJamo.jamoKey(title)));
+                chosung.add(truncate(HangulJamo.chosungKey(title)));
+            }
+            return new Keys(jamo, chosung);
+        }
+
+        boolean matches(String prefix, boolean chosungOnly) {
+            return (chosungOnly ? chosung : jamo).stream().anyMatch(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * 자동완성 항목 (응답에 필요한 필드만 보관)
+     */
+    public record Suggestion(Long id, Long tmdbId, ContentType contentType, String title, String originalTitle,
+                             String posterPath, LocalDate releaseDate, BigDecimal popularity) {
+
+        static Suggestion from(Content content) {
+            return new Suggestion(content.getId(), content.getTmdbId(), content.getContentType(),
+                    content.getTitle(), content.getOriginalTitle(), content.getPosterUrl(),
+                    content.getReleaseDate(), content.getPopularity());
+        }
+    }
+}
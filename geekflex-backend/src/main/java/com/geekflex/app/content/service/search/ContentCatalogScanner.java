@@ -0,0 +1,30 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.repository.ContentRepository;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 색인 재구성용 전체 콘텐츠 순회 (id 순으로 batchSize건씩 읽음)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ContentCatalogScanner {
+
+    static void forEach(ContentRepository contentRepository, int batchSize, Consumer<Content> consumer) {
+        long lastId = 0;
+        Limit limit = Limit.of(batchSize);
+        List<Content> contents;
+        do {
+            contents = contentRepository.findByIdGreaterThanOrderByIdAsc(lastId, limit);
+            for (Content content : contents) {
+                consumer.accept(content);
+                lastId = content.getId();
+            }
+        } while (!contents.isEmpty());
+    }
+}
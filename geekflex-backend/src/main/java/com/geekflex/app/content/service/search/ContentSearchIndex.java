@@ -0,0 +1,229 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.common.util.BigramTokenizer;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * contents 제목/원제목에 대한 인메모리 역색인 (문자 bigram → 콘텐츠 id).
+ * <p>
+ * - 검색어의 bigram 후보를 교집합으로 좁힌 뒤 포함 여부를 확인하고,
+ * {@code MovieSearchRepositoryImpl}과 같은 순서(정확 일치 > 시작 > 포함, 이후 인기도)로 정렬한다.
+ * - 콘텐츠 저장 이벤트({@link ContentUpsertedEvent})로 즉시 갱신되며,
+ * 다른 인스턴스가 저장한 콘텐츠는 주기적인 전체 재색인으로 반영된다.
+ */
+@Component
+@Log4j2
+public class ContentSearchIndex {
+
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingInt(Ranked::priority).reversed()
+            .thenComparing(ranked -> ranked.entry().popularity(), Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final ContentRepository contentRepository;
+    private final ContentSearchProperties contentSearchProperties;
+
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+
+    // 재색인 중 들어온 갱신 (재색인 완료 후 새 색인에 다시 반영), 재색인 중이 아니면 null
+    private List<Entry> pendingDuringRebuild;
+    private final Object writeLock = new Object();
+
+    public ContentSearchIndex(ContentRepository contentRepository, ContentSearchProperties contentSearchProperties) {
+        this.contentRepository = contentRepository;
+        this.contentSearchProperties = contentSearchProperties;
+    }
+
+    /**
+     * 전체 재색인이 한 번이라도 끝났는지 (그 전에는 로컬 결과를 신뢰하지 않음)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    @EventListener
+    public void onContentUpserted(ContentUpsertedEvent event) {
+        event.contents().forEach(this::index);
+    }
+
+    /**
+     * 콘텐츠 1건 색인 (기존 토큰은 제거 후 다시 추가)
+     */
+    public void index(Content content) {
+        if (content.getId() == null || content.getTitle() == null) {
+            return;
+        }
+        Entry entry = Entry.from(content);
+        synchronized (writeLock) {
+            segment.put(entry);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(entry);
+            }
+        }
+    }
+
+    /**
+     * DB 전체를 id 순으로 나누어 읽어 새 색인을 만든 뒤 교체한다.
+     * 읽는 동안 들어온 갱신은 교체 직전에 새 색인에 다시 반영한다.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Segment rebuilt = new Segment();
+        try {
+            ContentCatalogScanner.forEach(contentRepository, contentSearchProperties.getRebuildBatchSize(), content -> {
+                if (content.getTitle() != null) {
+                    rebuilt.put(Entry.from(content));
+                }
+            });
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            pendingDuringRebuild.forEach(rebuilt::put);
+            pendingDuringRebuild = null;
+            segment = rebuilt;
+            ready = true;
+        }
+        log.info("검색 색인 재구성 완료 - 콘텐츠 {}건, 토큰 {}개", rebuilt.documents.size(), rebuilt.postings.size());
+    }
+
+    /**
+     * 제목/원제목 검색
+     * @return 관련도 순으로 정렬된 최대 limit건
+     */
+    public List<Entry> search(ContentType contentType, String keyword, int limit) {
+        String query = BigramTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Segment current = segment;
+        return current.candidates(query).stream()
+                .map(current.documents::get)
+                .filter(entry -> entry != null && entry.contentType() == contentType)
+                .map(entry -> new Ranked(entry, matchPriority(entry, query)))
+                .filter(ranked -> ranked.priority() >= 0)
+                .sorted(RANKING)
+                .limit(limit)
+                .map(Ranked::entry)
+                .toList();
+    }
+
+    /**
+     * 정확 일치 (제목) → 5, 정확 일치 (원제목) → 4
+     * 시작 (제목) → 3, 시작 (원제목) → 2
+     * 포함 (제목) → 1, 포함 (원제목) → 0, 불일치 → -1
+     */
+    private static int matchPriority(Entry entry, String query) {
+        if (entry.normalizedTitle().equals(query)) return 5;
+        if (entry.normalizedOriginalTitle().equals(query)) return 4;
+        if (entry.normalizedTitle().startsWith(query)) return 3;
+        if (entry.normalizedOriginalTitle().startsWith(query)) return 2;
+        if (entry.normalizedTitle().contains(query)) return 1;
+        if (entry.normalizedOriginalTitle().contains(query)) return 0;
+        return -1;
+    }
+
+    /**
+     * 색인 한 벌 (문서 + posting). 재색인 시 통째로 교체된다.
+     */
+    private static final class Segment {
+        private final Map<Long, Entry> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        private void put(Entry entry) {
+            Entry previous = documents.put(entry.id(), entry);
+            if (previous != null) {
+                previous.tokens().forEach(token -> removePosting(token, entry.id()));
+            }
+            entry.tokens().forEach(token ->
+                    postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(entry.id()));
+        }
+
+        private void removePosting(String token, Long id) {
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        /**
+         * 검색어 bigram posting의 교집합 (짧은 posting부터).
+         * 한 글자 검색어는 bigram이 없으므로 전체 문서를 후보로 한다.
+         */
+        private Collection<Long> candidates(String query) {
+            Set<String> grams = BigramTokenizer.bigrams(query);
+            if (grams.isEmpty()) {
+                return documents.keySet();
+            }
+
+            List<Set<Long>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> result = new ArrayList<>(lists.getFirst());
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 색인된 콘텐츠 (검색 응답에 필요한 필드만 보관)
+     */
+    public record Entry(Long id, Long tmdbId, ContentType contentType, String title, String originalTitle,
+                        String overview, LocalDate releaseDate, String posterPath, String backdropPath,
+                        BigDecimal popularity, BigDecimal voteAverage, Integer voteCount,
+                        String normalizedTitle, String normalizedOriginalTitle, Set<String> tokens) {
+
+        static Entry from(Content content) {
+            String normalizedTitle = BigramTokenizer.normalize(content.getTitle());
+            String normalizedOriginalTitle = BigramTokenizer.normalize(content.getOriginalTitle());
+            Set<String> tokens = BigramTokenizer.bigrams(normalizedTitle);
+            tokens.addAll(BigramTokenizer.bigrams(normalizedOriginalTitle));
+
+            return new Entry(content.getId(), content.getTmdbId(), content.getContentType(),
+                    content.getTitle(), content.getOriginalTitle(), content.getOverview(), content.getReleaseDate(),
+                    content.getPosterUrl(), content.getBackdropUrl(),
+                    content.getPopularity(), content.getVoteAverage(), content.getVoteCount(),
+                    normalizedTitle, normalizedOriginalTitle, Set.copyOf(tokens));
+        }
+    }
+
+    private record Ranked(Entry entry, int priority) {
+    }
+}
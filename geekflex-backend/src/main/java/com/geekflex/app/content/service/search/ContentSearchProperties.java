@@ -0,0 +1,37 @@
+package com.geekflex.app.content.service.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로컬 검색 색인 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "content.search")
+@Getter
+@Setter
+public class ContentSearchProperties {
+
+    // 로컬 색인 결과가 이 건수 이상이면 TMDB 검색을 생략
+    private int recallThreshold = 5;
+
+    // 검색 결과 최대 건수
+    private int maxResults = 20;
+
+    // TMDB 검색 결과 캐시
+    private int resultCacheMaxSize = 10_000;
+    private Duration resultCacheTtl = Duration.ofMinutes(10);
+
+    // 자동완성 최대 건수
+    private int maxSuggestions = 20;
+
+    // 자동완성 증분 색인이 이 건수에 도달하면 기본 색인에 합침 (배치 스케줄러에서 비동기로)
+    private int autocompleteMergeThreshold = 500;
+
+    // 전체 재색인 시 한 번에 읽는 행 수
+    private int rebuildBatchSize = 1000;
+}
@@ -0,0 +1,280 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.dto.DiscoverCursor;
+import com.geekflex.app.content.dto.DiscoverSort;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 디스커버(필터/정렬) 전용 열 지향 인메모리 카탈로그.
+ * <p>
+ * 콘텐츠마다 엔티티를 만들지 않고 필드별 primitive 배열(id, 타입, 개봉일(epoch day),
+ * 인기도, 평점, 투표 수, 장르 비트)에 보관한다. 조회는 배열을 한 번 훑으며 조건을 확인하고
+ * 상위 limit건만 힙에 남기므로 할당이 거의 없고, 응답할 페이지만 DB에서 읽는다.
+ * <p>
+ * - 콘텐츠 저장 이벤트({@link ContentUpsertedEvent})로 행을 추가/갱신하고,
+ * 다른 인스턴스가 저장한 콘텐츠는 주기적인 전체 재구성으로 반영된다.
+ * - 기존 행은 제자리에서 갱신하므로, 갱신과 동시에 읽는 조회는 한 행의 일부 열만 새 값으로 볼 수 있다.
+ * (정렬 위치가 잠깐 어긋나는 정도이며 다음 조회부터는 일치)
+ */
+@Component
+@Log4j2
+public class DiscoverIndex {
+
+    // 개봉일이 없는 콘텐츠 (개봉일 정렬 시 맨 뒤, 연도 조건이 있으면 제외)
+    private static final int NO_RELEASE_DAY = Integer.MIN_VALUE;
+
+    private static final Comparator<Hit> ORDER = Comparator
+            .comparingDouble(Hit::key)
+            .thenComparingLong(Hit::id);
+
+    private final ContentRepository contentRepository;
+    private final ContentSearchProperties contentSearchProperties;
+
+    private volatile Columns columns = new Columns(1024);
+    private volatile boolean ready;
+
+    // 재구성 중 들어온 갱신 (재구성 완료 후 새 카탈로그에 다시 반영), 재구성 중이 아니면 null
+    private List<Content> pendingDuringRebuild;
+    private final Object writeLock = new Object();
+
+    public DiscoverIndex(ContentRepository contentRepository, ContentSearchProperties contentSearchProperties) {
+        this.contentRepository = contentRepository;
+        this.contentSearchProperties = contentSearchProperties;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return columns.size;
+    }
+
+    @EventListener
+    public void onContentUpserted(ContentUpsertedEvent event) {
+        synchronized (writeLock) {
+            for (Content content : event.contents()) {
+                if (content.getId() == null || content.getContentType() == null) {
+                    continue;
+                }
+                columns = columns.upsert(content);
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(content);
+                }
+            }
+        }
+    }
+
+    /**
+     * DB 전체를 다시 읽어 카탈로그를 교체한다.
+     * 읽는 동안 들어온 갱신은 교체 직전에 다시 반영한다.
+     */
+    public synchronized void rebuild() {
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Columns[] rebuilt = {new Columns(Math.max(1024, columns.size))};
+        try {
+            ContentCatalogScanner.forEach(contentRepository, contentSearchProperties.getRebuildBatchSize(),
+                    content -> {
+                        if (content.getContentType() != null) {
+                            rebuilt[0] = rebuilt[0].upsert(content);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            for (Content content : pendingDuringRebuild) {
+                rebuilt[0] = rebuilt[0].upsert(content);
+            }
+            pendingDuringRebuild = null;
+            columns = rebuilt[0];
+            ready = true;
+        }
+        log.info("디스커버 카탈로그 재구성 완료 - 콘텐츠 {}건", rebuilt[0].size);
+    }
+
+    /**
+     * 조건에 맞는 콘텐츠를 sort 내림차순(같으면 id 내림차순)으로 after 위치 이후 최대 limit건 반환한다.
+     */
+    public List<Hit> find(Filter filter, DiscoverSort sort, DiscoverCursor after, int limit) {
+        if (!ready) {
+            loadOnce();
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Columns current = columns;
+        int size = current.size;
+        int typeCode = filter.contentType() != null ? filter.contentType().ordinal() : -1;
+        int fromDay = filter.fromYear() != null ? (int) LocalDate.of(filter.fromYear(), 1, 1).toEpochDay() : NO_RELEASE_DAY;
+        int toDay = filter.toYear() != null ? (int) LocalDate.of(filter.toYear(), 12, 31).toEpochDay() : Integer.MAX_VALUE;
+        boolean yearFiltered = filter.fromYear() != null || filter.toYear() != null;
+        long genreMask = filter.genreMask();
+
+        // 힙의 맨 앞이 현재 상위 limit건 중 가장 뒤에 올 항목
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, ORDER);
+        for (int row = 0; row < size; row++) {
+            if (typeCode >= 0 && current.types[row] != typeCode) {
+                continue;
+            }
+            if ((current.genreBits[row] & genreMask) != genreMask || current.voteCounts[row] < filter.minVotes()) {
+                continue;
+            }
+            int releaseDay = current.releaseDays[row];
+            if (yearFiltered && (releaseDay == NO_RELEASE_DAY || releaseDay < fromDay || releaseDay > toDay)) {
+                continue;
+            }
+
+            double key = current.key(sort, row);
+            long id = current.ids[row];
+            if (!after.precedes(key, id)) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.offer(new Hit(id, key));
+            } else {
+                Hit last = heap.peek();
+                if (Double.compare(key, last.key()) > 0 || (key == last.key() && id > last.id())) {
+                    heap.poll();
+                    heap.offer(new Hit(id, key));
+                }
+            }
+        }
+
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(ORDER.reversed());
+        return result;
+    }
+
+    // 시작 직후 재구성이 끝나기 전에 요청이 오면 직접 적재
+    private synchronized void loadOnce() {
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 디스커버 조건
+     *
+     * @param contentType null이면 전체 타입
+     * @param genreMask   모두 포함해야 하는 장르 비트 (0이면 조건 없음)
+     * @param fromYear    개봉 연도 하한 (포함, null이면 조건 없음)
+     * @param toYear      개봉 연도 상한 (포함, null이면 조건 없음)
+     * @param minVotes    최소 투표 수
+     */
+    public record Filter(ContentType contentType, long genreMask, Integer fromYear, Integer toYear, int minVotes) {
+    }
+
+    /**
+     * 조회 결과 (콘텐츠 id와 다음 커서를 만들기 위한 정렬 키)
+     */
+    public record Hit(long id, double key) {
+    }
+
+    /**
+     * 열 배열 한 벌. 쓰기는 writeLock 안에서만 하고, 새 행은 모든 열을 채운 뒤 size를 늘려 공개한다.
+     * 용량이 부족하면 늘린 복사본을 반환한다.
+     */
+    private static final class Columns {
+        private final long[] ids;
+        private final byte[] types;
+        private final int[] releaseDays;
+        private final float[] popularity;
+        private final float[] voteAverages;
+        private final int[] voteCounts;
+        private final long[] genreBits;
+        private final Map<Long, Integer> rowById;
+        private volatile int size;
+
+        private Columns(int capacity) {
+            this(new long[capacity], new byte[capacity], new int[capacity], new float[capacity],
+                    new float[capacity], new int[capacity], new long[capacity], new HashMap<>(), 0);
+        }
+
+        private Columns(long[] ids, byte[] types, int[] releaseDays, float[] popularity,
+                        float[] voteAverages, int[] voteCounts, long[] genreBits, Map<Long, Integer> rowById,
+                        int size) {
+            this.ids = ids;
+            this.types = types;
+            this.releaseDays = releaseDays;
+            this.popularity = popularity;
+            this.voteAverages = voteAverages;
+            this.voteCounts = voteCounts;
+            this.genreBits = genreBits;
+            this.rowById = rowById;
+            this.size = size;
+        }
+
+        Columns upsert(Content content) {
+            Integer existing = rowById.get(content.getId());
+            if (existing != null) {
+                write(existing, content);
+                return this;
+            }
+
+            Columns target = size < ids.length ? this : grow();
+            int row = target.size;
+            target.write(row, content);
+            target.rowById.put(content.getId(), row);
+            target.size = row + 1;
+            return target;
+        }
+
+        private void write(int row, Content content) {
+            ids[row] = content.getId();
+            types[row] = (byte) content.getContentType().ordinal();
+            releaseDays[row] = content.getReleaseDate() != null
+                    ? (int) content.getReleaseDate().toEpochDay()
+                    : NO_RELEASE_DAY;
+            popularity[row] = toFloat(content.getPopularity());
+            voteAverages[row] = toFloat(content.getVoteAverage());
+            voteCounts[row] = content.getVoteCount() != null ? content.getVoteCount() : 0;
+            genreBits[row] = content.getGenreBits();
+        }
+
+        private Columns grow() {
+            int capacity = ids.length * 2;
+            return new Columns(Arrays.copyOf(ids, capacity), Arrays.copyOf(types, capacity),
+                    Arrays.copyOf(releaseDays, capacity), Arrays.copyOf(popularity, capacity), Arrays.copyOf(voteAverages, capacity),
+                    Arrays.copyOf(voteCounts, capacity), Arrays.copyOf(genreBits, capacity),
+                    rowById, size);
+        }
+
+        double key(DiscoverSort sort, int row) {
+            return switch (sort) {
+                case POPULARITY -> popularity[row];
+                case VOTE_AVERAGE -> voteAverages[row];
+                case VOTE_COUNT -> voteCounts[row];
+                case RELEASE_DATE -> releaseDays[row];
+            };
+        }
+
+        private static float toFloat(BigDecimal value) {
+            return value != null ? value.floatValue() : 0f;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.geekflex.app.content.service.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 자동완성용 한글 자모 분해.
+ * <p>
+ * - 자모 키: 음절을 입력 순서대로 분해 (겹모음/겹받침은 두 타로 나눔: 과 → ㄱㅗㅏ, 닭 → ㄷㅏㄹㄱ)
+ * 입력 중인 글자("어벥", "아바ㅌ")도 완성된 제목의 자모 키 접두어가 된다.
+ * - 초성 키: 음절을 초성으로 축약 (어벤져스 → ㅇㅂㅈㅅ)
+ * <p>
+ * 두 키 모두 소문자로 바꾸고 공백/기호는 제거하며, 한글이 아닌 문자/숫자는 그대로 둔다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char COMPAT_CONSONANT_FIRST = 'ㄱ';
+    private static final char COMPAT_CONSONANT_LAST = 'ㅎ';
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 중 겹자모 → 입력 순서 (단독으로 입력된 "ㄳ", "ㅘ" 등)
+    private static final String[] COMPAT_JAMO = buildCompatJamo();
+
+    /**
+     * 자모 키 (입력 순서대로 분해)
+     */
+    public static String jamoKey(String value) {
+        StringBuilder key = new StringBuilder();
+        forEachChar(value, c -> {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                key.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else if (isCompatJamo(c)) {
+                key.append(COMPAT_JAMO[c - 0x3131]);
+            } else {
+                key.append(c);
+            }
+        });
+        return key.toString();
+    }
+
+    /**
+     * 초성 키 (음절 → 초성, 그 외 문자는 그대로)
+     */
+    public static String chosungKey(String value) {
+        StringBuilder key = new StringBuilder();
+        forEachChar(value, c -> {
+            if (isSyllable(c)) {
+                key.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                key.append(c);
+            }
+        });
+        return key.toString();
+    }
+
+    /**
+     * 검색어가 자음으로만 이루어져 있는지 (초성 검색 여부)
+     */
+    public static boolean isChosungOnly(String value) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < COMPAT_CONSONANT_FIRST || c > COMPAT_CONSONANT_LAST) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 호환 자모(ㄱ 등)가 NFKC에서 첫가끝 자모로 바뀌지 않도록 NFC만 적용
+    private static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder compact = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                compact.append(c);
+            }
+        }
+        return compact.toString();
+    }
+
+    private static void forEachChar(String value, CharConsumer consumer) {
+        String normalized = normalize(value);
+        for (int i = 0; i < normalized.length(); i++) {
+            consumer.accept(normalized.charAt(i));
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isCompatJamo(char c) {
+        return c >= 0x3131 && c <= 0x3163;
+    }
+
+    private static String[] buildCompatJamo() {
+        String[] table = new String[0x3163 - 0x3131 + 1];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = String.valueOf((char) (0x3131 + i));
+        }
+        // 겹받침
+        table['ㄳ' - 0x3131] = "ㄱㅅ";
+        table['ㄵ' - 0x3131] = "ㄴㅈ";
+        table['ㄶ' - 0x3131] = "ㄴㅎ";
+        table['ㄺ' - 0x3131] = "ㄹㄱ";
+        table['ㄻ' - 0x3131] = "ㄹㅁ";
+        table['ㄼ' - 0x3131] = "ㄹㅂ";
+        table['ㄽ' - 0x3131] = "ㄹㅅ";
+        table['ㄾ' - 0x3131] = "ㄹㅌ";
+        table['ㄿ' - 0x3131] = "ㄹㅍ";
+        table['ㅀ' - 0x3131] = "ㄹㅎ";
+        table['ㅄ' - 0x3131] = "ㅂㅅ";
+        // 겹모음
+        table['ㅘ' - 0x3131] = "ㅗㅏ";
+        table['ㅙ' - 0x3131] = "ㅗㅐ";
+        table['ㅚ' - 0x3131] = "ㅗㅣ";
+        table['ㅝ' - 0x3131] = "ㅜㅓ";
+        table['ㅞ' - 0x3131] = "ㅜㅔ";
+        table['ㅟ' - 0x3131] = "ㅜㅣ";
+        table['ㅢ' - 0x3131] = "ㅡㅣ";
+        return table;
+    }
+
+    @FunctionalInterface
+    private interface CharConsumer {
+        void accept(char c);
+    }
+}
@@ -0,0 +1,118 @@
+package com.geekflex.app.content.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 정렬된 키 배열로 표현한 접두어 색인 (trie를 배열로 평탄화한 형태).
+ * <p>
+ * 모든 키를 하나의 char[]에 이어 붙이고 시작 위치(offsets)와 콘텐츠 id만 보관하므로,
+ * 노드 객체를 만드는 trie보다 메모리가 작다. 접두어가 같은 키는 정렬 순서상 연속 구간이 되므로
+ * 이진 탐색 두 번으로 trie의 서브트리에 해당하는 구간을 찾는다.
+ * 생성 후에는 변경하지 않는다.
+ */
+final class PrefixArray {
+
+    static final PrefixArray EMPTY = new Builder().build();
+
+    private final char[] chars;
+    private final int[] offsets; // i번째 키 = chars[offsets[i], offsets[i + 1])
+    private final long[] ids;
+
+    private PrefixArray(char[] chars, int[] offsets, long[] ids) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.ids = ids;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * prefix로 시작하는 모든 키의 id 전달 (같은 id가 여러 번 올 수 있음)
+     */
+    void scan(String prefix, LongConsumer consumer) {
+        int from = lowerBound(prefix);
+        for (int i = from; i < ids.length && startsWith(i, prefix); i++) {
+            consumer.accept(ids[i]);
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int index, String value) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        int common = Math.min(length, value.length());
+        for (int i = 0; i < common; i++) {
+            int diff = chars[start + i] - value.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - value.length();
+    }
+
+    private boolean startsWith(int index, String prefix) {
+        int start = offsets[index];
+        if (offsets[index + 1] - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (chars[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static final class Builder {
+        private final List<Key> keys = new ArrayList<>();
+
+        void add(String key, long id) {
+            if (!key.isEmpty()) {
+                keys.add(new Key(key, id));
+            }
+        }
+
+        PrefixArray build() {
+            keys.sort((a, b) -> {
+                int compared = a.value().compareTo(b.value());
+                return compared != 0 ? compared : Long.compare(a.id(), b.id());
+            });
+
+            int totalLength = keys.stream().mapToInt(key -> key.value().length()).sum();
+            char[] chars = new char[totalLength];
+            int[] offsets = new int[keys.size() + 1];
+            long[] ids = new long[keys.size()];
+
+            int position = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                Key key = keys.get(i);
+                key.value().getChars(0, key.value().length(), chars, position);
+                offsets[i] = position;
+                ids[i] = key.id();
+                position += key.value().length();
+            }
+            offsets[keys.size()] = position;
+            return new PrefixArray(chars, offsets, ids);
+        }
+    }
+
+    private record Key(String value, long id) {
+    }
+}
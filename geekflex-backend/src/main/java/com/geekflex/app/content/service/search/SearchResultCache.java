@@ -0,0 +1,88 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.entity.ContentType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * TMDB 검색 결과 캐시 (콘텐츠 타입 + 정규화된 검색어).
+ * <p>
+ * 검색어를 한 글자씩 입력하는 경우 ("아", "아바", "아바타") 앞서 검색한 짧은 검색어의 결과가
+ * 전체 결과(complete)라면, 긴 검색어의 결과는 그 안에 포함되므로 TMDB를 다시 호출하지 않고 걸러서 사용한다.
+ * <p>
+ * 정확히 일치하는 검색어 조회는 tmdb.search.cache (cache.gets 등)로,
+ * 접두어 재사용은 tmdb.search.cache.prefix로 기록한다.
+ */
+@Component
+public class SearchResultCache {
+
+    private final Cache<Key, Entry> cache;
+    private final Map<ContentType, Counter> prefixHits = new EnumMap<>(ContentType.class);
+
+    public SearchResultCache(ContentSearchProperties contentSearchProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(contentSearchProperties.getResultCacheMaxSize())
+                .expireAfterWrite(contentSearchProperties.getResultCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tmdb.search.cache");
+
+        for (ContentType type : ContentType.values()) {
+            prefixHits.put(type, Counter.builder("tmdb.search.cache.prefix")
+                    .description("짧은 검색어의 전체 결과를 걸러서 재사용한 횟수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 캐시된 결과 조회.
+     * 정확히 일치하는 검색어가 없으면, 전체 결과가 캐시된 가장 긴 접두어 검색어의 결과를 narrow로 걸러 반환한다.
+     *
+     * @param narrow (짧은 검색어의 결과, 현재 검색어) → 현재 검색어의 결과
+     * @return 캐시 miss이면 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(ContentType type, String keyword, BiFunction<List<T>, String, List<T>> narrow) {
+        Entry exact = cache.getIfPresent(new Key(type, keyword));
+        if (exact != null) {
+            return (List<T>) exact.items();
+        }
+
+        // 접두어 탐색은 통계에 포함하지 않도록 asMap()으로 조회
+        Map<Key, Entry> entries = cache.asMap();
+        for (int length = keyword.length() - 1; length > 0; length--) {
+            Entry shorter = entries.get(new Key(type, keyword.substring(0, length)));
+            if (shorter != null && shorter.complete()) {
+                List<T> narrowed = narrow.apply((List<T>) shorter.items(), keyword);
+                // 걸러낸 결과도 전체 결과이므로 다음 글자 입력 시 다시 재사용 가능
+                cache.put(new Key(type, keyword), new Entry(narrowed, true));
+                prefixHits.get(type).increment();
+                return narrowed;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param complete TMDB 전체 결과가 items에 모두 담겼는지 (첫 페이지에 다 들어온 경우)
+     */
+    public void put(ContentType type, String keyword, List<?> items, boolean complete) {
+        cache.put(new Key(type, keyword), new Entry(List.copyOf(items), complete));
+    }
+
+    private record Key(ContentType type, String keyword) {
+    }
+
+    private record Entry(List<?> items, boolean complete) {
+    }
+}
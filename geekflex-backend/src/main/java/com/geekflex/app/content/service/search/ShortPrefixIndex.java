@@ -0,0 +1,71 @@
+package com.geekflex.app.content.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * 짧은 접두어(길이 {@value #MAX_PREFIX_LENGTH} 이하)별 인기도 내림차순 id 목록.
+ * <p>
+ * 자모 한두 개짜리 접두어는 {@link PrefixArray}에서 카탈로그 대부분에 해당하는 구간이 되므로,
+ * 색인을 만들 때 인기도 순으로 정리해 두고 조회 시 앞에서부터 필요한 건수만 읽는다.
+ * 키마다 최대 {@value #MAX_PREFIX_LENGTH}개 목록에만 들어가므로 추가 메모리는 키 수에 비례한다.
+ * 생성 후에는 변경하지 않는다.
+ */
+final class ShortPrefixIndex {
+
+    static final int MAX_PREFIX_LENGTH = 2;
+
+    static final ShortPrefixIndex EMPTY = new Builder().build();
+
+    private final Map<String, long[]> idsByPrefix;
+
+    private ShortPrefixIndex(Map<String, long[]> idsByPrefix) {
+        this.idsByPrefix = idsByPrefix;
+    }
+
+    static boolean covers(String prefix) {
+        return !prefix.isEmpty() && prefix.length() <= MAX_PREFIX_LENGTH;
+    }
+
+    /**
+     * prefix로 시작하는 키를 가진 id를 인기도 내림차순으로 전달 (id당 한 번).
+     * consumer가 false를 반환하면 중단한다.
+     */
+    void scan(String prefix, LongPredicate consumer) {
+        long[] ids = idsByPrefix.get(prefix);
+        if (ids == null) {
+            return;
+        }
+        for (long id : ids) {
+            if (!consumer.test(id)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 인기도 내림차순으로 add 해야 한다.
+     */
+    static final class Builder {
+        private final Map<String, List<Long>> idsByPrefix = new HashMap<>();
+
+        void add(String key, long id) {
+            for (int length = 1; length <= Math.min(MAX_PREFIX_LENGTH, key.length()); length++) {
+                List<Long> ids = idsByPrefix.computeIfAbsent(key.substring(0, length), prefix -> new ArrayList<>());
+                // 제목/원제목 키가 같은 접두어를 공유하면 한 번만 (같은 콘텐츠의 키는 연속으로 추가됨)
+                if (ids.isEmpty() || ids.get(ids.size() - 1) != id) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        ShortPrefixIndex build() {
+            Map<String, long[]> built = new HashMap<>(idsByPrefix.size() * 2);
+            idsByPrefix.forEach((prefix, ids) -> built.put(prefix, ids.stream().mapToLong(Long::longValue).toArray()));
+            return new ShortPrefixIndex(built);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관된 번역 문자열과 TMDB에서 받은 시각.
+ * <p>
+ * 번역 문자열은 Content.lastSyncedAt과 별개로 받으므로, 받은 시각으로 신선도를 판단한다.
+ * (L1/L2는 이 레코드 그대로, L3는 content_detail_snapshot.fetched_at 컬럼으로 보관)
+ */
+public record CachedLocalizedText(TmdbLocalizedText text, LocalDateTime fetchedAt) {
+
+    public boolean isFresh(Duration syncInterval) {
+        if (fetchedAt == null) {
+            return false;
+        }
+        return Duration.between(fetchedAt, LocalDateTime.now()).compareTo(syncInterval) < 0;
+    }
+}
@@ -0,0 +1,206 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.common.concurrent.ReactiveSingleFlight;
+import com.geekflex.app.content.dto.tmdb.TmdbChangesResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbMovieListResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbTvListResponse;
+import com.geekflex.app.content.entity.ContentType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * TMDB API 논블로킹 클라이언트.
+ * <p>
+ * 모든 메서드는 {@link Mono}를 반환하며 호출 스레드를 점유하지 않는다.
+ * 블로킹 호출이 필요한 기존 코드는 {@link TmdbApiService}를 통해 사용한다.
+ */
+@Service
+@Log4j2
+public class ReactiveTmdbApiService {
+
+    // 변경 목록 2페이지 이후 동시 요청 수
+    private static final int CHANGES_PAGE_CONCURRENCY = 4;
+
+    private final WebClient tmdbWebClient;
+
+    // 같은 (tmdbId, 언어) 상세 요청이 동시에 몰리면 TMDB 호출은 한 번만 하고 결과를 공유
+    private final ReactiveSingleFlight<DetailKey, TmdbMovieDetailResponse> movieDetailFlight;
+    private final ReactiveSingleFlight<DetailKey, TmdbTvDetailResponse> tvDetailFlight;
+
+    public ReactiveTmdbApiService(WebClient tmdbWebClient, MeterRegistry meterRegistry) {
+        this.tmdbWebClient = tmdbWebClient;
+        this.movieDetailFlight = new ReactiveSingleFlight<>("tmdb.movie-detail", meterRegistry);
+        this.tvDetailFlight = new ReactiveSingleFlight<>("tmdb.tv-detail", meterRegistry);
+    }
+
+    /**
+     * TMDB 영화 상세 페이지 조회
+     * baseUri/3/movie/1218925?language=ko-KR
+     */
+    public Mono<TmdbMovieDetailResponse> getMovieDetails(Long tmdbId) {
+        return getMovieDetails(tmdbId, TmdbLanguage.DEFAULT);
+    }
+
+    /**
+     * @param language {@link TmdbLanguage#normalize}로 정규화된 언어 코드
+     */
+    public Mono<TmdbMovieDetailResponse> getMovieDetails(Long tmdbId, String language) {
+        return movieDetailFlight.execute(new DetailKey(tmdbId, language), () -> fetchMovieDetails(tmdbId, language));
+    }
+
+    private Mono<TmdbMovieDetailResponse> fetchMovieDetails(Long tmdbId, String language) {
+        log.info("영화 상세 요청 - tmdbId : {}, language : {}", tmdbId, language);
+
+        return tmdbWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/movie/{id}")
+                        .queryParam("language", language)
+                        .build(tmdbId)
+                )
+                .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.MOVIE_DETAIL)
+                .retrieve()
+                .bodyToMono(TmdbMovieDetailResponse.class)
+                .switchIfEmpty(Mono.error(() ->
+                        new IllegalArgumentException("TMDB 영화 상세 응답이 NULL (tmdbId: " + tmdbId + ")")))
+                .doOnNext(response -> log.info("TMDB 상세 응답 완료 → title: {}", response.getTitle()));
+    }
+
+    /**
+     * TMDB TV 상세 페이지 조회
+     * baseUri/3/tv/{tvId}?language=ko-KR
+     */
+    public Mono<TmdbTvDetailResponse> getTvDetails(Long tmdbId) {
+        return getTvDetails(tmdbId, TmdbLanguage.DEFAULT);
+    }
+
+    /**
+     * @param language {@link TmdbLanguage#normalize}로 정규화된 언어 코드
+     */
+    public Mono<TmdbTvDetailResponse> getTvDetails(Long tmdbId, String language) {
+        return tvDetailFlight.execute(new DetailKey(tmdbId, language), () -> fetchTvDetails(tmdbId, language));
+    }
+
+    private Mono<TmdbTvDetailResponse> fetchTvDetails(Long tmdbId, String language) {
+        log.info("TV 상세 요청 - tmdbId : {}, language : {}", tmdbId, language);
+
+        return tmdbWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/tv/{id}")
+                        .queryParam("language", language)
+                        .build(tmdbId)
+                )
+                .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.TV_DETAIL)
+                .retrieve()
+                .bodyToMono(TmdbTvDetailResponse.class)
+                .switchIfEmpty(Mono.error(() ->
+                        new IllegalArgumentException("TMDB TV 상세 응답이 NULL (tmdbId: " + tmdbId + ")")))
+                .doOnNext(response -> log.info(
+                        "TMDB TV 상세 응답 완료 → name: {}, id: {}, firstAirDate: {}, lastAirDate: {}, genres: {}, originCountry: {}",
+                        response.getName(), response.getId(), response.getFirstAirDate(),
+                        response.getLastAirDate(), response.getGenres(), response.getOriginCountry()));
+    }
+
+    /**
+     * TMDB 영화 검색
+     *
+     * @param query 검색어 (영화 제목)
+     * @return 검색 결과 (정렬은 서비스 계층에서 수행), 응답 본문이 없으면 empty
+     */
+    public Mono<TmdbMovieListResponse> searchMovies(String query) {
+        return tmdbWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search/movie")
+                        .queryParam("query", "{query}")
+                        .queryParam("language", TmdbLanguage.DEFAULT)
+                        .queryParam("page", 1)
+                        .build(query)
+                )
+                .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.SEARCH_MOVIE)
+                .retrieve()
+                .bodyToMono(TmdbMovieListResponse.class)
+                .doOnNext(response -> {
+                    if (response.getResults() == null) {
+                        log.warn("TMDB 검색 응답이 NULL 또는 빈 목록 (query: {})", query);
+                        return;
+                    }
+                    log.info("TMDB 검색 응답 완료 - query: {}, 결과 수: {}", query, response.getResults().size());
+                });
+    }
+
+    /**
+     * TMDB TV(드라마) 검색
+     *
+     * @param query 검색어 (드라마 제목)
+     * @return 검색 결과 (정렬은 서비스 계층에서 수행), 응답 본문이 없으면 empty
+     */
+    public Mono<TmdbTvListResponse> searchTv(String query) {
+        return tmdbWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search/tv")
+                        .queryParam("query", "{query}")
+                        .queryParam("language", TmdbLanguage.DEFAULT)
+                        .queryParam("page", 1)
+                        .build(query)
+                )
+                .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.SEARCH_TV)
+                .retrieve()
+                .bodyToMono(TmdbTvListResponse.class)
+                .doOnNext(response -> {
+                    if (response.getResults() == null) {
+                        log.warn("TMDB TV 검색 응답이 NULL 또는 빈 목록 (query: {})", query);
+                        return;
+                    }
+                    log.info("TMDB TV 검색 응답 완료 - query: {}, 결과 수: {}", query, response.getResults().size());
+                });
+    }
+
+    /**
+     * TMDB 변경 목록의 모든 페이지에서 작품 id 수집
+     * baseUri/3/movie/changes?start_date=2025-01-01&end_date=2025-01-02&page=1
+     *
+     * @param startDate 시작일 (UTC, TMDB 제한: 종료일과 최대 14일 차이)
+     * @param endDate   종료일 (UTC)
+     */
+    public Mono<Set<Long>> getChangedIds(ContentType contentType, LocalDate startDate, LocalDate endDate) {
+        return getChanges(contentType, startDate, endDate, 1)
+                .flatMapMany(first -> Flux.range(2, Math.max(0, first.getTotalPages() - 1))
+                        .flatMap(page -> getChanges(contentType, startDate, endDate, page), CHANGES_PAGE_CONCURRENCY)
+                        .startWith(first))
+                .filter(response -> response.getResults() != null)
+                .flatMapIterable(TmdbChangesResponse::getResults)
+                .filter(change -> change.getId() != null)
+                .map(TmdbChangesResponse.Change::getId)
+                .collect(HashSet<Long>::new, Set::add)
+                .map(ids -> (Set<Long>) ids)
+                .doOnNext(ids -> log.info("TMDB 변경 목록 조회 완료 - type: {}, {} ~ {}, {}건",
+                        contentType, startDate, endDate, ids.size()));
+    }
+
+    private Mono<TmdbChangesResponse> getChanges(ContentType contentType, LocalDate startDate, LocalDate endDate,
+                                                 int page) {
+        return tmdbWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(contentType == ContentType.MOVIE ? "/movie/changes" : "/tv/changes")
+                        .queryParam("start_date", startDate)
+                        .queryParam("end_date", endDate)
+                        .queryParam("page", page)
+                        .build()
+                )
+                .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.CHANGES)
+                .retrieve()
+                .bodyToMono(TmdbChangesResponse.class);
+    }
+
+    private record DetailKey(Long tmdbId, String language) {
+    }
+}
@@ -2,42 +2,42 @@ package com.geekflex.app.content.service.tmdb;
 import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbMovieListResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
+import com.geekflex.app.content.dto.tmdb.TmdbTvListResponse;
+import com.geekflex.app.content.entity.ContentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * TMDB API 블로킹 클라이언트.
+ * <p>
+ * {@link ReactiveTmdbApiService}의 결과를 호출 스레드에서 기다린다.
+ * 스케줄러/관리자 캐싱처럼 동기 흐름이 필요한 곳에서만 사용하고,
+ * 사용자 요청 경로는 {@link ReactiveTmdbApiService}를 직접 사용한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class TmdbApiService {
 
-    private final WebClient tmdbWebClient;
-    private static final String DEFAULT_LANGUAGE = "ko-KR";
+    private final ReactiveTmdbApiService reactiveTmdbApiService;
 
     /**
      * TMDB 영화 상세 페이지 조회
      * baseUri/3/movie/1218925?language=ko-KR
      */
     public TmdbMovieDetailResponse getMovieDetails(Long tmdbId) {
-        log.info("영화 상세 요청 - tmdbId : {}", tmdbId);
-
-        TmdbMovieDetailResponse response = tmdbWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/movie/{id}")
-                        .queryParam("language", DEFAULT_LANGUAGE)
-                        .build(tmdbId)
-                )
-                .retrieve()
-                .bodyToMono(TmdbMovieDetailResponse.class)
-                .block();
-
-        if (response == null) {
-            throw new IllegalArgumentException("TMDB 영화 상세 응답이 NULL (tmdbId: " + tmdbId + ")");
-        }
+        return reactiveTmdbApiService.getMovieDetails(tmdbId).block();
+    }
 
-        log.info("TMDB 상세 응답 완료 → title: {}", response.getTitle());
-        return response;
+    /**
+     * TMDB 영화 상세 페이지 조회 (지정한 언어)
+     */
+    public TmdbMovieDetailResponse getMovieDetails(Long tmdbId, String language) {
+        return reactiveTmdbApiService.getMovieDetails(tmdbId, language).block();
     }
 
     /**
@@ -47,26 +47,7 @@ public class TmdbApiService {
      * @return 검색 결과 (정렬은 서비스 계층에서 수행)
      */
     public TmdbMovieListResponse searchMovies(String query) {
-
-        TmdbMovieListResponse response = tmdbWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/search/movie")
-                        .queryParam("query", "{query}")
-                        .queryParam("language", DEFAULT_LANGUAGE)
-                        .queryParam("page", 1)
-                        .build(query)
-                )
-                .retrieve()
-                .bodyToMono(TmdbMovieListResponse.class)
-                .block();
-
-        if (response == null || response.getResults() == null) {
-            log.warn("TMDB 검색 응답이 NULL 또는 빈 목록 (query: {})", query);
-            return response;
-        }
-
-        log.info("TMDB 검색 응답 완료 - query: {}, 결과 수: {}", query, response.getResults().size());
-        return response;
+        return reactiveTmdbApiService.searchMovies(query).block();
     }
 
     /**
@@ -75,27 +56,8 @@ public class TmdbApiService {
      * @param query 검색어 (드라마 제목)
      * @return 검색 결과 (정렬은 서비스 계층에서 수행)
      */
-    public com.geekflex.app.content.dto.tmdb.TmdbTvListResponse searchTv(String query) {
-
-        com.geekflex.app.content.dto.tmdb.TmdbTvListResponse response = tmdbWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/search/tv")
-                        .queryParam("query", "{query}")
-                        .queryParam("language", DEFAULT_LANGUAGE)
-                        .queryParam("page", 1)
-                        .build(query)
-                )
-                .retrieve()
-                .bodyToMono(com.geekflex.app.content.dto.tmdb.TmdbTvListResponse.class)
-                .block();
-
-        if (response == null || response.getResults() == null) {
-            log.warn("TMDB TV 검색 응답이 NULL 또는 빈 목록 (query: {})", query);
-            return response;
-        }
-
-        log.info("TMDB TV 검색 응답 완료 - query: {}, 결과 수: {}", query, response.getResults().size());
-        return response;
+    public TmdbTvListResponse searchTv(String query) {
+        return reactiveTmdbApiService.searchTv(query).block();
     }
 
     /**
@@ -103,35 +65,21 @@ public class TmdbApiService {
      * baseUri/3/tv/{tvId}?language=ko-KR
      */
     public TmdbTvDetailResponse getTvDetails(Long tmdbId) {
-        log.info("TV 상세 요청 - tmdbId : {}", tmdbId);
-
-        TmdbTvDetailResponse response = tmdbWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/tv/{id}")
-                        .queryParam("language", DEFAULT_LANGUAGE)
-                        .build(tmdbId)
-                )
-                .retrieve()
-                .bodyToMono(TmdbTvDetailResponse.class)
-                .block();
-
-        if (response == null) {
-            throw new IllegalArgumentException("TMDB TV 상세 응답이 NULL (tmdbId: " + tmdbId + ")");
-        }
+        return reactiveTmdbApiService.getTvDetails(tmdbId).block();
+    }
 
-        log.info("TMDB TV 상세 응답 완료 → name: {}, id: {}, firstAirDate: {}, lastAirDate: {}, genres: {}, originCountry: {}",
-                response.getName(), response.getId(), response.getFirstAirDate(),
-                response.getLastAirDate(), response.getGenres(), response.getOriginCountry());
-        return response;
+    /**
+     * TMDB TV 상세 페이지 조회 (지정한 언어)
+     */
+    public TmdbTvDetailResponse getTvDetails(Long tmdbId, String language) {
+        return reactiveTmdbApiService.getTvDetails(tmdbId, language).block();
     }
 
+    /**
+     * 기간 내 TMDB에서 데이터가 바뀐 작품 id 목록 (모든 페이지)
+     */
+    public Set<Long> getChangedIds(ContentType contentType, LocalDate startDate, LocalDate endDate) {
+        Set<Long> ids = reactiveTmdbApiService.getChangedIds(contentType, startDate, endDate).block();
+        return ids != null ? ids : Set.of();
+    }
 }
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,50 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.content.entity.TagType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 카테고리(TagType) 목록 수집 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "tmdb.category")
+@Getter
+@Setter
+public class TmdbCategoryProperties {
+
+    // TMDB 목록 API가 허용하는 최대 페이지
+    public static final int TMDB_MAX_PAGE = 500;
+
+    // 카테고리별 수집 페이지 수 (페이지당 20건)
+    private int defaultPageDepth = 5;
+    private Map<TagType, Integer> pageDepth = new EnumMap<>(TagType.class);
+
+    // 페이지 동시 요청 수 / 초당 요청 수 (TMDB rate limit 예산)
+    private int maxConcurrentPages = 4;
+    private int requestsPerSecond = 20;
+
+    // 수집 파이프라인 단계 간 큐 크기(페이지 단위) / DB 쓰기 배치 크기(건)
+    private int stageQueueCapacity = 8;
+    private int writeBatchSize = 100;
+
+    // 공개가 끝난 이전 스냅샷 보관 기간 (진행 중인 갱신의 미공개 스냅샷도 이 기간 동안 보호됨)
+    private Duration snapshotRetention = Duration.ofMinutes(30);
+
+    // 카테고리 목록 API 한 번에 반환하는 최대 건수
+    private int maxPageSize = 100;
+
+    // 카테고리 목록 캐시 재적재 주기 (다른 인스턴스에서 갱신된 목록 반영용)
+    private Duration listCacheRefresh = Duration.ofMinutes(10);
+
+    public int pageDepthOf(TagType tagType) {
+        int depth = pageDepth.getOrDefault(tagType, defaultPageDepth);
+        return Math.clamp(depth, 1, TMDB_MAX_PAGE);
+    }
+}
@@ -0,0 +1,54 @@
+package com.geekflex.app.content.service.tmdb;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * TMDB HTTP 클라이언트 설정 (커넥션 풀, timeout, rate limit, circuit breaker, bulkhead)
+ */
+@Component
+@ConfigurationProperties(prefix = "tmdb.client")
+@Getter
+@Setter
+public class TmdbClientProperties {
+
+    private String baseUrl = "https://api.themoviedb.org/3";
+
+    // 커넥션 풀 / timeout
+    private int maxConnections = 50;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    // 일시 오류(연결 실패, 5xx) 재시도 횟수
+    private int maxRetries = 1;
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    // token bucket: TMDB 권장 한도(약 50 req/s)보다 낮게 유지
+    private int requestsPerSecond = 40;
+    private Duration rateLimitTimeout = Duration.ofSeconds(2);
+
+    // circuit breaker
+    private float failureRateThreshold = 50;
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private Duration slowCallThreshold = Duration.ofSeconds(3);
+    private Duration waitInOpenState = Duration.ofSeconds(30);
+
+    // bulkhead: 트래픽 종류별 동시 호출 수 (초과 시 대기 없이 즉시 거절)
+    private Map<TmdbEndpoint.Traffic, Integer> maxConcurrentCalls = new EnumMap<>(Map.of(
+            TmdbEndpoint.Traffic.DETAIL, 20,
+            TmdbEndpoint.Traffic.SEARCH, 20,
+            TmdbEndpoint.Traffic.INGESTION, 8));
+
+    public int maxConcurrentCallsOf(TmdbEndpoint.Traffic traffic) {
+        return maxConcurrentCalls.getOrDefault(traffic, 10);
+    }
+}
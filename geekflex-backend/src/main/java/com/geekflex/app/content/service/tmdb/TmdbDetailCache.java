@@ -1,47 +1,263 @@
 package com.geekflex.app.content.service.tmdb;
 
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
 import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
 import com.geekflex.app.content.dto.tmdb.TmdbTvDetailResponse;
+import com.geekflex.app.content.entity.ContentType;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
- * TMDB API 응답을 인메모리 캐싱하는 컴포넌트.
+ * TMDB API 응답을 캐싱하는 컴포넌트.
  * DB에 저장하지 않는 상세 필드(genres, runtime, productionCompanies 등)를
  * API 재호출 없이 제공하기 위해 사용한다.
+ * <p>
+ * L1: 인스턴스별 Caffeine 캐시, L2: 인스턴스 간 공유되는 Redis ({@link TmdbDetailRedisStore}),
+ * L3: 재시작 후에도 남는 DB 스냅샷 ({@link TmdbDetailSnapshotStore}).
+ * 상위 계층 miss 시 다음 계층을 조회하고, hit이면 그보다 위 계층에 다시 채운다.
+ * <p>
+ * 상세 응답 전체는 기본 언어({@link TmdbLanguage#DEFAULT})로만 보관하고,
+ * 다른 언어는 (tmdbId, 언어) 키로 번역 문자열({@link TmdbLocalizedText})만 같은 세 계층에 보관한다.
+ * 번역 문자열은 받은 시각({@link CachedLocalizedText#fetchedAt})과 함께 보관해 호출부가 신선도를 판단한다.
  */
 @Component
 public class TmdbDetailCache {
 
+    private static final String MOVIE = "movie";
+    private static final String TV = "tv";
+
     private final Cache<Long, TmdbMovieDetailResponse> movieCache;
     private final Cache<Long, TmdbTvDetailResponse> tvCache;
+    private final Cache<LocalizedKey, CachedLocalizedText> localizedCache;
+    private final TmdbDetailRedisStore redisStore;
+    private final TmdbDetailSnapshotStore snapshotStore;
+    private final TierCounters movieCounters;
+    private final TierCounters tvCounters;
+    private final TierCounters movieTextCounters;
+    private final TierCounters tvTextCounters;
 
-    public TmdbDetailCache(TmdbSyncProperties tmdbSyncProperties) {
+    public TmdbDetailCache(TmdbSyncProperties tmdbSyncProperties,
+                           TmdbDetailRedisStore redisStore,
+                           TmdbDetailSnapshotStore snapshotStore,
+                           MeterRegistry meterRegistry) {
         this.movieCache = Caffeine.newBuilder()
                 .maximumSize(5_000)
-                .expireAfterWrite(tmdbSyncProperties.getSyncInterval())
+                .expireAfterWrite(tmdbSyncProperties.getDetailCacheTtl())
                 .build();
 
         this.tvCache = Caffeine.newBuilder()
                 .maximumSize(5_000)
-                .expireAfterWrite(tmdbSyncProperties.getSyncInterval())
+                .expireAfterWrite(tmdbSyncProperties.getDetailCacheTtl())
                 .build();
+
+        // 번역 문자열은 상세 응답보다 작으므로 언어 수만큼 여유를 둠
+        this.localizedCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(tmdbSyncProperties.getDetailCacheTtl())
+                .build();
+
+        this.redisStore = redisStore;
+        this.snapshotStore = snapshotStore;
+        this.movieCounters = new TierCounters(MOVIE, meterRegistry);
+        this.tvCounters = new TierCounters(TV, meterRegistry);
+        this.movieTextCounters = new TierCounters(MOVIE + "-text", meterRegistry);
+        this.tvTextCounters = new TierCounters(TV + "-text", meterRegistry);
     }
 
     public TmdbMovieDetailResponse getMovieDetail(Long tmdbId) {
-        return movieCache.getIfPresent(tmdbId);
+        return get(movieCache, tmdbId, movieCounters, ContentType.MOVIE, tmdbId, TmdbLanguage.DEFAULT,
+                TmdbMovieDetailResponse.class);
     }
 
     public void putMovieDetail(Long tmdbId, TmdbMovieDetailResponse response) {
         movieCache.put(tmdbId, response);
+        redisStore.put(MOVIE, tmdbId, TmdbLanguage.DEFAULT, response);
+        snapshotStore.put(ContentType.MOVIE, tmdbId, TmdbLanguage.DEFAULT, response);
+    }
+
+    /**
+     * 콘텐츠 해시가 그대로인 갱신: L1만 교체하고 Redis는 TTL만 연장한다.
+     * 하위 계층에 값이 없을 때만 직렬화해서 저장한다.
+     */
+    public void touchMovieDetail(Long tmdbId, TmdbMovieDetailResponse response) {
+        movieCache.put(tmdbId, response);
+        touchLowerTiers(ContentType.MOVIE, tmdbId, response);
     }
 
     public TmdbTvDetailResponse getTvDetail(Long tmdbId) {
-        return tvCache.getIfPresent(tmdbId);
+        return get(tvCache, tmdbId, tvCounters, ContentType.TV, tmdbId, TmdbLanguage.DEFAULT,
+                TmdbTvDetailResponse.class);
     }
 
     public void putTvDetail(Long tmdbId, TmdbTvDetailResponse response) {
         tvCache.put(tmdbId, response);
+        redisStore.put(TV, tmdbId, TmdbLanguage.DEFAULT, response);
+        snapshotStore.put(ContentType.TV, tmdbId, TmdbLanguage.DEFAULT, response);
+    }
+
+    /**
+     * @see #touchMovieDetail
+     */
+    public void touchTvDetail(Long tmdbId, TmdbTvDetailResponse response) {
+        tvCache.put(tmdbId, response);
+        touchLowerTiers(ContentType.TV, tmdbId, response);
+    }
+
+    /**
+     * 기본 언어가 아닌 언어의 번역 문자열 조회.
+     * 동기화 주기가 지난 항목도 그대로 돌려주므로 호출부에서 {@link CachedLocalizedText#isFresh}로 확인한다.
+     * @param language {@link TmdbLanguage#normalize}로 정규화된 언어 코드
+     */
+    public CachedLocalizedText getLocalizedText(ContentType contentType, Long tmdbId, String language) {
+        LocalizedKey key = new LocalizedKey(contentType, tmdbId, language);
+        TierCounters counters = contentType == ContentType.MOVIE ? movieTextCounters : tvTextCounters;
+
+        CachedLocalizedText local = localizedCache.getIfPresent(key);
+        if (local != null) {
+            counters.l1Hit.increment();
+            return local;
+        }
+        counters.l1Miss.increment();
+
+        String type = redisType(contentType);
+        CachedLocalizedText shared = redisStore.get(type, tmdbId, language, CachedLocalizedText.class);
+        // 받은 시각이 없는 이전 형식의 값은 miss로 취급
+        if (shared != null && shared.text() != null && shared.fetchedAt() != null) {
+            counters.l2Hit.increment();
+            localizedCache.put(key, shared);
+            return shared;
+        }
+        counters.l2Miss.increment();
+
+        CachedLocalizedText persisted = snapshotStore.getLocalizedText(contentType, tmdbId, language);
+        if (persisted == null) {
+            counters.l3Miss.increment();
+            return null;
+        }
+
+        counters.l3Hit.increment();
+        redisStore.put(type, tmdbId, language, persisted);
+        localizedCache.put(key, persisted);
+        return persisted;
+    }
+
+    public void putLocalizedText(ContentType contentType, Long tmdbId, String language, TmdbLocalizedText text) {
+        CachedLocalizedText cached = new CachedLocalizedText(text, LocalDateTime.now());
+        localizedCache.put(new LocalizedKey(contentType, tmdbId, language), cached);
+        redisStore.put(redisType(contentType), tmdbId, language, cached);
+        snapshotStore.put(contentType, tmdbId, language, text, cached.fetchedAt());
+    }
+
+    /**
+     * DB 스냅샷을 L1에 미리 채운다. (시작 시 인기 콘텐츠 예열, 이미 L1에 있는 건은 건너뜀)
+     * @return L1에 없고 스냅샷도 없는 tmdbId (TMDB에서 받아야 하는 콘텐츠)
+     */
+    public List<Long> warmUp(ContentType contentType, Collection<Long> tmdbIds) {
+        return contentType == ContentType.MOVIE
+                ? warmUp(movieCache, ContentType.MOVIE, tmdbIds, TmdbMovieDetailResponse.class)
+                : warmUp(tvCache, ContentType.TV, tmdbIds, TmdbTvDetailResponse.class);
+    }
+
+    /**
+     * 어느 계층에든 상세 응답이 있는지 (있으면 L1에 채움)
+     */
+    public boolean isCached(ContentType contentType, Long tmdbId) {
+        return (contentType == ContentType.MOVIE ? getMovieDetail(tmdbId) : getTvDetail(tmdbId)) != null;
+    }
+
+    private <T> List<Long> warmUp(Cache<Long, T> l1, ContentType contentType, Collection<Long> tmdbIds,
+                                  Class<T> detailType) {
+        List<Long> missing = tmdbIds.stream()
+                .filter(tmdbId -> l1.getIfPresent(tmdbId) == null)
+                .toList();
+        Map<Long, T> snapshots = snapshotStore.getAll(contentType, missing, detailType);
+        l1.putAll(snapshots);
+        return missing.stream()
+                .filter(tmdbId -> !snapshots.containsKey(tmdbId))
+                .toList();
+    }
+
+    private void touchLowerTiers(ContentType contentType, Long tmdbId, Object response) {
+        if (!redisStore.touch(redisType(contentType), tmdbId, TmdbLanguage.DEFAULT)) {
+            redisStore.put(redisType(contentType), tmdbId, TmdbLanguage.DEFAULT, response);
+        }
+        if (!snapshotStore.exists(contentType, tmdbId, TmdbLanguage.DEFAULT)) {
+            snapshotStore.put(contentType, tmdbId, TmdbLanguage.DEFAULT, response);
+        }
+    }
+
+    private <K, T> T get(Cache<K, T> l1, K key, TierCounters counters, ContentType contentType, Long tmdbId,
+                         String language, Class<T> detailType) {
+        T local = l1.getIfPresent(key);
+        if (local != null) {
+            counters.l1Hit.increment();
+            return local;
+        }
+        counters.l1Miss.increment();
+
+        String type = redisType(contentType);
+        T shared = redisStore.get(type, tmdbId, language, detailType);
+        if (shared != null) {
+            counters.l2Hit.increment();
+            l1.put(key, shared);
+            return shared;
+        }
+        counters.l2Miss.increment();
+
+        T persisted = snapshotStore.get(contentType, tmdbId, language, detailType);
+        if (persisted == null) {
+            counters.l3Miss.increment();
+            return null;
+        }
+
+        counters.l3Hit.increment();
+        redisStore.put(type, tmdbId, language, persisted);
+        l1.put(key, persisted);
+        return persisted;
+    }
+
+    private static String redisType(ContentType contentType) {
+        return contentType == ContentType.MOVIE ? MOVIE : TV;
+    }
+
+    private record LocalizedKey(ContentType contentType, Long tmdbId, String language) {
+    }
+
+    /**
+     * 계층(tier)별 hit/miss 카운터 (tmdb.detail.cache)
+     */
+    private static final class TierCounters {
+        private final Counter l1Hit;
+        private final Counter l1Miss;
+        private final Counter l2Hit;
+        private final Counter l2Miss;
+        private final Counter l3Hit;
+        private final Counter l3Miss;
+
+        private TierCounters(String type, MeterRegistry meterRegistry) {
+            this.l1Hit = counter(meterRegistry, type, "l1", "hit");
+            this.l1Miss = counter(meterRegistry, type, "l1", "miss");
+            this.l2Hit = counter(meterRegistry, type, "l2", "hit");
+            this.l2Miss = counter(meterRegistry, type, "l2", "miss");
+            this.l3Hit = counter(meterRegistry, type, "l3", "hit");
+            this.l3Miss = counter(meterRegistry, type, "l3", "miss");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String type, String tier, String result) {
+            return Counter.builder("tmdb.detail.cache")
+                    .description("TMDB 상세 캐시 계층별 조회 결과")
+                    .tag("type", type)
+                    .tag("tier", tier)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
     }
 }
@@ -0,0 +1,81 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * TMDB 상세 DTO를 외부 저장소(Redis 등)에 보관하기 위한 직렬화 도구.
+ * JSON으로 직렬화한 뒤 deflate로 압축해 저장 용량과 네트워크 전송량을 줄인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TmdbDetailCodec {
+
+    private static final int BUFFER_SIZE = 4 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(Object detail) {
+        try {
+            return compress(objectMapper.writeValueAsBytes(detail));
+        } catch (IOException e) {
+            throw new UncheckedIOException("TMDB 상세 직렬화 실패", e);
+        }
+    }
+
+    public <T> T decode(byte[] payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(decompress(payload), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("TMDB 상세 역직렬화 실패", e);
+        }
+    }
+
+    private byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] compressed) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.geekflex.app.content.service.tmdb;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * TMDB 상세 응답의 L2 캐시 (Redis).
+ * <p>
+ * 여러 백엔드 인스턴스가 공유하고 재시작 후에도 유지되므로,
+ * L1(Caffeine) miss 시 TMDB를 호출하기 전에 먼저 조회한다.
+ * Redis 장애는 캐시 miss로 취급하여 요청 처리에 영향을 주지 않는다.
+ */
+@Component
+@Log4j2
+public class TmdbDetailRedisStore {
+
+    private static final String KEY_PREFIX = "tmdb:detail:";
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final TmdbDetailCodec codec;
+    private final TmdbSyncProperties tmdbSyncProperties;
+
+    public TmdbDetailRedisStore(RedisConnectionFactory connectionFactory,
+                                TmdbDetailCodec codec,
+                                TmdbSyncProperties tmdbSyncProperties) {
+        this.codec = codec;
+        this.tmdbSyncProperties = tmdbSyncProperties;
+
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        this.redisTemplate = template;
+    }
+
+    /**
+     * 기본 언어가 아니면 받은 시각이 붙은 번역 문자열({@code CachedLocalizedText})을 언어별 키에 보관한다.
+     */
+    public <T> T get(String type, Long tmdbId, String language, Class<T> detailType) {
+        try {
+            byte[] payload = redisTemplate.opsForValue().get(key(type, tmdbId, language));
+            return payload != null ? codec.decode(payload, detailType) : null;
+        } catch (RuntimeException e) {
+            log.warn("Redis TMDB 상세 조회 실패 - type={}, tmdbId={}: {}", type, tmdbId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(String type, Long tmdbId, String language, Object detail) {
+        try {
+            // TTL은 L1과 동일한 상세 캐시 보관 기간을 따름
+            redisTemplate.opsForValue().set(key(type, tmdbId, language), codec.encode(detail),
+                    tmdbSyncProperties.getDetailCacheTtl());
+        } catch (RuntimeException e) {
+            log.warn("Redis TMDB 상세 저장 실패 - type={}, tmdbId={}: {}", type, tmdbId, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 값은 그대로 두고 TTL만 연장
+     * @return 키가 있어서 연장했으면 true (없거나 Redis 오류면 false)
+     */
+    public boolean touch(String type, Long tmdbId, String language) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.expire(key(type, tmdbId, language),
+                    tmdbSyncProperties.getDetailCacheTtl()));
+        } catch (RuntimeException e) {
+            log.warn("Redis TMDB 상세 TTL 연장 실패 - type={}, tmdbId={}: {}", type, tmdbId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 기본 언어는 기존 키 그대로 (tmdb:detail:movie:550), 그 외는 언어를 붙임 (tmdb:detail:movie:550:en-US)
+    private String key(String type, Long tmdbId, String language) {
+        String key = KEY_PREFIX + type + ":" + tmdbId;
+        return TmdbLanguage.isDefault(language) ? key : key + ":" + language;
+    }
+}
@@ -0,0 +1,111 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.repository.ContentDetailSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TMDB 상세 응답의 L3 캐시 (DB, content_detail_snapshot).
+ * <p>
+ * Redis(L2)와 달리 보관 기간이 없고 배포/재시작 후에도 남으므로,
+ * L1/L2가 모두 비어 있어도 TMDB를 다시 호출하지 않고 상세 필드를 제공한다.
+ * 신선도는 Content.lastSyncedAt으로 판단하므로 오래된 스냅샷이 그대로 응답되지는 않는다.
+ * (번역 문자열은 lastSyncedAt과 따로 받으므로 행의 fetched_at으로 판단)
+ * DB 오류와 손상된 스냅샷은 캐시 miss로 취급한다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class TmdbDetailSnapshotStore {
+
+    private final ContentDetailSnapshotRepository snapshotRepository;
+    private final TmdbDetailCodec codec;
+
+    /**
+     * 기본 언어가 아니면 번역 문자열({@code TmdbLocalizedText})만 저장된 행을 읽는다.
+     */
+    public <T> T get(ContentType contentType, Long tmdbId, String language, Class<T> detailType) {
+        try {
+            byte[] payload = snapshotRepository.find(contentType, tmdbId, language);
+            return payload != null ? codec.decode(payload, detailType) : null;
+        } catch (RuntimeException e) {
+            log.warn("TMDB 상세 스냅샷 조회 실패 - type={}, tmdbId={}, language={}: {}",
+                    contentType, tmdbId, language, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 번역 문자열을 저장 시각과 함께 조회 (신선도는 호출부에서 fetched_at으로 판단)
+     */
+    public CachedLocalizedText getLocalizedText(ContentType contentType, Long tmdbId, String language) {
+        try {
+            ContentDetailSnapshotRepository.SnapshotRow row = snapshotRepository.findRow(contentType, tmdbId, language);
+            return row != null
+                    ? new CachedLocalizedText(codec.decode(row.payload(), TmdbLocalizedText.class), row.fetchedAt())
+                    : null;
+        } catch (RuntimeException e) {
+            log.warn("TMDB 번역 스냅샷 조회 실패 - type={}, tmdbId={}, language={}: {}",
+                    contentType, tmdbId, language, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 여러 건을 한 번에 조회 (시작 시 예열용)
+     * @return tmdbId → 상세 응답 (없거나 읽지 못한 건은 제외)
+     */
+    public <T> Map<Long, T> getAll(ContentType contentType, Collection<Long> tmdbIds, Class<T> detailType) {
+        Map<Long, T> details = new HashMap<>();
+        Map<Long, byte[]> payloads;
+        try {
+            payloads = snapshotRepository.findAll(contentType, tmdbIds, TmdbLanguage.DEFAULT);
+        } catch (RuntimeException e) {
+            log.warn("TMDB 상세 스냅샷 일괄 조회 실패 - type={}, {}건: {}", contentType, tmdbIds.size(), e.getMessage());
+            return details;
+        }
+
+        payloads.forEach((tmdbId, payload) -> {
+            try {
+                details.put(tmdbId, codec.decode(payload, detailType));
+            } catch (RuntimeException e) {
+                log.warn("TMDB 상세 스냅샷 역직렬화 실패 - type={}, tmdbId={}: {}", contentType, tmdbId, e.getMessage());
+            }
+        });
+        return details;
+    }
+
+    /**
+     * 스냅샷 행 존재 여부 (payload는 읽지 않음). 조회 실패 시 없는 것으로 취급해 다시 저장하게 한다.
+     */
+    public boolean exists(ContentType contentType, Long tmdbId, String language) {
+        try {
+            return snapshotRepository.exists(contentType, tmdbId, language);
+        } catch (RuntimeException e) {
+            log.warn("TMDB 상세 스냅샷 존재 확인 실패 - type={}, tmdbId={}, language={}: {}",
+                    contentType, tmdbId, language, e.getMessage());
+            return false;
+        }
+    }
+
+    public void put(ContentType contentType, Long tmdbId, String language, Object detail) {
+        put(contentType, tmdbId, language, detail, LocalDateTime.now());
+    }
+
+    public void put(ContentType contentType, Long tmdbId, String language, Object detail, LocalDateTime fetchedAt) {
+        try {
+            snapshotRepository.upsert(contentType, tmdbId, language, codec.encode(detail), fetchedAt);
+        } catch (RuntimeException e) {
+            log.warn("TMDB 상세 스냅샷 저장 실패 - type={}, tmdbId={}, language={}: {}",
+                    contentType, tmdbId, language, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.geekflex.app.content.service.tmdb;
+
+/**
+ * TMDB 호출 종류.
+ * 요청 attribute로 지정하며, 메트릭 태그(endpoint)와 bulkhead 구분(traffic)에 사용한다.
+ */
+public enum TmdbEndpoint {
+    MOVIE_DETAIL("movie-detail", Traffic.DETAIL),
+    TV_DETAIL("tv-detail", Traffic.DETAIL),
+    SEARCH_MOVIE("search-movie", Traffic.SEARCH),
+    SEARCH_TV("search-tv", Traffic.SEARCH),
+    CATEGORY_LIST("category-list", Traffic.INGESTION),
+    CHANGES("changes", Traffic.INGESTION);
+
+    public static final String ATTRIBUTE = TmdbEndpoint.class.getName();
+
+    private final String tag;
+    private final Traffic traffic;
+
+    TmdbEndpoint(String tag, Traffic traffic) {
+        this.tag = tag;
+        this.traffic = traffic;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public Traffic traffic() {
+        return traffic;
+    }
+
+    /**
+     * bulkhead 구분: 사용자 요청(상세/검색)과 배치 수집이 서로의 동시 호출 한도를 잠식하지 않도록 분리
+     */
+    public enum Traffic {
+        DETAIL, SEARCH, INGESTION
+    }
+}
@@ -3,7 +3,8 @@ package com.geekflex.app.content.service.tmdb;
 import lombok.NoArgsConstructor;
 
 /**
- * TMDB api에서 응답받은 이미지의 상대 경로를 절대 URL로 변환해 주는 유틸리티 클래스
+ * TMDB api에서 응답받은 이미지의 상대 경로를 이미지 URL로 변환해 주는 유틸리티 클래스
+ * 클라이언트가 image.tmdb.org에서 직접 받지 않도록 이미지 프록시(/api/v1/images, 디스크 캐시) 경로를 반환한다.
  * 공식 문서:
  * - Image basics: https://developer.themoviedb.org/docs/image-basics
  * - Configuration API (base_url, size 정보 조회): https://developer.themoviedb.org/reference/configuration-details
@@ -11,7 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public final class TmdbImageUrlBuilder {
 
-    private static final String TMDB_IMAGE_BASE_URL = "https://image.tmdb.org/t/p";
+    private static final String IMAGE_PROXY_BASE_URL = "/api/v1/images";
     private static final String TMDB_POSTER_SIZE = "w500"; // 세로 포스터용
     private static final String TMDB_BACKDROP_SIZE = "w1280"; // 가로 배경용
 
@@ -36,6 +37,6 @@ public final class TmdbImageUrlBuilder {
             return path;
         }
 
-        return TMDB_IMAGE_BASE_URL + "/" + size + path;
+        return IMAGE_PROXY_BASE_URL + "/" + size + path;
     }
 }
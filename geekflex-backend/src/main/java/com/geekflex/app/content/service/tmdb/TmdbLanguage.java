@@ -0,0 +1,55 @@
+package com.geekflex.app.content.service.tmdb;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * TMDB 요청 언어 코드 (ISO 639-1 + 선택적 ISO 3166-1, 예: ko-KR, en-US, ja).
+ * <p>
+ * DB의 콘텐츠와 상세 캐시 원본은 기본 언어(ko-KR)로 저장하고,
+ * 다른 언어는 번역 문자열만 따로 캐싱하여 기본 언어 응답 위에 덮어쓴다.
+ */
+public final class TmdbLanguage {
+
+    public static final String DEFAULT = "ko-KR";
+
+    private static final Pattern FORMAT = Pattern.compile("([a-zA-Z]{2})(?:-([a-zA-Z]{2}))?");
+
+    private TmdbLanguage() {
+    }
+
+    /**
+     * 대소문자를 TMDB 형식으로 맞춘다. (en-us → en-US, 비어 있으면 기본 언어)
+     * @throws IllegalArgumentException 언어 코드 형식이 아니면
+     */
+    public static String normalize(String language) {
+        if (language == null || language.isBlank()) {
+            return DEFAULT;
+        }
+        Matcher matcher = FORMAT.matcher(language.strip());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("잘못된 언어 코드입니다.");
+        }
+        String code = matcher.group(1).toLowerCase(Locale.ROOT);
+        return matcher.group(2) != null ? code + "-" + matcher.group(2).toUpperCase(Locale.ROOT) : code;
+    }
+
+    /**
+     * 정규화 후 허용 목록에 있는 언어만 받는다. (기본 언어는 항상 허용)
+     * 언어마다 TMDB 상세 호출과 DB 스냅샷 행이 생기므로, 요청 값을 그대로 쓰지 않는다.
+     * @throws IllegalArgumentException 형식이 잘못됐거나 지원하지 않는 언어이면
+     */
+    public static String resolve(String language, Collection<String> supported) {
+        String normalized = normalize(language);
+        if (isDefault(normalized) || supported.stream().map(TmdbLanguage::normalize).anyMatch(normalized::equals)) {
+            return normalized;
+        }
+        throw new IllegalArgumentException("지원하지 않는 언어입니다.");
+    }
+
+    public static boolean isDefault(String language) {
+        return DEFAULT.equals(language);
+    }
+}
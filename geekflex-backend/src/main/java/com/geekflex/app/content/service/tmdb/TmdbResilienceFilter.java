@@ -0,0 +1,184 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * TMDB 호출 보호 필터 (tmdbWebClient 전용).
+ * <p>
+ * 안쪽부터 bulkhead(트래픽 종류별 동시 호출 수) → rate limiter(token bucket) → circuit breaker 순으로 감싸고,
+ * 일시 오류(연결 실패, timeout, 5xx)는 한 번 재시도한다.
+ * 호출할 수 없거나 일시 오류로 실패하면 {@link TmdbUnavailableException}으로 바꿔
+ * 호출 측이 DB 데이터만으로 응답하도록 한다.
+ * <p>
+ * endpoint별 처리 시간과 결과는 tmdb.client.requests로 기록한다.
+ */
+@Component
+@Log4j2
+public class TmdbResilienceFilter implements ExchangeFilterFunction {
+
+    private static final String NAME = "tmdb";
+
+    private final TmdbClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final Map<TmdbEndpoint.Traffic, Bulkhead> bulkheads = new EnumMap<>(TmdbEndpoint.Traffic.class);
+
+    public TmdbResilienceFilter(TmdbClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .slowCallDurationThreshold(properties.getSlowCallThreshold())
+                .waitDurationInOpenState(properties.getWaitInOpenState())
+                .recordException(TmdbResilienceFilter::isTransient)
+                .build());
+        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(properties.getRequestsPerSecond())
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(properties.getRateLimitTimeout())
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(NAME);
+        for (TmdbEndpoint.Traffic traffic : TmdbEndpoint.Traffic.values()) {
+            // 리액티브 체인에서 대기하면 event loop가 막히므로 대기 없이 거절
+            bulkheads.put(traffic, bulkheadRegistry.bulkhead(NAME + "-" + traffic.name().toLowerCase(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(properties.maxConcurrentCallsOf(traffic))
+                    .maxWaitDuration(Duration.ZERO)
+                    .build()));
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(rateLimiterRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("TMDB circuit breaker 상태 변경: {}", event.getStateTransition()));
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        TmdbEndpoint endpoint = request.attribute(TmdbEndpoint.ATTRIBUTE)
+                .map(TmdbEndpoint.class::cast)
+                .orElse(null);
+        String endpointTag = endpoint != null ? endpoint.tag() : "other";
+        Bulkhead bulkhead = bulkheads.get(endpoint != null ? endpoint.traffic() : TmdbEndpoint.Traffic.DETAIL);
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(() -> next.exchange(request))
+                    .flatMap(TmdbResilienceFilter::rejectServerError)
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .retryWhen(Retry.backoff(properties.getMaxRetries(), properties.getRetryBackoff())
+                            .filter(TmdbResilienceFilter::isTransient)
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .doOnSuccess(response -> sample.stop(timer(endpointTag, response != null
+                            ? outcomeOf(response.statusCode().value())
+                            : "empty")))
+                    .doOnError(e -> sample.stop(timer(endpointTag, outcomeOf(e))))
+                    .onErrorMap(TmdbResilienceFilter::isUnavailable, e -> new TmdbUnavailableException(
+                            "TMDB 호출 불가 (" + endpointTag + "): " + e.getMessage(), e));
+        });
+    }
+
+    /**
+     * 5xx / 429 응답은 오류로 바꿔 circuit breaker와 재시도가 처리하도록 한다.
+     * (4xx는 요청 자체의 문제이므로 그대로 호출 측에 전달)
+     */
+    private static Mono<ClientResponse> rejectServerError(ClientResponse response) {
+        if (response.statusCode().is5xxServerError()
+                || response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return response.createError();
+        }
+        return Mono.just(response);
+    }
+
+    /**
+     * 일시 오류: 재시도 대상이며 circuit breaker 실패로 집계된다.
+     */
+    static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private static boolean isUnavailable(Throwable e) {
+        return isRejected(e) || isTransient(e);
+    }
+
+    private static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof RequestNotPermitted
+                || e instanceof BulkheadFullException;
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) {
+            return "server_error";
+        }
+        return status >= 400 ? "client_error" : "success";
+    }
+
+    private static String outcomeOf(Throwable e) {
+        if (isRejected(e)) {
+            return "rejected";
+        }
+        if (e instanceof WebClientResponseException response) {
+            return outcomeOf(response.getStatusCode().value());
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException ? "io_error" : "error";
+    }
+
+    private Timer timer(String endpoint, String outcome) {
+        return Timer.builder("tmdb.client.requests")
+                .description("TMDB API 호출 처리 시간 (재시도 포함)")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
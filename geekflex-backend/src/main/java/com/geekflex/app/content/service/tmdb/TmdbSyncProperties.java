@@ -6,6 +6,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
 
 @Component
 @ConfigurationProperties(prefix = "tmdb")
@@ -13,4 +14,58 @@ import java.time.Duration;
 @Setter
 public class TmdbSyncProperties {
     private Duration syncInterval = Duration.ofHours(24);
+
+    /**
+     * stale-while-revalidate 모드.
+     * 동기화 주기가 지난 콘텐츠도 hardStaleCeiling 이내라면 즉시 응답하고 백그라운드에서 갱신한다.
+     */
+    private boolean staleWhileRevalidate = true;
+
+    // 이 기간을 넘긴 콘텐츠는 요청 스레드에서 동기 갱신
+    private Duration hardStaleCeiling = Duration.ofDays(7);
+
+    // 백그라운드 갱신 동시 실행 수 / 대기열 크기
+    private int refreshConcurrency = 4;
+    private int refreshQueueCapacity = 200;
+
+    /**
+     * TMDB 변경 목록(/movie/changes, /tv/changes) 기반 델타 동기화.
+     * 조회 구간(deltaSyncLookback) 안에 동기화된 콘텐츠 중 변경된 것만 다시 받고,
+     * 나머지는 동기화 시각만 연장해 요청 시점의 재조회를 줄인다. (TMDB 제한: 최대 14일)
+     */
+    private boolean deltaSyncEnabled = true;
+    private Duration deltaSyncLookback = Duration.ofDays(2);
+    private int deltaSyncBatchSize = 100;
+
+    /**
+     * 인기 콘텐츠 선제 갱신.
+     * 상세 조회 빈도 상위 hotRefreshTopN건 중 동기화 주기 만료까지 hotRefreshLead 이내로 남은 콘텐츠를
+     * 만료 전에 백그라운드에서 갱신해, 자주 조회되는 상세 페이지가 동기 TMDB 호출을 타지 않도록 한다.
+     */
+    private boolean hotRefreshEnabled = true;
+    private int hotRefreshTopN = 200;
+    private Duration hotRefreshLead = Duration.ofHours(1);
+
+    /**
+     * 상세 조회에서 허용하는 번역 언어 (기본 언어 ko-KR은 항상 허용).
+     * 언어마다 TMDB 상세 호출과 content_detail_snapshot 행이 생기므로 목록에 없는 언어는 400으로 거부한다.
+     */
+    private List<String> supportedLanguages = List.of("en-US", "ja-JP");
+
+    /**
+     * 시작 시 예열 (StartupWarmUpRunner).
+     * 비어 있는 카테고리 시드 → 인기 상위 detailWarmUpSize건(타입별)의 상세 캐시 예열 순으로 진행하고,
+     * 끝나거나 warmUpTimeout이 지나면 readiness를 UP으로 바꾼다. (0이면 상세 예열 안 함)
+     */
+    private int detailWarmUpSize = 500;
+    private Duration warmUpTimeout = Duration.ofMinutes(3);
+
+    /**
+     * 상세 캐시 보관 기간.
+     * stale 응답에도 상세 필드가 필요하므로 SWR 모드에서는 hardStaleCeiling까지 보관한다.
+     * (신선도 판단은 Content.lastSyncedAt 기준이므로 보관 기간과 무관)
+     */
+    public Duration getDetailCacheTtl() {
+        return staleWhileRevalidate ? hardStaleCeiling : syncInterval;
+    }
 }
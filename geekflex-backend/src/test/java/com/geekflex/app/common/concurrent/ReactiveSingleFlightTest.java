@@ -0,0 +1,60 @@
+package com.geekflex.app.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveSingleFlightTest {
+
+    private ReactiveSingleFlight<Long, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new ReactiveSingleFlight<>("test", new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("진행 중인 Mono가 있으면 upstream을 다시 구독하지 않고 결과를 공유한다")
+    void execute_subscribesUpstreamOnceWhileInFlight() {
+        // upstream이 완료되기 전에 두 구독자가 합류하면 구독은 한 번만 일어나야 한다.
+        AtomicInteger subscriptions = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        Mono<String> first = singleFlight.execute(1L, () -> upstream.asMono()
+                .doOnSubscribe(s -> subscriptions.incrementAndGet()));
+        Mono<String> second = singleFlight.execute(1L, () -> upstream.asMono()
+                .doOnSubscribe(s -> subscriptions.incrementAndGet()));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> upstream.tryEmitValue("result"))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo("result");
+                    assertThat(tuple.getT2()).isEqualTo("result");
+                })
+                .verifyComplete();
+
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료 후에는 키가 제거되어 다음 호출은 다시 upstream을 구독한다")
+    void execute_resubscribesAfterCompletion() {
+        // 결과를 캐싱하지 않아야 한다.
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        StepVerifier.create(singleFlight.execute(1L, () -> Mono.fromCallable(() -> "a" + subscriptions.incrementAndGet())))
+                .expectNext("a1")
+                .verifyComplete();
+        StepVerifier.create(singleFlight.execute(1L, () -> Mono.fromCallable(() -> "a" + subscriptions.incrementAndGet())))
+                .expectNext("a2")
+                .verifyComplete();
+    }
+}
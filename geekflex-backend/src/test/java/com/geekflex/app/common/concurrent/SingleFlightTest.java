@@ -0,0 +1,116 @@
+package com.geekflex.app.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 호출하면 작업은 한 번만 실행되고 결과를 공유한다")
+    void execute_runsSupplierOnceForConcurrentCallers() throws Exception {
+        // 리더가 작업을 끝내기 전에 나머지 호출이 모두 합류해야 한다.
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<SingleFlight.Result<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+
+            waitUntilCoalesced(callers - 1);
+            release.countDown();
+
+            long sharedCount = 0;
+            for (Future<SingleFlight.Result<String>> future : futures) {
+                SingleFlight.Result<String> result = future.get(5, TimeUnit.SECONDS);
+                assertThat(result.value()).isEqualTo("result");
+                if (result.shared()) {
+                    sharedCount++;
+                }
+            }
+
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(sharedCount).isEqualTo(callers - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 키가 제거되어 다음 호출은 다시 실행된다")
+    void execute_doesNotCacheCompletedResult() {
+        // single-flight는 진행 중인 호출만 합치고 결과를 캐싱하지 않는다.
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.call(1L, () -> "first-" + executions.incrementAndGet());
+        String second = singleFlight.call(1L, () -> "second-" + executions.incrementAndGet());
+
+        assertThat(second).isEqualTo("second-2");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리더가 실패하면 예외가 그대로 전파되고 이후 호출은 다시 시도한다")
+    void execute_propagatesLeaderFailure() {
+        // 실패한 결과가 남아 있으면 안 된다.
+        assertThatThrownBy(() -> singleFlight.call(1L, () -> {
+            throw new IllegalArgumentException("boom");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+
+        assertThat(singleFlight.call(1L, () -> "retry")).isEqualTo("retry");
+    }
+
+    private void waitUntilCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("singleflight.calls")
+                .tag("result", "coalesced")
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
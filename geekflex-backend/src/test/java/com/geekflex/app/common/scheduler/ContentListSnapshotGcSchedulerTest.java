@@ -0,0 +1,57 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.content.repository.ContentListTagRepository;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentListSnapshotGcSchedulerTest {
+
+    @Mock
+    private ContentListTagRepository contentListTagRepository;
+
+    @Test
+    @DisplayName("보관 기간이 지난 비공개 스냅샷만 하나씩 삭제한다")
+    void collectStaleSnapshots_deletesEachStaleSnapshot() {
+        TmdbCategoryProperties properties = new TmdbCategoryProperties();
+        properties.setSnapshotRetention(Duration.ofMinutes(30));
+        ContentListSnapshotGcScheduler scheduler = new ContentListSnapshotGcScheduler(contentListTagRepository, properties);
+        when(contentListTagRepository.findStaleSnapshotIds(any())).thenReturn(List.of(3L, 4L));
+
+        scheduler.collectStaleSnapshots();
+
+        ArgumentCaptor<LocalDateTime> thresholdCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(contentListTagRepository).findStaleSnapshotIds(thresholdCaptor.capture());
+        assertThat(thresholdCaptor.getValue()).isBefore(LocalDateTime.now().minusMinutes(29));
+        verify(contentListTagRepository).deleteSnapshot(3L);
+        verify(contentListTagRepository).deleteSnapshot(4L);
+    }
+
+    @Test
+    @DisplayName("정리할 스냅샷이 없으면 삭제하지 않는다")
+    void collectStaleSnapshots_doesNothingWhenNoStaleSnapshot() {
+        ContentListSnapshotGcScheduler scheduler =
+                new ContentListSnapshotGcScheduler(contentListTagRepository, new TmdbCategoryProperties());
+        when(contentListTagRepository.findStaleSnapshotIds(any())).thenReturn(List.of());
+
+        scheduler.collectStaleSnapshots();
+
+        verify(contentListTagRepository, never()).deleteSnapshot(anyLong());
+    }
+}
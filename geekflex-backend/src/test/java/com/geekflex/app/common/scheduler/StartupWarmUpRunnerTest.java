@@ -0,0 +1,110 @@
+package com.geekflex.app.common.scheduler;
+
+import com.geekflex.app.admin.service.AdminCacheService;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.repository.ContentListTagRepository;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.ContentRefreshService;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import com.geekflex.app.content.service.tmdb.TmdbClientProperties;
+import com.geekflex.app.content.service.tmdb.TmdbDetailCache;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmUpRunnerTest {
+
+    @Mock
+    private ContentListTagRepository contentListTagRepository;
+
+    @Mock
+    private AdminCacheService adminCacheService;
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private ContentRefreshService contentRefreshService;
+
+    @Mock
+    private TmdbDetailCache tmdbDetailCache;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final TmdbSyncProperties tmdbSyncProperties = new TmdbSyncProperties();
+    private StartupWarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new StartupWarmUpRunner(contentListTagRepository, adminCacheService, contentRepository,
+                contentRefreshService, tmdbDetailCache, tmdbSyncProperties, new TmdbClientProperties(),
+                new TmdbCategoryProperties(), taskScheduler);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 카테고리만 태그당 한 번 확인하고 시드한 뒤 예열 완료로 표시한다")
+    void warmUp_seedsOnlyMissingCategories() {
+        tmdbSyncProperties.setDetailWarmUpSize(0);
+        when(contentListTagRepository.hasPublishedSnapshot(any())).thenReturn(true);
+        when(contentListTagRepository.hasPublishedSnapshot(TagType.POPULAR)).thenReturn(false);
+        when(contentListTagRepository.hasPublishedSnapshot(TagType.TV_ON_THE_AIR)).thenReturn(false);
+
+        assertThat(runner.isWarm()).isFalse();
+        runner.warmUp();
+
+        verify(adminCacheService).cacheMovieCategory(TagType.POPULAR, "/movie/popular");
+        verify(adminCacheService).cacheTvCategory(TagType.TV_ON_THE_AIR, "/tv/on_the_air");
+        verify(adminCacheService, times(1)).cacheMovieCategory(any(), anyString());
+        verify(adminCacheService, times(1)).cacheTvCategory(any(), anyString());
+        verify(contentListTagRepository, times(1)).hasPublishedSnapshot(TagType.NOW_PLAYING);
+        assertThat(runner.isWarm()).isTrue();
+        assertThat(runner.phaseMillis()).containsKeys("seed", "detail");
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없고 Redis에도 없는 인기 콘텐츠만 TMDB에서 받는다")
+    void warmUp_prefetchesDetailsMissingFromAllTiers() {
+        when(contentListTagRepository.hasPublishedSnapshot(any())).thenReturn(true);
+        when(contentRepository.findTopTmdbIdsByPopularity(eq(ContentType.MOVIE), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(tmdbDetailCache.warmUp(ContentType.MOVIE, List.of(1L, 2L, 3L))).thenReturn(List.of(2L, 3L));
+        Content cachedInRedis = content(2L);
+        Content cold = content(3L);
+        when(contentRepository.findByContentTypeAndTmdbIdIn(ContentType.MOVIE, List.of(2L, 3L)))
+                .thenReturn(List.of(cachedInRedis, cold));
+        when(tmdbDetailCache.isCached(ContentType.MOVIE, 2L)).thenReturn(true);
+        lenient().when(tmdbDetailCache.isCached(ContentType.MOVIE, 3L)).thenReturn(false);
+
+        runner.warmUp();
+
+        verify(contentRefreshService).refreshNow(cold);
+        verify(contentRefreshService, never()).refreshNow(cachedInRedis);
+        assertThat(runner.isWarm()).isTrue();
+    }
+
+    private Content content(Long tmdbId) {
+        return Content.builder().id(tmdbId).tmdbId(tmdbId).contentType(ContentType.MOVIE).title("영화 " + tmdbId).build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.geekflex.app.common.util;
+
+import com.geekflex.app.content.entity.Content;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramTokenizerTest {
+
+    @Test
+    @DisplayName("검색용 컬럼은 띄어쓰기/기호를 제거한 제목과 중복 없는 bigram 문자열로 채워진다")
+    void updateSearchColumns() {
+        Content content = Content.builder()
+                .title("반지의 제왕: 왕의 귀환")
+                .originalTitle("The Return of the King")
+                .build();
+
+        content.updateSearchColumns();
+
+        assertThat(content.getTitleNormalized()).isEqualTo("반지의제왕왕의귀환");
+        assertThat(content.getOriginalTitleNormalized()).isEqualTo("thereturnoftheking");
+        assertThat(content.getTitleBigrams().split(" "))
+                .startsWith("반지", "지의", "의제", "제왕", "왕왕", "왕의", "의귀", "귀환", "th")
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 검색식은 검색어의 모든 bigram을 필수(+) 구문으로 묶는다")
+    void booleanQuery() {
+        assertThat(BigramTokenizer.booleanQuery(BigramTokenizer.normalize("반지의 제왕")))
+                .isEqualTo("+\"반지\" +\"지의\" +\"의제\" +\"제왕\"");
+        assertThat(BigramTokenizer.booleanQuery("반")).isEmpty();
+    }
+}
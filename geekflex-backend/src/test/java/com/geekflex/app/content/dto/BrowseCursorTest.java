@@ -0,0 +1,44 @@
+package com.geekflex.app.content.dto;
+
+import com.geekflex.app.content.entity.Content;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BrowseCursorTest {
+
+    @Test
+    @DisplayName("정렬 기준별로 마지막 콘텐츠의 위치를 복원한다")
+    void encodeAndDecode_roundTripsPosition() {
+        Content last = Content.builder().id(42L)
+                .popularity(new BigDecimal("123.450"))
+                .releaseDate(LocalDate.of(2024, 5, 1))
+                .build();
+
+        BrowseCursor byPopularity = BrowseCursor.decode(BrowseSort.POPULARITY,
+                BrowseCursor.after(BrowseSort.POPULARITY, last).encode());
+        BrowseCursor byReleaseDate = BrowseCursor.decode(BrowseSort.RELEASE_DATE,
+                BrowseCursor.after(BrowseSort.RELEASE_DATE, last).encode());
+
+        assertThat(byPopularity.popularity()).isEqualByComparingTo("123.45");
+        assertThat(byPopularity.id()).isEqualTo(42L);
+        assertThat(byReleaseDate.releaseDate()).isEqualTo(LocalDate.of(2024, 5, 1));
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 손상되었거나 정렬 기준이 다른 커서는 예외를 던진다")
+    void decode_rejectsInvalidCursor() {
+        assertThat(BrowseCursor.decode(BrowseSort.POPULARITY, null)).isEqualTo(BrowseCursor.first(BrowseSort.POPULARITY));
+
+        String releaseCursor = new BrowseCursor(BrowseSort.RELEASE_DATE, "2024-05-01", 1L).encode();
+        assertThatThrownBy(() -> BrowseCursor.decode(BrowseSort.POPULARITY, releaseCursor))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BrowseCursor.decode(BrowseSort.POPULARITY, "not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
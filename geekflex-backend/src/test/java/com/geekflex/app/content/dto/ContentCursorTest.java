@@ -0,0 +1,39 @@
+package com.geekflex.app.content.dto;
+
+import com.geekflex.app.content.entity.Content;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentCursorTest {
+
+    @Test
+    @DisplayName("마지막 콘텐츠로 만든 커서를 복원하면 같은 위치를 가리킨다")
+    void encodeAndDecode_roundTripsPosition() {
+        Content last = Content.builder().id(42L).releaseDate(LocalDate.of(2024, 5, 1)).build();
+
+        ContentCursor decoded = ContentCursor.decode(ContentCursor.after(last).encode());
+
+        assertThat(decoded).isEqualTo(new ContentCursor(LocalDate.of(2024, 5, 1), 42L));
+    }
+
+    @Test
+    @DisplayName("개봉일이 없는 콘텐츠는 가장 오래된 날짜로 취급한다")
+    void after_usesFloorDateWhenReleaseDateMissing() {
+        Content last = Content.builder().id(7L).build();
+
+        assertThat(ContentCursor.after(last).releaseDate()).isEqualTo(ContentCursor.NO_RELEASE_DATE);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 손상된 커서는 예외를 던진다")
+    void decode_handlesMissingAndInvalidCursor() {
+        assertThat(ContentCursor.decode(null)).isEqualTo(ContentCursor.FIRST);
+        assertThatThrownBy(() -> ContentCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
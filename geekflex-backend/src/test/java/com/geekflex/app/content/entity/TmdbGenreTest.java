@@ -0,0 +1,66 @@
+package com.geekflex.app.content.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TmdbGenreTest {
+
+    @Test
+    @DisplayName("장르마다 서로 다른 비트를 가지고 long 범위 안에 있다")
+    void bits_areUnique() {
+        assertThat(Arrays.stream(TmdbGenre.values()).map(TmdbGenre::getBit).distinct())
+                .hasSize(TmdbGenre.values().length)
+                .allMatch(bit -> bit >= 0 && bit < Long.SIZE);
+    }
+
+    @Test
+    @DisplayName("영화/TV 장르 ID를 비트로 변환하고 알 수 없는 ID는 무시한다")
+    void toBits_mapsMovieAndTvGenreIds() {
+        long bits = TmdbGenre.toBits(List.of(53, 10765, 999_999));
+
+        assertThat(bits).isEqualTo(TmdbGenre.THRILLER.mask() | TmdbGenre.SCI_FI_FANTASY.mask());
+        assertThat(TmdbGenre.toBits(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("마스크의 장르를 모두 가진 경우에만 일치한다")
+    void toMask_requiresAllGenres() {
+        long bits = TmdbGenre.toBits(List.of(53L, 80L, 18L));
+        long mask = TmdbGenre.toMask(List.of(TmdbGenre.THRILLER, TmdbGenre.CRIME));
+
+        assertThat(bits & mask).isEqualTo(mask);
+        assertThat(bits & TmdbGenre.HORROR.mask()).isZero();
+        assertThat(TmdbGenre.toMask(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("genre_bits 값을 장르 목록으로 되돌린다 (bit 순)")
+    void fromBits_restoresGenres() {
+        long bits = TmdbGenre.toBits(List.of(10765, 53, 28));
+
+        assertThat(TmdbGenre.fromBits(bits))
+                .containsExactly(TmdbGenre.ACTION, TmdbGenre.THRILLER, TmdbGenre.SCI_FI_FANTASY);
+        assertThat(TmdbGenre.fromBits(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장된 한글 장르명 문자열을 비트로 변환하고 알 수 없는 이름은 무시한다")
+    void toBitsFromNames_mapsKoreanNames() {
+        assertThat(TmdbGenre.toBitsFromNames("드라마, 액션 & 어드벤처, Soap"))
+                .isEqualTo(TmdbGenre.DRAMA.mask() | TmdbGenre.ACTION_ADVENTURE.mask());
+        assertThat(TmdbGenre.toBitsFromNames(TmdbGenre.convertGenreIdsToString(List.of(53, 878))))
+                .isEqualTo(TmdbGenre.toBits(List.of(53, 878)));
+        assertThat(TmdbGenre.toBitsFromNames(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 API 장르명은 ', '로 구분하고 TV 장르도 이름으로 바꾼다")
+    void convertGenreIdsToString_usesSharedSeparator() {
+        assertThat(TmdbGenre.convertGenreIdsToString(List.of(18, 10759))).isEqualTo("드라마, 액션 & 어드벤처");
+    }
+}
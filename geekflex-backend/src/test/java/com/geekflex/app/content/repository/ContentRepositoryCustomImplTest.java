@@ -0,0 +1,118 @@
+package com.geekflex.app.content.repository;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TmdbGenre;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentRepositoryCustomImplTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ContentRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ContentRepositoryCustomImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("장르/언어 조건이 없으면 contents 인덱스만 읽고 NULL 허용 조건을 넣지 않는다")
+    void browse_withoutFilters_readsContents() {
+        String sql = browseSql(0L, null);
+
+        assertThat(sql).contains("FROM contents s").doesNotContain("content_genre", "IS NULL", "original_language");
+    }
+
+    @Test
+    @DisplayName("장르 하나면 content_genre 인덱스만 읽고, 언어는 그 언어 조건이 있는 쿼리로 분리한다")
+    void browse_withSingleGenre_readsContentGenre() {
+        String sql = browseSql(TmdbGenre.DRAMA.mask(), "ko");
+
+        assertThat(sql).contains("FROM content_genre s", "s.genre_id = :genreId", "s.original_language = :language")
+                .doesNotContain("JOIN contents", "IS NULL");
+    }
+
+    @Test
+    @DisplayName("장르가 여럿이면 첫 장르로 content_genre를 읽고 나머지는 genre_bits로 거른다")
+    void browse_withSeveralGenres_filtersRestByBits() {
+        long mask = TmdbGenre.DRAMA.mask() | TmdbGenre.CRIME.mask();
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        String sql = browseSql(mask, null, params);
+
+        assertThat(sql).contains("JOIN contents c ON c.id = s.id", "(c.genre_bits & :genreMask) = :genreMask");
+        // bit 순서상 범죄(4)가 드라마(6)보다 앞
+        assertThat(params.getValue().getValue("genreId")).isEqualTo(TmdbGenre.CRIME.getId());
+    }
+
+    @Test
+    @DisplayName("개봉일 정렬은 release_date를 keyset 컬럼으로 쓴다")
+    void browse_byReleaseDate_usesReleaseDateColumn() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.queryForList(sql.capture(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of());
+
+        repository.findBrowsePageIdsByReleaseDate(ContentType.TV, 0L, null, LocalDate.of(2024, 1, 1), 10L, 21);
+
+        assertThat(sql.getValue()).contains("ORDER BY s.release_date DESC, s.id DESC");
+    }
+
+    @Test
+    @DisplayName("content_genre 행은 콘텐츠별로 지우고 genre_bits의 장르마다 다시 넣는다")
+    void replaceGenres_rewritesRowsPerGenre() {
+        Content content = Content.builder()
+                .id(7L)
+                .tmdbId(700L)
+                .contentType(ContentType.MOVIE)
+                .title("기생충")
+                .genreBits(TmdbGenre.DRAMA.mask() | TmdbGenre.THRILLER.mask())
+                .popularity(new BigDecimal("12.500"))
+                .build();
+        ArgumentCaptor<SqlParameterSource[]> rows = ArgumentCaptor.forClass(SqlParameterSource[].class);
+
+        repository.replaceGenres(List.of(content));
+
+        verify(jdbcTemplate).update(anyString(), any(MapSqlParameterSource.class));
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row.getValue("genreId"))
+                .containsExactly(TmdbGenre.DRAMA.getId(), TmdbGenre.THRILLER.getId());
+    }
+
+    private String browseSql(long genreMask, String language) {
+        return browseSql(genreMask, language, ArgumentCaptor.forClass(MapSqlParameterSource.class));
+    }
+
+    private String browseSql(long genreMask, String language, ArgumentCaptor<MapSqlParameterSource> params) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.queryForList(sql.capture(), params.capture(), eq(Long.class))).thenReturn(List.of(1L));
+
+        List<Long> ids = repository.findBrowsePageIdsByPopularity(ContentType.MOVIE, genreMask, language,
+                new BigDecimal("100000"), Long.MAX_VALUE, 21);
+
+        assertThat(ids).containsExactly(1L);
+        return sql.getValue();
+    }
+}
@@ -0,0 +1,95 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryIngestionPipelineTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final TmdbCategoryProperties properties = new TmdbCategoryProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CategoryIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        properties.setStageQueueCapacity(1);
+        properties.setWriteBatchSize(2);
+        pipeline = new CategoryIngestionPipeline(contentRepository, new TransactionTemplate(transactionManager),
+                properties, eventPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("페이지 순서를 유지하고 중복 작품은 한 번만 저장한다")
+    void run_keepsPageOrderAndSkipsDuplicates() {
+        // 저장된 id = tmdbId * 10 으로 응답
+        when(contentRepository.upsertAll(eq(ContentType.MOVIE), any())).thenAnswer(invocation -> {
+            Collection<Content> contents = invocation.getArgument(1);
+            return contents.stream().collect(Collectors.toMap(Content::getTmdbId, c -> c.getTmdbId() * 10));
+        });
+
+        Flux<List<Long>> pages = Flux.just(List.of(3L, 1L), List.of(1L, 2L), List.of(5L));
+
+        Map<Long, Long> result = pipeline.run(TagType.POPULAR, ContentType.MOVIE, pages, this::toContents);
+
+        assertThat(result.keySet()).containsExactly(3L, 1L, 2L, 5L);
+        assertThat(result.get(2L)).isEqualTo(20L);
+        // 배치 크기 2 기준: [3,1] / [1,2] → 2만 저장 / [5]
+        verify(contentRepository, times(3)).upsertAll(eq(ContentType.MOVIE), any());
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(meterRegistry.get("tmdb.ingest.stage").tag("stage", "transform").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("fetch 단계가 실패하면 저장 없이 예외를 전달한다")
+    void run_propagatesFetchFailure() {
+        Flux<List<Long>> pages = Flux.error(new IllegalStateException("TMDB 오류"));
+
+        assertThatThrownBy(() -> pipeline.run(TagType.POPULAR, ContentType.MOVIE, pages, this::toContents))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("TMDB 오류");
+        verify(contentRepository, never()).upsertAll(any(), any());
+    }
+
+    private List<Content> toContents(List<Long> tmdbIds) {
+        return tmdbIds.stream()
+                .map(tmdbId -> Content.builder().tmdbId(tmdbId).contentType(ContentType.MOVIE).build())
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.geekflex.app.content.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.geekflex.app.content.dto.CategoryListPayload;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.event.CategoryRefreshedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbCategoryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryListCacheTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    private CategoryListCache categoryListCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryListCache = new CategoryListCache(contentRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()), new TmdbCategoryProperties());
+    }
+
+    @Test
+    @DisplayName("같은 목록은 DB를 다시 조회하지 않고 동일한 바이트와 ETag를 반환한다")
+    void getPayload_servesCachedBytes() {
+        when(contentRepository.findPageByTagType(eq("POPULAR"), any(), anyLong(), anyInt()))
+                .thenReturn(List.of(content(1L, "인셉션"), content(2L, "기생충")));
+
+        CategoryListPayload first = categoryListCache.getPayload(TagType.POPULAR, 20);
+        CategoryListPayload second = categoryListCache.getPayload(TagType.POPULAR, 20);
+
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(categoryListCache.getItems(TagType.POPULAR, 1)).hasSize(1);
+        verify(contentRepository, times(1)).findPageByTagType(eq("POPULAR"), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("카테고리 갱신 이벤트를 받으면 목록과 ETag를 다시 만든다")
+    void onCategoryRefreshed_reloadsList() {
+        when(contentRepository.findPageByTagType(eq("POPULAR"), any(), anyLong(), anyInt()))
+                .thenReturn(List.of(content(1L, "인셉션")))
+                .thenReturn(List.of(content(2L, "기생충")));
+
+        String before = categoryListCache.getPayload(TagType.POPULAR, 20).etag();
+        categoryListCache.onCategoryRefreshed(new CategoryRefreshedEvent(TagType.POPULAR, 2L));
+        String after = categoryListCache.getPayload(TagType.POPULAR, 20).etag();
+
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환한다")
+    void toResponseEntity_returnsNotModifiedForMatchingEtag() {
+        CategoryListPayload payload = new CategoryListPayload("[]".getBytes(), "\"abc\"");
+
+        ResponseEntity<byte[]> notModified = payload.toResponseEntity("\"xyz\", \"abc\"");
+        ResponseEntity<byte[]> modified = payload.toResponseEntity("\"xyz\"");
+
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getHeaders().getETag()).isEqualTo("\"abc\"");
+    }
+
+    private Content content(Long id, String title) {
+        return Content.builder().id(id).tmdbId(id * 100).contentType(ContentType.MOVIE).title(title).build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.ReactiveTmdbApiService;
+import com.geekflex.app.content.service.tmdb.TmdbApiService;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentDeltaSyncServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private ContentRefreshService contentRefreshService;
+
+    // 로컬 TMDB 변경 목록 stub (2페이지)
+    private HttpServer server;
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+
+    private ContentDeltaSyncService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/movie/changes", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            queries.add(query);
+            String body = query.contains("page=2")
+                    ? "{\"page\":2,\"total_pages\":2,\"total_results\":4,\"results\":[{\"id\":12},{\"id\":13}]}"
+                    : "{\"page\":1,\"total_pages\":2,\"total_results\":4,\"results\":[{\"id\":10,\"adult\":false},{\"id\":11}]}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TmdbApiService tmdbApiService = new TmdbApiService(new ReactiveTmdbApiService(webClient, meterRegistry));
+        service = new ContentDeltaSyncService(contentRepository, contentRefreshService, tmdbApiService,
+                new TmdbSyncProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("변경 목록 중 저장된 콘텐츠만 다시 받고, 나머지는 변경분을 제외하고 동기화 시각을 연장한다")
+    @SuppressWarnings("unchecked")
+    void sync_refreshesChangedAndExtendsOthers() {
+        Content changed = content(11L);
+        Content failing = content(13L);
+        when(contentRepository.findStoredTmdbIds(eq(ContentType.MOVIE), anyCollection()))
+                .thenReturn(List.of(11L, 13L));
+        when(contentRepository.findByContentTypeAndTmdbIdIn(ContentType.MOVIE, List.of(11L, 13L)))
+                .thenReturn(List.of(changed, failing));
+        lenient().doThrow(new IllegalStateException("boom")).when(contentRefreshService).refreshNow(failing);
+        when(contentRepository.extendLastSyncedAt(eq(ContentType.MOVIE), any(), any(), anyCollection()))
+                .thenReturn(5);
+
+        ContentDeltaSyncService.Result result = service.sync(ContentType.MOVIE);
+
+        assertThat(result).isEqualTo(new ContentDeltaSyncService.Result(4, 2, 1, 1, 5));
+        verify(contentRefreshService).refreshNow(changed);
+
+        ArgumentCaptor<Collection<Long>> stored = ArgumentCaptor.forClass(Collection.class);
+        verify(contentRepository).findStoredTmdbIds(eq(ContentType.MOVIE), stored.capture());
+        assertThat(stored.getValue()).containsExactlyInAnyOrder(10L, 11L, 12L, 13L);
+
+        // 구간 시작(UTC 0시) 이후 동기화된 콘텐츠만, 변경된 콘텐츠는 제외하고 연장
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(contentRepository).extendLastSyncedAt(eq(ContentType.MOVIE), from.capture(), any(), eq(List.of(11L, 13L)));
+        assertThat(from.getValue()).isBefore(LocalDateTime.now().minusDays(2));
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        assertThat(queries).hasSize(2)
+                .allMatch(query -> query.contains("end_date=" + today))
+                .allMatch(query -> query.contains("start_date=" + today.minusDays(2)));
+    }
+
+    private static Content content(Long tmdbId) {
+        return Content.builder().tmdbId(tmdbId).contentType(ContentType.MOVIE).build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TmdbGenre;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.tmdb.TmdbDetailSnapshotStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentGenreBackfillServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private TmdbDetailSnapshotStore snapshotStore;
+
+    @InjectMocks
+    private ContentGenreBackfillService backfillService;
+
+    @Test
+    @DisplayName("genre_bits가 0이면 스냅샷 장르 ID, 없으면 장르명으로 채우고 모든 콘텐츠의 content_genre를 다시 만든다")
+    void backfill_fillsEmptyBitsAndRewritesContentGenre() {
+        Content fromSnapshot = content(1L, 100L, 0L, null);
+        Content fromNames = content(2L, 200L, 0L, "코미디");
+        Content alreadyFilled = content(3L, 300L, TmdbGenre.ACTION.mask(), "액션");
+        List<Content> batch = List.of(fromSnapshot, fromNames, alreadyFilled);
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(batch);
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(3L), any(Limit.class))).thenReturn(List.of());
+
+        TmdbMovieDetailResponse.Genre drama = new TmdbMovieDetailResponse.Genre();
+        drama.setId(18L);
+        TmdbMovieDetailResponse detail = new TmdbMovieDetailResponse();
+        detail.setGenres(List.of(drama));
+        when(snapshotStore.getAll(eq(ContentType.MOVIE), anyCollection(), eq(TmdbMovieDetailResponse.class)))
+                .thenReturn(Map.of(100L, detail));
+
+        Map<Long, Long> expected = Map.of(1L, TmdbGenre.DRAMA.mask(), 2L, TmdbGenre.COMEDY.mask());
+        when(contentRepository.updateEmptyGenreBits(expected)).thenReturn(2);
+
+        int filled = backfillService.backfill();
+
+        assertThat(filled).isEqualTo(2);
+        assertThat(fromSnapshot.getGenreBits()).isEqualTo(TmdbGenre.DRAMA.mask());
+        assertThat(fromNames.getGenreBits()).isEqualTo(TmdbGenre.COMEDY.mask());
+        verify(contentRepository).replaceGenres(batch);
+    }
+
+    private Content content(long id, long tmdbId, long genreBits, String genre) {
+        return Content.builder()
+                .id(id)
+                .tmdbId(tmdbId)
+                .contentType(ContentType.MOVIE)
+                .title("콘텐츠" + id)
+                .genre(genre)
+                .genreBits(genreBits)
+                .build();
+    }
+}
@@ -0,0 +1,228 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import com.geekflex.app.content.service.factory.ContentFactory;
+import com.geekflex.app.content.service.factory.ContentPayloadHash;
+import com.geekflex.app.content.service.tmdb.TmdbApiService;
+import com.geekflex.app.content.service.tmdb.TmdbDetailCache;
+import com.geekflex.app.content.service.tmdb.TmdbSyncProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentRefreshServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private TmdbApiService tmdbApiService;
+    @Mock
+    private ContentFactory contentFactory;
+    @Mock
+    private TmdbDetailCache tmdbDetailCache;
+    @Mock
+    private ThreadPoolTaskExecutor contentRefreshExecutor;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ContentSyncTimestampBuffer contentSyncTimestampBuffer;
+
+    private final TmdbSyncProperties tmdbSyncProperties = new TmdbSyncProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ContentRefreshService contentRefreshService;
+
+    @BeforeEach
+    void setUp() {
+        contentRefreshService = new ContentRefreshService(contentRepository, tmdbApiService, contentFactory,
+                tmdbDetailCache, tmdbSyncProperties, contentRefreshExecutor, new TransactionTemplate(transactionManager),
+                eventPublisher, contentSyncTimestampBuffer, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("hard-stale 상한 이내의 콘텐츠만 stale 응답이 허용된다")
+    void isServableStale_respectsHardStaleCeiling() {
+        // 상한을 넘기면 요청 스레드에서 동기 갱신해야 한다.
+        Content recent = content(LocalDateTime.now().minusDays(2));
+        Content tooOld = content(LocalDateTime.now().minusDays(8));
+
+        assertThat(contentRefreshService.isServableStale(recent)).isTrue();
+        assertThat(contentRefreshService.isServableStale(tooOld)).isFalse();
+
+        tmdbSyncProperties.setStaleWhileRevalidate(false);
+        assertThat(contentRefreshService.isServableStale(recent)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 콘텐츠의 백그라운드 갱신은 한 번만 예약된다")
+    void scheduleRefresh_deduplicatesPendingRefresh() {
+        // 실행자가 작업을 실행하지 않으므로 첫 예약이 계속 대기 중인 상태다.
+        Content content = content(LocalDateTime.now().minusDays(2));
+
+        contentRefreshService.scheduleRefresh(content);
+        contentRefreshService.scheduleRefresh(content);
+
+        verify(contentRefreshExecutor, times(1)).execute(any(Runnable.class));
+        assertThat(meterRegistry.get("content.refresh").tag("result", "deduplicated").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차 거절되면 다음 요청에서 다시 예약할 수 있다")
+    void scheduleRefresh_releasesKeyWhenRejected() {
+        Content content = content(LocalDateTime.now().minusDays(2));
+        doThrow(new TaskRejectedException("full")).when(contentRefreshExecutor).execute(any(Runnable.class));
+
+        contentRefreshService.scheduleRefresh(content);
+        contentRefreshService.scheduleRefresh(content);
+
+        verify(contentRefreshExecutor, times(2)).execute(any(Runnable.class));
+        assertThat(meterRegistry.get("content.refresh").tag("result", "rejected").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("번역 문자열 재조회는 (콘텐츠, 언어) 단위로 한 번만 예약되고 완료되면 세 계층에 다시 저장한다")
+    void scheduleLocalizedRefresh_deduplicatesPerLanguageAndStoresText() {
+        TmdbMovieDetailResponse english = movieDetail("Fight Club", "61.416");
+        when(tmdbApiService.getMovieDetails(550L, "en-US")).thenReturn(english);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        contentRefreshService.scheduleLocalizedRefresh(ContentType.MOVIE, 550L, "en-US");
+        contentRefreshService.scheduleLocalizedRefresh(ContentType.MOVIE, 550L, "en-US");
+        // 다른 언어와 기본 언어 상세 갱신은 별도 키
+        contentRefreshService.scheduleLocalizedRefresh(ContentType.MOVIE, 550L, "ja");
+        contentRefreshService.scheduleRefresh(content(LocalDateTime.now().minusDays(2)));
+
+        verify(contentRefreshExecutor, times(3)).execute(task.capture());
+        task.getAllValues().get(0).run();
+        verify(tmdbDetailCache).putLocalizedText(ContentType.MOVIE, 550L, "en-US", TmdbLocalizedText.of(english));
+
+        // 완료 후에는 다시 예약할 수 있다
+        contentRefreshService.scheduleLocalizedRefresh(ContentType.MOVIE, 550L, "en-US");
+        verify(contentRefreshExecutor, times(4)).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("인기 콘텐츠 중 만료까지 lead 이내로 남은 것만 선제 갱신을 예약한다")
+    void refreshExpiringSoon_schedulesOnlyNearExpiry() {
+        // 동기화 주기 24h, lead 1h → 23h 이상 지난 콘텐츠만 예약
+        Content nearExpiry = content(LocalDateTime.now().minusHours(23).minusMinutes(30));
+        Content fresh = content(LocalDateTime.now().minusHours(2));
+        when(contentRepository.findByContentTypeAndTmdbIdIn(ContentType.MOVIE, List.of(1L, 2L)))
+                .thenReturn(List.of(nearExpiry, fresh));
+        when(contentSyncTimestampBuffer.overlay(any(Content.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int scheduled = contentRefreshService.refreshExpiringSoon(ContentType.MOVIE, List.of(1L, 2L),
+                Duration.ofHours(1));
+
+        assertThat(scheduled).isEqualTo(1);
+        verify(contentRefreshExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("TMDB 응답 해시가 저장된 해시와 같으면 필드 비교/UPDATE 없이 동기화 시각만 기록한다")
+    void applyMovieDetail_skipsWriteWhenPayloadUnchanged() {
+        TmdbMovieDetailResponse detail = movieDetail("파이트 클럽", "61.416");
+        Content content = content(LocalDateTime.now().minusDays(2));
+        content.setPayloadHash(ContentPayloadHash.of(detail));
+
+        contentRefreshService.applyMovieDetail(content, detail);
+
+        verify(contentSyncTimestampBuffer).touch(any(Content.class), any(LocalDateTime.class));
+        verify(contentFactory, never()).updateContentFromMovie(any(), any());
+        verify(contentRepository, never()).save(any());
+        // 상세 캐시도 다시 직렬화/저장하지 않고 L1 교체 + TTL 연장만
+        verify(tmdbDetailCache).touchMovieDetail(550L, detail);
+        verify(tmdbDetailCache, never()).putMovieDetail(any(), any());
+        assertThat(meterRegistry.get("content.refresh.write").tag("result", "unchanged").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("해시가 다르거나 없으면 필드를 비교해 저장하고 새 해시를 기록한다")
+    void applyMovieDetail_writesWhenPayloadChanged() {
+        TmdbMovieDetailResponse before = movieDetail("파이트 클럽", "61.416");
+        TmdbMovieDetailResponse after = movieDetail("파이트 클럽", "75.002");
+        Content content = content(LocalDateTime.now().minusDays(2));
+        content.setPayloadHash(ContentPayloadHash.of(before));
+        when(contentFactory.updateContentFromMovie(content, after)).thenReturn(true);
+
+        contentRefreshService.applyMovieDetail(content, after);
+
+        verify(contentRepository).save(content);
+        verify(tmdbDetailCache).putMovieDetail(550L, after);
+        verify(contentSyncTimestampBuffer, never()).touch(any(), any());
+        assertThat(content.getPayloadHash()).isEqualTo(ContentPayloadHash.of(after));
+        // 저장 정밀도(소수 3자리) 아래의 변화는 같은 해시
+        assertThat(ContentPayloadHash.of(movieDetail("파이트 클럽", "75.0021")))
+                .isEqualTo(ContentPayloadHash.of(after));
+    }
+
+    @Test
+    @DisplayName("변경된 콘텐츠와 content_genre는 한 트랜잭션에서 저장하고, 이벤트는 커밋 후에 발행한다")
+    void applyMovieDetail_savesContentAndGenresInOneTransaction() {
+        TmdbMovieDetailResponse detail = movieDetail("파이트 클럽", "75.002");
+        Content content = content(LocalDateTime.now().minusDays(2));
+        when(contentFactory.updateContentFromMovie(content, detail)).thenReturn(true);
+
+        contentRefreshService.applyMovieDetail(content, detail);
+
+        InOrder inOrder = inOrder(transactionManager, contentRepository, eventPublisher);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(contentRepository).save(content);
+        inOrder.verify(contentRepository).replaceGenres(List.of(content));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(eventPublisher).publishEvent(any(ContentUpsertedEvent.class));
+    }
+
+    private TmdbMovieDetailResponse movieDetail(String title, String popularity) {
+        TmdbMovieDetailResponse detail = new TmdbMovieDetailResponse();
+        detail.setId(550L);
+        detail.setTitle(title);
+        detail.setPopularity(new BigDecimal(popularity));
+        return detail;
+    }
+
+    private Content content(LocalDateTime lastSyncedAt) {
+        return Content.builder()
+                .id(1L)
+                .tmdbId(550L)
+                .contentType(ContentType.MOVIE)
+                .lastSyncedAt(lastSyncedAt)
+                .build();
+    }
+}
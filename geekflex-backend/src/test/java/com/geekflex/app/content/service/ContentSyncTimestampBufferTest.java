@@ -0,0 +1,95 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.repository.ContentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentSyncTimestampBufferTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    private ContentSyncTimestampBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ContentSyncTimestampBuffer(contentRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("기록된 동기화 시각은 반영 전까지 다시 읽은 엔티티에 덮어쓰고, 반영 후에는 비운다")
+    void overlay_untilFlushed() {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        buffer.touch(content(1L, syncedAt.minusDays(2)), syncedAt);
+
+        // 다른 요청이 DB에서 다시 읽은 엔티티
+        Content reloaded = buffer.overlay(content(1L, syncedAt.minusDays(2)));
+        assertThat(reloaded.getLastSyncedAt()).isEqualTo(syncedAt);
+
+        buffer.flush();
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(buffer.overlay(content(1L, syncedAt.minusDays(2))).getLastSyncedAt())
+                .isEqualTo(syncedAt.minusDays(2));
+    }
+
+    @Test
+    @DisplayName("모인 id는 묶음에서 가장 이른 시각으로 한 번에 UPDATE한다")
+    void flush_bulkUpdatesWithEarliestTimestamp() {
+        LocalDateTime first = LocalDateTime.now().minusSeconds(20);
+        LocalDateTime second = LocalDateTime.now();
+        buffer.touch(content(1L, null), first);
+        buffer.touch(content(2L, null), second);
+
+        assertThat(buffer.flush()).isEqualTo(2);
+
+        verify(contentRepository).touchLastSyncedAt(
+                argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2),
+                eq(first));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 반영 때 다시 시도한다")
+    void flush_requeuesOnFailure() {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        buffer.touch(content(1L, null), syncedAt);
+        when(contentRepository.touchLastSyncedAt(anyCollection(), eq(syncedAt)))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 UPDATE하지 않는다")
+    void flush_noopWhenEmpty() {
+        assertThat(buffer.flush()).isZero();
+        verifyNoInteractions(contentRepository);
+    }
+
+    private Content content(Long id, LocalDateTime lastSyncedAt) {
+        return Content.builder()
+                .id(id)
+                .tmdbId(id + 1000)
+                .lastSyncedAt(lastSyncedAt)
+                .build();
+    }
+}
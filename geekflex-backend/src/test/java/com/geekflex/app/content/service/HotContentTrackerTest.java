@@ -0,0 +1,68 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.service.HotContentTracker.HotContent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotContentTrackerTest {
+
+    private final HotContentTracker tracker = new HotContentTracker();
+
+    @Test
+    @DisplayName("조회 빈도가 높은 순으로 상위 N건을 반환하고, 영화와 드라마의 같은 tmdbId는 구분한다")
+    void top_ordersByFrequency() {
+        record(ContentType.MOVIE, 1L, 3);
+        record(ContentType.MOVIE, 2L, 10);
+        record(ContentType.TV, 2L, 5);
+        record(ContentType.TV, 3L, 1);
+
+        assertThat(tracker.top(3)).containsExactly(
+                new HotContent(ContentType.MOVIE, 2L),
+                new HotContent(ContentType.TV, 2L),
+                new HotContent(ContentType.MOVIE, 1L));
+    }
+
+    @Test
+    @DisplayName("decay 후에는 빈도가 절반이 되고, 한 번만 조회된 콘텐츠는 후보에서 빠진다")
+    void decay_halvesFrequencies() {
+        record(ContentType.MOVIE, 1L, 8);
+        record(ContentType.MOVIE, 2L, 1);
+
+        tracker.decay();
+
+        assertThat(tracker.estimate(ContentType.MOVIE, 1L)).isEqualTo(4);
+        assertThat(tracker.top(10)).containsExactly(new HotContent(ContentType.MOVIE, 1L));
+    }
+
+    @Test
+    @DisplayName("첫 top() 전이라도 후보 수는 상한을 넘지 않고, 한 번씩만 조회된 id는 가득 찬 후보에 들어오지 못한다")
+    void record_capsCandidatesBeforeFirstTop() {
+        for (long tmdbId = 1; tmdbId <= HotContentTracker.MAX_CANDIDATES * 3L; tmdbId++) {
+            tracker.record(ContentType.MOVIE, tmdbId);
+        }
+
+        assertThat(tracker.candidateCount()).isEqualTo(HotContentTracker.MAX_CANDIDATES);
+    }
+
+    @Test
+    @DisplayName("후보가 가득 차면 더 자주 조회된 콘텐츠가 가장 약한 후보를 밀어낸다")
+    void record_evictsWeakestWhenFull() {
+        for (long tmdbId = 1; tmdbId <= HotContentTracker.MAX_CANDIDATES; tmdbId++) {
+            tracker.record(ContentType.MOVIE, tmdbId);
+        }
+
+        record(ContentType.TV, 1L, 5);
+
+        assertThat(tracker.candidateCount()).isEqualTo(HotContentTracker.MAX_CANDIDATES);
+        assertThat(tracker.top(1)).containsExactly(new HotContent(ContentType.TV, 1L));
+    }
+
+    private void record(ContentType contentType, Long tmdbId, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(contentType, tmdbId);
+        }
+    }
+}
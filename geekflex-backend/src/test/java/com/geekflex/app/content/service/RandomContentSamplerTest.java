@@ -0,0 +1,95 @@
+package com.geekflex.app.content.service;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TagType;
+import com.geekflex.app.content.event.CategoryRefreshedEvent;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentListTagRepository;
+import com.geekflex.app.content.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RandomContentSamplerTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private ContentListTagRepository contentListTagRepository;
+
+    private RandomContentSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new RandomContentSampler(contentRepository, contentListTagRepository);
+    }
+
+    @Test
+    @DisplayName("타입별 id 중에서 중복 없이 요청한 개수만큼 뽑는다")
+    void sample_byTypeWithoutReplacement() {
+        loadIds(List.of(1L, 2L, 3L, 4L, 5L), List.of(101L, 102L));
+
+        List<Long> movies = sampler.sample(ContentType.MOVIE, null, 4);
+        List<Long> all = sampler.sample(null, null, 7);
+
+        assertThat(movies).hasSize(4).doesNotHaveDuplicates().isSubsetOf(1L, 2L, 3L, 4L, 5L);
+        assertThat(all).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 101L, 102L);
+        assertThat(sampler.sample(ContentType.TV, null, 10)).containsExactlyInAnyOrder(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("저장 이벤트로 들어온 새 id는 바로 추출 대상이 되고, 이미 있는 id는 중복되지 않는다")
+    void onContentUpserted_appendsNewIds() {
+        loadIds(List.of(1L), List.of());
+
+        sampler.onContentUpserted(new ContentUpsertedEvent(List.of(
+                Content.builder().id(1L).contentType(ContentType.MOVIE).build(),
+                Content.builder().id(7L).contentType(ContentType.MOVIE).build())));
+
+        assertThat(sampler.size(ContentType.MOVIE)).isEqualTo(2);
+        assertThat(sampler.sample(ContentType.MOVIE, null, 5)).containsExactlyInAnyOrder(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("태그 조건은 공개된 스냅샷의 id에서 뽑고, 새 스냅샷이 공개되면 다시 읽는다")
+    void sample_byTag() {
+        loadIds(List.of(1L, 2L, 3L), List.of(101L));
+        when(contentListTagRepository.findCurrentContentIds(TagType.POPULAR))
+                .thenReturn(List.of(2L, 3L))
+                .thenReturn(List.of(1L));
+
+        assertThat(sampler.sample(null, TagType.POPULAR, 5)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(sampler.sample(ContentType.TV, TagType.POPULAR, 5)).isEmpty();
+
+        sampler.onCategoryRefreshed(new CategoryRefreshedEvent(TagType.POPULAR, 2L));
+
+        assertThat(sampler.sample(null, TagType.POPULAR, 5)).containsExactly(1L);
+        verify(contentListTagRepository, times(2)).findCurrentContentIds(TagType.POPULAR);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadIds(List<Long> movieIds, List<Long> tvIds) {
+        doAnswer(invocation -> {
+            ObjLongConsumer<ContentType> consumer = invocation.getArgument(0);
+            movieIds.forEach(id -> consumer.accept(ContentType.MOVIE, id));
+            tvIds.forEach(id -> consumer.accept(ContentType.TV, id));
+            return null;
+        }).when(contentRepository).forEachId(any(ObjLongConsumer.class));
+        sampler.rebuild();
+    }
+}
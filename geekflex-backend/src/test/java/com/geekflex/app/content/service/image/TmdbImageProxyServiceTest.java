@@ -0,0 +1,141 @@
+package com.geekflex.app.content.service.image;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 이미지 stub 서버(JDK HttpServer)를 원본 서버로 사용
+ */
+class TmdbImageProxyServiceTest {
+
+    private static final byte[] POSTER = "poster-bytes".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer stub;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private TmdbImageProxyService proxyService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/t/p/", exchange -> {
+            upstreamCalls.incrementAndGet();
+            sleep(100); // 동시 요청이 다운로드 중에 합류하도록 지연
+            if (!exchange.getRequestURI().getPath().endsWith("/poster.jpg")) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "image/jpeg");
+            exchange.sendResponseHeaders(200, POSTER.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(POSTER);
+            }
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+
+        TmdbImageProperties properties = new TmdbImageProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + stub.getAddress().getPort() + "/t/p");
+        properties.setCacheDir(cacheDir);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        proxyService = new TmdbImageProxyService(WebClient.create(properties.getBaseUrl()),
+                new TmdbImageStore(properties, meterRegistry), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("처음 요청한 이미지는 원본 서버에서 받아 디스크에 저장하고, 이후에는 디스크에서 응답한다")
+    void resolve_downloadsOnceThenServesFromDisk() throws IOException {
+        Path first = proxyService.resolve("w500", "poster.jpg");
+        Path second = proxyService.resolve("w500", "poster.jpg");
+
+        assertThat(Files.readAllBytes(first)).isEqualTo(POSTER);
+        assertThat(second).isEqualTo(first);
+        assertThat(first).startsWith(cacheDir);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 동시에 요청해도 원본 서버에서는 한 번만 받는다")
+    void resolve_singleFlightsConcurrentMisses() throws Exception {
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Path>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> proxyService.resolve("w342", "poster.jpg")));
+            }
+            for (Future<Path> future : futures) {
+                assertThat(Files.readAllBytes(future.get(5, TimeUnit.SECONDS))).isEqualTo(POSTER);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("원본 서버에 없는 이미지는 null, 허용하지 않는 크기/파일명은 거부한다")
+    void resolve_missingAndInvalidPaths() {
+        assertThat(proxyService.resolve("w500", "missing.jpg")).isNull();
+        assertThatThrownBy(() -> proxyService.resolve("w9999", "poster.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> proxyService.resolve("w500", "..%2Fsecret.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> proxyService.resolve("w500", "logo.svg"))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 다운로드에 실패한 임시 파일은 남기지 않는다
+        assertThat(cacheDir.resolve("w500")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("원본 서버에 없는 이미지는 기억해 두고 다시 요청하지 않는다")
+    void resolve_cachesNotFound() {
+        assertThat(proxyService.resolve("w500", "missing.jpg")).isNull();
+        assertThat(proxyService.resolve("w500", "missing.jpg")).isNull();
+        assertThat(upstreamCalls).hasValue(1);
+
+        // 크기가 다르면 별도 이미지
+        assertThat(proxyService.resolve("w780", "missing.jpg")).isNull();
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.geekflex.app.content.service.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TmdbImageStoreTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private TmdbImageProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TmdbImageProperties();
+        properties.setCacheDir(cacheDir);
+        properties.setMaxCacheSize(DataSize.ofBytes(25));
+    }
+
+    @Test
+    @DisplayName("전체 크기가 상한을 넘으면 가장 오래 사용되지 않은 이미지부터 삭제한다")
+    void put_evictsLeastRecentlyUsed() throws IOException {
+        TmdbImageStore store = new TmdbImageStore(properties, new SimpleMeterRegistry());
+        store.put("w500", "a.jpg", download(store, 10));
+        store.put("w500", "b.jpg", download(store, 10));
+        // a를 다시 사용하면 b가 가장 오래된 이미지가 된다
+        assertThat(store.get("w500", "a.jpg")).isNotNull();
+
+        store.put("w500", "c.jpg", download(store, 10));
+
+        assertThat(store.get("w500", "b.jpg")).isNull();
+        assertThat(cacheDir.resolve("w500/b.jpg")).doesNotExist();
+        assertThat(store.get("w500", "a.jpg")).exists();
+        assertThat(store.get("w500", "c.jpg")).exists();
+        assertThat(store.totalBytes()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("재시작 시 디스크에 남은 이미지를 다시 적재하고, 받다 만 임시 파일은 삭제한다")
+    void load_restoresEntriesFromDisk() throws IOException {
+        TmdbImageStore store = new TmdbImageStore(properties, new SimpleMeterRegistry());
+        store.put("w500", "a.jpg", download(store, 10));
+        Path leftover = download(store, 5);
+
+        TmdbImageStore restarted = new TmdbImageStore(properties, new SimpleMeterRegistry());
+
+        assertThat(restarted.get("w500", "a.jpg")).exists();
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(leftover).doesNotExist();
+    }
+
+    private static Path download(TmdbImageStore store, int bytes) throws IOException {
+        Path temp = store.newTempFile("w500");
+        Files.write(temp, new byte[bytes]);
+        return temp;
+    }
+}
@@ -0,0 +1,162 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteIndexTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private TaskScheduler batchTaskScheduler;
+
+    private final ContentSearchProperties properties = new ContentSearchProperties();
+    private AutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AutocompleteIndex(contentRepository, properties, batchTaskScheduler);
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성 접두어로 찾고 인기도 순으로 반환한다")
+    void suggest_matchesChosungPrefix() {
+        rebuildWith(
+                content(1L, ContentType.MOVIE, "어벤져스", "The Avengers", "300"),
+                content(2L, ContentType.MOVIE, "어벤져스: 엔드게임", "Avengers: Endgame", "900"),
+                content(3L, ContentType.MOVIE, "아바타", "Avatar", "500"),
+                content(4L, ContentType.TV, "어벤져스 어셈블", "Avengers Assemble", "999"));
+
+        assertThat(ids(index.suggest(ContentType.MOVIE, "ㅇㅂㅈㅅ", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest(ContentType.MOVIE, "ㅇㅂ", 1))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(겹받침 포함)와 원제목 접두어로도 찾는다")
+    void suggest_matchesPartialSyllablesAndOriginalTitle() {
+        rebuildWith(
+                content(1L, ContentType.MOVIE, "어벤져스", "The Avengers", "300"),
+                content(2L, ContentType.MOVIE, "아바타", "Avatar", "500"));
+
+        // "어벥" = ㅇㅓㅂㅔㄴㅈ → "어벤져스"의 자모 접두어
+        assertThat(ids(index.suggest(ContentType.MOVIE, "어벥", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest(ContentType.MOVIE, "아바ㅌ", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest(ContentType.MOVIE, "the aven", 10))).containsExactly(1L);
+        assertThat(index.suggest(ContentType.MOVIE, "벤져", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증분 색인된 콘텐츠는 바로 조회되고, 제목이 바뀌면 이전 제목으로는 조회되지 않는다")
+    void index_appliesIncrementalUpdates() {
+        rebuildWith(content(1L, ContentType.TV, "임시 제목", null, "10"));
+
+        index.index(content(1L, ContentType.TV, "오징어 게임", "Squid Game", "10"));
+        index.index(content(2L, ContentType.TV, "오징어 게임 2", "Squid Game 2", "20"));
+
+        assertThat(ids(index.suggest(ContentType.TV, "ㅇㅈㅇ", 10))).containsExactly(2L, 1L);
+        assertThat(index.suggest(ContentType.TV, "임시", 10)).isEmpty();
+
+        // 증분 색인이 기본 색인에 합쳐진 뒤에도 같은 결과
+        properties.setAutocompleteMergeThreshold(1);
+        index.index(content(3L, ContentType.TV, "무빙", "Moving", "5"));
+        runScheduledMerge();
+        assertThat(ids(index.suggest(ContentType.TV, "ㅇㅈㅇ", 10))).containsExactly(2L, 1L);
+        assertThat(index.suggest(ContentType.TV, "임시", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("증분 색인 합치기는 호출 스레드가 아닌 배치 스케줄러에서 한 번만 실행되고, 그동안 조회는 증분 색인을 그대로 쓴다")
+    void index_mergesInBackground() {
+        rebuildWith(content(1L, ContentType.MOVIE, "아바타", "Avatar", "500"));
+        properties.setAutocompleteMergeThreshold(2);
+
+        index.index(content(2L, ContentType.MOVIE, "아이언맨", "Iron Man", "300"));
+        index.index(content(3L, ContentType.MOVIE, "아이언맨 2", "Iron Man 2", "200"));
+        index.index(content(4L, ContentType.MOVIE, "아이언맨 3", "Iron Man 3", "100"));
+
+        ArgumentCaptor<Runnable> merge = ArgumentCaptor.forClass(Runnable.class);
+        verify(batchTaskScheduler, times(1)).schedule(merge.capture(), any(Instant.class));
+        assertThat(ids(index.suggest(ContentType.MOVIE, "ㅇㅇㅇ", 10))).containsExactly(2L, 3L, 4L);
+
+        merge.getValue().run();
+
+        assertThat(ids(index.suggest(ContentType.MOVIE, "ㅇ", 10))).containsExactly(1L, 2L, 3L, 4L);
+        // 합친 뒤에는 다시 예약할 수 있다
+        index.index(content(5L, ContentType.MOVIE, "아이언 자이언트", "The Iron Giant", "50"));
+        index.index(content(6L, ContentType.MOVIE, "아이리시맨", "The Irishman", "40"));
+        verify(batchTaskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("한두 글자 접두어는 인기도 순 목록에서 상위 k건을 찾고, 증분 색인의 변경도 반영한다")
+    void suggest_shortPrefixUsesPopularityOrderedList() {
+        rebuildWith(
+                content(1L, ContentType.MOVIE, "아바타", "Avatar", "500"),
+                content(2L, ContentType.MOVIE, "아이언맨", "Iron Man", "300"),
+                content(3L, ContentType.TV, "아케인", "Arcane", "900"),
+                content(4L, ContentType.MOVIE, "알라딘", "Aladdin", "100"),
+                content(5L, ContentType.MOVIE, "인셉션", "Inception", "400"));
+
+        // "ㅇ"은 모든 제목에 해당: 다른 타입(3)은 건너뛰고 인기도 순 2건
+        assertThat(ids(index.suggest(ContentType.MOVIE, "ㅇ", 2))).containsExactly(1L, 5L);
+        assertThat(ids(index.suggest(ContentType.MOVIE, "아", 10))).containsExactly(1L, 2L, 4L);
+        assertThat(ids(index.suggest(ContentType.MOVIE, "a", 2))).containsExactly(1L, 4L);
+
+        // 증분 색인: 인기도가 오른 콘텐츠는 새 순위로, 제목이 바뀐 콘텐츠는 이전 접두어에서 빠짐
+        index.index(content(4L, ContentType.MOVIE, "알라딘", "Aladdin", "999"));
+        index.index(content(1L, ContentType.MOVIE, "블루 아바타", "Blue Avatar", "500"));
+        assertThat(ids(index.suggest(ContentType.MOVIE, "ㅇ", 2))).containsExactly(4L, 5L);
+        assertThat(ids(index.suggest(ContentType.MOVIE, "아", 10))).containsExactly(4L, 2L);
+    }
+
+    private void runScheduledMerge() {
+        ArgumentCaptor<Runnable> merge = ArgumentCaptor.forClass(Runnable.class);
+        verify(batchTaskScheduler).schedule(merge.capture(), any(Instant.class));
+        merge.getValue().run();
+    }
+
+    private void rebuildWith(Content... contents) {
+        long lastId = contents[contents.length - 1].getId();
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(contents));
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(lastId), any(Limit.class))).thenReturn(List.of());
+        index.rebuild();
+    }
+
+    private List<Long> ids(List<AutocompleteIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteIndex.Suggestion::id).toList();
+    }
+
+    private Content content(Long id, ContentType type, String title, String originalTitle, String popularity) {
+        return Content.builder()
+                .id(id)
+                .tmdbId(id * 100)
+                .contentType(type)
+                .title(title)
+                .originalTitle(originalTitle)
+                .popularity(new BigDecimal(popularity))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentSearchIndexTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    private ContentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ContentSearchIndex(contentRepository, new ContentSearchProperties());
+    }
+
+    @Test
+    @DisplayName("정확 일치 > 시작 > 포함 순으로, 같은 순위는 인기도 순으로 정렬한다")
+    void search_ranksLikeRepositoryQuery() {
+        index.index(content(1L, ContentType.MOVIE, "아바타: 물의 길", "Avatar: The Way of Water", "900"));
+        index.index(content(2L, ContentType.MOVIE, "아바타", "Avatar", "100"));
+        index.index(content(3L, ContentType.MOVIE, "나의 아바타", "My Avatar", "500"));
+        index.index(content(4L, ContentType.MOVIE, "아바타 2", "Avatar 2", "950"));
+        index.index(content(5L, ContentType.TV, "아바타: 아앙의 전설", "Avatar: The Last Airbender", "999"));
+
+        List<Long> ids = index.search(ContentType.MOVIE, "아바타", 10).stream()
+                .map(ContentSearchIndex.Entry::id)
+                .toList();
+
+        assertThat(ids).containsExactly(2L, 4L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 기호가 달라도 같은 제목을 찾는다")
+    void search_ignoresSpacingAndSymbols() {
+        index.index(content(1L, ContentType.MOVIE, "반지의 제왕: 반지 원정대", "The Lord of the Rings", "50"));
+
+        assertThat(index.search(ContentType.MOVIE, "반지의제왕", 10)).hasSize(1);
+        assertThat(index.search(ContentType.MOVIE, "lord of the", 10)).hasSize(1);
+        assertThat(index.search(ContentType.MOVIE, "제왕 원정", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목이 바뀌어 다시 색인되면 이전 제목으로는 검색되지 않는다")
+    void index_replacesPreviousTokens() {
+        index.index(content(1L, ContentType.TV, "임시 제목", null, "10"));
+        index.index(content(1L, ContentType.TV, "오징어 게임", "Squid Game", "10"));
+
+        assertThat(index.search(ContentType.TV, "임시", 10)).isEmpty();
+        assertThat(index.search(ContentType.TV, "오징어", 10)).extracting(ContentSearchIndex.Entry::id)
+                .containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 재색인은 id 순으로 나누어 읽은 뒤 준비 상태가 된다")
+    void rebuild_readsAllBatches() {
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(content(1L, ContentType.MOVIE, "인셉션", "Inception", "80")));
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(content(7L, ContentType.MOVIE, "인터스텔라", "Interstellar", "90")));
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(7L), any(Limit.class)))
+                .thenReturn(List.of());
+
+        assertThat(index.isReady()).isFalse();
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search(ContentType.MOVIE, "인", 10)).extracting(ContentSearchIndex.Entry::id)
+                .containsExactly(7L, 1L);
+    }
+
+    private Content content(Long id, ContentType type, String title, String originalTitle, String popularity) {
+        return Content.builder()
+                .id(id)
+                .tmdbId(id * 100)
+                .contentType(type)
+                .title(title)
+                .originalTitle(originalTitle)
+                .popularity(new BigDecimal(popularity))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.dto.DiscoverCursor;
+import com.geekflex.app.content.dto.DiscoverSort;
+import com.geekflex.app.content.entity.Content;
+import com.geekflex.app.content.entity.ContentType;
+import com.geekflex.app.content.entity.TmdbGenre;
+import com.geekflex.app.content.event.ContentUpsertedEvent;
+import com.geekflex.app.content.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiscoverIndexTest {
+
+    private static final DiscoverIndex.Filter ALL = new DiscoverIndex.Filter(null, 0L, null, null, 0);
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    private DiscoverIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DiscoverIndex(contentRepository, new ContentSearchProperties());
+    }
+
+    @Test
+    @DisplayName("타입/장르/연도/최소 투표 수로 거르고 정렬 기준 내림차순으로 반환한다")
+    void find_filtersAndSorts() {
+        rebuildWith(
+                content(1L, ContentType.MOVIE, "50.0", 2019, 500, 53, 80),
+                content(2L, ContentType.MOVIE, "90.0", 2021, 1000, 53),
+                content(3L, ContentType.MOVIE, "70.0", 2022, 10, 53),
+                content(4L, ContentType.TV, "99.0", 2021, 1000, 53),
+                content(5L, ContentType.MOVIE, "80.0", 2021, 800, 18));
+
+        DiscoverIndex.Filter thrillers = new DiscoverIndex.Filter(
+                ContentType.MOVIE, TmdbGenre.THRILLER.mask(), 2020, null, 100);
+
+        assertThat(ids(index.find(thrillers, DiscoverSort.POPULARITY, DiscoverCursor.first(DiscoverSort.POPULARITY), 10)))
+                .containsExactly(2L);
+        assertThat(ids(index.find(ALL, DiscoverSort.VOTE_COUNT, DiscoverCursor.first(DiscoverSort.VOTE_COUNT), 3)))
+                .containsExactly(4L, 2L, 5L);
+        assertThat(ids(index.find(ALL, DiscoverSort.RELEASE_DATE, DiscoverCursor.first(DiscoverSort.RELEASE_DATE), 2)))
+                .containsExactly(3L, 5L);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 항목만 반환하므로 페이지를 이어 읽으면 빠짐없이 한 번씩 나온다")
+    void find_continuesAfterCursor() {
+        rebuildWith(
+                content(1L, ContentType.MOVIE, "10.0", 2020, 0),
+                content(2L, ContentType.MOVIE, "10.0", 2020, 0),
+                content(3L, ContentType.MOVIE, "30.0", 2020, 0),
+                content(4L, ContentType.MOVIE, "20.0", 2020, 0));
+
+        List<DiscoverIndex.Hit> first = index.find(ALL, DiscoverSort.POPULARITY, DiscoverCursor.first(DiscoverSort.POPULARITY), 2);
+        DiscoverIndex.Hit last = first.getLast();
+        List<DiscoverIndex.Hit> second = index.find(ALL, DiscoverSort.POPULARITY,
+                new DiscoverCursor(DiscoverSort.POPULARITY, last.key(), last.id()), 2);
+
+        assertThat(ids(first)).containsExactly(3L, 4L);
+        assertThat(ids(second)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("저장 이벤트로 새 콘텐츠를 추가하고 기존 콘텐츠의 값을 갱신한다")
+    void onContentUpserted_appendsAndUpdates() {
+        rebuildWith(content(1L, ContentType.MOVIE, "10.0", 2020, 0));
+
+        index.onContentUpserted(new ContentUpsertedEvent(List.of(
+                content(1L, ContentType.MOVIE, "40.0", 2020, 0),
+                content(2L, ContentType.MOVIE, "30.0", 2020, 0))));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index.find(ALL, DiscoverSort.POPULARITY, DiscoverCursor.first(DiscoverSort.POPULARITY), 10)))
+                .containsExactly(1L, 2L);
+    }
+
+    private void rebuildWith(Content... contents) {
+        long lastId = contents[contents.length - 1].getId();
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(contents));
+        when(contentRepository.findByIdGreaterThanOrderByIdAsc(eq(lastId), any(Limit.class))).thenReturn(List.of());
+        index.rebuild();
+    }
+
+    private List<Long> ids(List<DiscoverIndex.Hit> hits) {
+        return hits.stream().map(DiscoverIndex.Hit::id).toList();
+    }
+
+    private Content content(Long id, ContentType type, String popularity, int year, int voteCount, Integer... genreIds) {
+        return Content.builder()
+                .id(id)
+                .tmdbId(id * 10)
+                .contentType(type)
+                .title("콘텐츠 " + id)
+                .popularity(new BigDecimal(popularity))
+                .releaseDate(LocalDate.of(year, 1, id.intValue()))
+                .voteCount(voteCount)
+                .genreBits(TmdbGenre.toBits(List.of(genreIds)))
+                .build();
+    }
+}
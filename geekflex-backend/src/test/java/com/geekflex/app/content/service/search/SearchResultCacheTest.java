@@ -0,0 +1,56 @@
+package com.geekflex.app.content.service.search;
+
+import com.geekflex.app.content.entity.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private static final BiFunction<List<String>, String, List<String>> CONTAINS =
+            (items, keyword) -> items.stream().filter(item -> item.contains(keyword)).toList();
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(new ContentSearchProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 검색어는 캐시된 결과를 그대로 반환하고, 타입이 다르면 miss")
+    void get_exactKeyword() {
+        cache.put(ContentType.MOVIE, "아바타", List.of("아바타", "아바타: 물의 길"), false);
+
+        assertThat(cache.get(ContentType.MOVIE, "아바타", CONTAINS)).containsExactly("아바타", "아바타: 물의 길");
+        assertThat(cache.get(ContentType.TV, "아바타", CONTAINS)).isNull();
+    }
+
+    @Test
+    @DisplayName("짧은 검색어의 전체 결과가 있으면 걸러서 재사용하고 접두어 재사용 횟수를 기록한다")
+    void get_narrowsCompletePrefix() {
+        cache.put(ContentType.MOVIE, "아바", List.of("아바타", "아바타: 물의 길", "아바론"), true);
+
+        assertThat(cache.get(ContentType.MOVIE, "아바타", CONTAINS)).containsExactly("아바타", "아바타: 물의 길");
+        // 걸러낸 결과도 캐시되어 다음 글자에서 다시 재사용
+        assertThat(cache.get(ContentType.MOVIE, "아바타:", CONTAINS)).containsExactly("아바타: 물의 길");
+        assertThat(meterRegistry.get("tmdb.search.cache.prefix").tag("type", "MOVIE").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("짧은 검색어의 결과가 일부(첫 페이지)뿐이면 재사용하지 않는다")
+    void get_ignoresIncompletePrefix() {
+        cache.put(ContentType.MOVIE, "아", List.of("아바타", "아이언맨"), false);
+
+        assertThat(cache.get(ContentType.MOVIE, "아바", CONTAINS)).isNull();
+    }
+}
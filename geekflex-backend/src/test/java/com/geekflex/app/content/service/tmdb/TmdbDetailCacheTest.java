@@ -0,0 +1,152 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.content.dto.tmdb.TmdbLocalizedText;
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import com.geekflex.app.content.entity.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbDetailCacheTest {
+
+    @Mock
+    private TmdbDetailRedisStore redisStore;
+
+    @Mock
+    private TmdbDetailSnapshotStore snapshotStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TmdbDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TmdbDetailCache(new TmdbSyncProperties(), redisStore, snapshotStore, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L1/L2가 비어 있으면 DB 스냅샷(L3)에서 읽고 L2와 L1에 다시 채운다")
+    void get_fallsBackToSnapshotAndBackfills() {
+        TmdbMovieDetailResponse detail = movie(10L);
+        when(snapshotStore.get(ContentType.MOVIE, 10L, TmdbLanguage.DEFAULT, TmdbMovieDetailResponse.class)).thenReturn(detail);
+
+        assertThat(cache.getMovieDetail(10L)).isSameAs(detail);
+        // 두 번째 조회는 L1 hit
+        assertThat(cache.getMovieDetail(10L)).isSameAs(detail);
+
+        verify(redisStore).put("movie", 10L, TmdbLanguage.DEFAULT, detail);
+        verify(snapshotStore, times(1)).get(ContentType.MOVIE, 10L, TmdbLanguage.DEFAULT, TmdbMovieDetailResponse.class);
+        assertThat(meterRegistry.get("tmdb.detail.cache").tag("tier", "l3").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("새 상세 응답은 세 계층 모두에 저장한다")
+    void put_writesAllTiers() {
+        TmdbMovieDetailResponse detail = movie(20L);
+
+        cache.putMovieDetail(20L, detail);
+
+        verify(redisStore).put("movie", 20L, TmdbLanguage.DEFAULT, detail);
+        verify(snapshotStore).put(ContentType.MOVIE, 20L, TmdbLanguage.DEFAULT, detail);
+    }
+
+    @Test
+    @DisplayName("내용이 그대로인 갱신은 L1만 교체하고 Redis TTL을 연장하며 스냅샷은 다시 쓰지 않는다")
+    void touch_refreshesL1AndTtlOnly() {
+        TmdbMovieDetailResponse detail = movie(40L);
+        when(redisStore.touch("movie", 40L, TmdbLanguage.DEFAULT)).thenReturn(true);
+        when(snapshotStore.exists(ContentType.MOVIE, 40L, TmdbLanguage.DEFAULT)).thenReturn(true);
+
+        cache.touchMovieDetail(40L, detail);
+
+        assertThat(cache.getMovieDetail(40L)).isSameAs(detail);
+        verify(redisStore, never()).put(any(), any(), any(), any());
+        verify(snapshotStore, never()).put(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("내용이 그대로여도 Redis 키나 스냅샷이 없으면 그 계층에만 저장한다")
+    void touch_writesMissingTiers() {
+        TmdbMovieDetailResponse detail = movie(41L);
+        when(redisStore.touch("movie", 41L, TmdbLanguage.DEFAULT)).thenReturn(false);
+        when(snapshotStore.exists(ContentType.MOVIE, 41L, TmdbLanguage.DEFAULT)).thenReturn(false);
+
+        cache.touchMovieDetail(41L, detail);
+
+        verify(redisStore).put("movie", 41L, TmdbLanguage.DEFAULT, detail);
+        verify(snapshotStore).put(ContentType.MOVIE, 41L, TmdbLanguage.DEFAULT, detail);
+    }
+
+    @Test
+    @DisplayName("예열은 L1에 없는 콘텐츠만 스냅샷에서 한 번에 읽어 채운다")
+    void warmUp_loadsMissingSnapshotsIntoL1() {
+        cache.putMovieDetail(1L, movie(1L));
+        when(snapshotStore.getAll(eq(ContentType.MOVIE), eq(List.of(2L, 3L)), eq(TmdbMovieDetailResponse.class)))
+                .thenReturn(Map.of(2L, movie(2L)));
+
+        // 스냅샷도 없는 3만 TMDB에서 받을 대상으로 남는다
+        assertThat(cache.warmUp(ContentType.MOVIE, List.of(1L, 2L, 3L))).containsExactly(3L);
+        assertThat(cache.getMovieDetail(2L).getId()).isEqualTo(2L);
+        verify(redisStore, never()).get(any(), eq(2L), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 언어의 번역 문자열은 (tmdbId, 언어) 키로 따로 보관하고 기본 언어 상세와 섞이지 않는다")
+    void localizedText_isKeyedByLanguage() {
+        TmdbLocalizedText english = new TmdbLocalizedText("Parasite", "overview", null, Map.of(18L, "Drama"), Map.of());
+        cache.putMovieDetail(30L, movie(30L));
+
+        cache.putLocalizedText(ContentType.MOVIE, 30L, "en-US", english);
+
+        CachedLocalizedText cached = cache.getLocalizedText(ContentType.MOVIE, 30L, "en-US");
+        assertThat(cached.text()).isSameAs(english);
+        assertThat(cached.isFresh(Duration.ofHours(1))).isTrue();
+        assertThat(cache.getMovieDetail(30L).getId()).isEqualTo(30L);
+        verify(redisStore).put("movie", 30L, "en-US", cached);
+        verify(snapshotStore).put(ContentType.MOVIE, 30L, "en-US", english, cached.fetchedAt());
+        // 저장하지 않은 언어는 L2/L3까지 조회 후 miss
+        assertThat(cache.getLocalizedText(ContentType.MOVIE, 30L, "ja")).isNull();
+        verify(snapshotStore).getLocalizedText(ContentType.MOVIE, 30L, "ja");
+    }
+
+    @Test
+    @DisplayName("DB 스냅샷의 번역 문자열은 저장 시각(fetched_at)을 유지해 동기화 주기가 지나면 stale로 판단된다")
+    void localizedText_keepsSnapshotFetchedAt() {
+        TmdbLocalizedText english = new TmdbLocalizedText("Parasite", "overview", null, Map.of(), Map.of());
+        CachedLocalizedText old = new CachedLocalizedText(english, LocalDateTime.now().minusDays(30));
+        when(snapshotStore.getLocalizedText(ContentType.MOVIE, 31L, "en-US")).thenReturn(old);
+
+        CachedLocalizedText cached = cache.getLocalizedText(ContentType.MOVIE, 31L, "en-US");
+
+        assertThat(cached.text()).isSameAs(english);
+        assertThat(cached.isFresh(new TmdbSyncProperties().getSyncInterval())).isFalse();
+        // 상위 계층에 채워도 받은 시각은 그대로라 다음 조회에서도 stale
+        verify(redisStore).put("movie", 31L, "en-US", old);
+        assertThat(cache.getLocalizedText(ContentType.MOVIE, 31L, "en-US").fetchedAt()).isEqualTo(old.fetchedAt());
+    }
+
+    private TmdbMovieDetailResponse movie(Long id) {
+        TmdbMovieDetailResponse detail = new TmdbMovieDetailResponse();
+        detail.setId(id);
+        return detail;
+    }
+}
@@ -0,0 +1,41 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.geekflex.app.content.dto.tmdb.TmdbMovieDetailResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TmdbDetailCodecTest {
+
+    private final TmdbDetailCodec codec = new TmdbDetailCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    @DisplayName("압축 직렬화한 상세 DTO를 복원하면 원래 값과 같다")
+    void encodeAndDecode_roundTripsMovieDetail() {
+        // Redis에 저장했다가 꺼낸 값이 TMDB 원본 응답과 동일해야 한다.
+        TmdbMovieDetailResponse.Genre genre = new TmdbMovieDetailResponse.Genre();
+        genre.setId(18L);
+        genre.setName("드라마");
+
+        TmdbMovieDetailResponse detail = new TmdbMovieDetailResponse();
+        detail.setId(550L);
+        detail.setTitle("파이트 클럽");
+        detail.setOverview("줄거리 ".repeat(50));
+        detail.setRuntime(139);
+        detail.setReleaseDate(LocalDate.of(1999, 10, 15));
+        detail.setVoteAverage(new BigDecimal("8.4"));
+        detail.setGenres(List.of(genre));
+
+        byte[] encoded = codec.encode(detail);
+        TmdbMovieDetailResponse decoded = codec.decode(encoded, TmdbMovieDetailResponse.class);
+
+        assertThat(decoded).isEqualTo(detail);
+    }
+}
@@ -0,0 +1,44 @@
+package com.geekflex.app.content.service.tmdb;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TmdbLanguageTest {
+
+    @Test
+    @DisplayName("언어 코드를 TMDB 형식으로 정규화하고, 비어 있으면 기본 언어")
+    void normalize() {
+        assertThat(TmdbLanguage.normalize("en-us")).isEqualTo("en-US");
+        assertThat(TmdbLanguage.normalize(" JA ")).isEqualTo("ja");
+        assertThat(TmdbLanguage.normalize(null)).isEqualTo(TmdbLanguage.DEFAULT);
+        assertThat(TmdbLanguage.isDefault(TmdbLanguage.normalize("KO-kr"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("언어 코드 형식이 아니면 거부한다")
+    void normalize_rejectsInvalid() {
+        assertThatThrownBy(() -> TmdbLanguage.normalize("english"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TmdbLanguage.normalize("en-US:1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("허용 목록에 없는 언어는 거부하고, 기본 언어는 목록과 무관하게 허용한다")
+    void resolve_acceptsOnlySupportedLanguages() {
+        List<String> supported = List.of("en-US", "ja-JP");
+
+        assertThat(TmdbLanguage.resolve("EN-us", supported)).isEqualTo("en-US");
+        assertThat(TmdbLanguage.resolve(null, supported)).isEqualTo(TmdbLanguage.DEFAULT);
+        assertThat(TmdbLanguage.resolve("ko-KR", List.of())).isEqualTo(TmdbLanguage.DEFAULT);
+        assertThatThrownBy(() -> TmdbLanguage.resolve("fr-FR", supported))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TmdbLanguage.resolve("en", supported))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
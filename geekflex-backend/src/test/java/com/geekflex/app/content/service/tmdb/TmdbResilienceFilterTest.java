@@ -0,0 +1,95 @@
+package com.geekflex.app.content.service.tmdb;
+
+import com.geekflex.app.common.exception.TmdbUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TmdbResilienceFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TmdbClientProperties properties = new TmdbClientProperties();
+
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://tmdb.test/movie/1"))
+            .attribute(TmdbEndpoint.ATTRIBUTE, TmdbEndpoint.MOVIE_DETAIL)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        properties.setRetryBackoff(Duration.ofMillis(1));
+        properties.setSlidingWindowSize(2);
+        properties.setMinimumNumberOfCalls(2);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 한 번 재시도한 뒤 TmdbUnavailableException으로 바뀐다")
+    void serverError_isRetriedAndMappedToUnavailable() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchange = respondWith(calls, HttpStatus.SERVICE_UNAVAILABLE);
+        TmdbResilienceFilter filter = new TmdbResilienceFilter(properties, meterRegistry);
+
+        assertThatThrownBy(() -> filter.filter(request, exchange).block())
+                .isInstanceOf(TmdbUnavailableException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("tmdb.client.requests")
+                .tag("endpoint", "movie-detail")
+                .tag("outcome", "server_error")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 TMDB를 호출하지 않고 바로 거절한다")
+    void openCircuit_failsFastWithoutCallingTmdb() {
+        properties.setMaxRetries(0);
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchange = respondWith(calls, HttpStatus.BAD_GATEWAY);
+        TmdbResilienceFilter filter = new TmdbResilienceFilter(properties, meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> filter.filter(request, exchange).block())
+                    .isInstanceOf(TmdbUnavailableException.class);
+        }
+        assertThatThrownBy(() -> filter.filter(request, exchange).block())
+                .isInstanceOf(TmdbUnavailableException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("tmdb.client.requests").tag("outcome", "rejected").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않고 호출 측에 그대로 전달한다")
+    void clientError_isPassedThrough() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchange = respondWith(calls, HttpStatus.NOT_FOUND);
+        TmdbResilienceFilter filter = new TmdbResilienceFilter(properties, meterRegistry);
+
+        ClientResponse response = filter.filter(request, exchange).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private ExchangeFunction respondWith(AtomicInteger calls, HttpStatus status) {
+        return clientRequest -> Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return ClientResponse.create(status).build();
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.geekflex.simulator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응답 지연과 오류 주입.
+ * <p>
+ * 모든 요청에 latency + [0, jitter) 만큼 지연을 두고, 설정한 비율로 503(서버 오류), 429(rate limit),
+ * 응답 지연(timeout 유도)을 발생시킨다. 백엔드의 재시도/circuit breaker/fallback 동작을 부하 상황에서 확인하는 용도.
+ */
+final class FaultInjector {
+
+    private volatile Settings settings;
+
+    FaultInjector(Settings settings) {
+        this.settings = settings;
+    }
+
+    Settings settings() {
+        return settings;
+    }
+
+    void update(Map<String, String> values) {
+        settings = settings.with(values);
+    }
+
+    /**
+     * 지연을 적용하고 주입할 오류를 고른다.
+     * @return 주입할 HTTP 상태 코드, 정상 응답이면 0
+     */
+    int apply() throws InterruptedException {
+        Settings current = settings;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delayMillis = current.latency().toMillis();
+        if (current.jitter().toMillis() > 0) {
+            delayMillis += random.nextLong(current.jitter().toMillis());
+        }
+        double roll = random.nextDouble();
+        if (roll < current.timeoutRate()) {
+            // 클라이언트 timeout보다 길게 끌다가 503
+            Thread.sleep(current.timeoutDelay().toMillis());
+            return 503;
+        }
+        if (delayMillis > 0) {
+            Thread.sleep(delayMillis);
+        }
+        if (roll < current.timeoutRate() + current.errorRate()) {
+            return 503;
+        }
+        if (roll < current.timeoutRate() + current.errorRate() + current.rateLimitRate()) {
+            return 429;
+        }
+        return 0;
+    }
+
+    /**
+     * @param errorRate     503 응답 비율 (0~1)
+     * @param rateLimitRate 429 응답 비율 (0~1)
+     * @param timeoutRate   timeoutDelay만큼 지연 후 503 응답하는 비율 (0~1)
+     */
+    record Settings(Duration latency, Duration jitter, double errorRate, double rateLimitRate,
+                    double timeoutRate, Duration timeoutDelay) {
+
+        static final Settings DEFAULT = new Settings(Duration.ofMillis(40), Duration.ofMillis(30), 0, 0, 0,
+                Duration.ofSeconds(10));
+
+        Settings with(Map<String, String> values) {
+            return new Settings(
+                    values.containsKey("latency") ? SimulatorOptions.parseDuration(values.get("latency")) : latency,
+                    values.containsKey("jitter") ? SimulatorOptions.parseDuration(values.get("jitter")) : jitter,
+                    rate(values, "error-rate", errorRate),
+                    rate(values, "rate-limit-rate", rateLimitRate),
+                    rate(values, "timeout-rate", timeoutRate),
+                    values.containsKey("timeout-delay")
+                            ? SimulatorOptions.parseDuration(values.get("timeout-delay")) : timeoutDelay);
+        }
+
+        String toJson() {
+            return "{\"latency\":\"" + latency.toMillis() + "ms\",\"jitter\":\"" + jitter.toMillis() + "ms\""
+                    + ",\"error-rate\":" + errorRate + ",\"rate-limit-rate\":" + rateLimitRate
+                    + ",\"timeout-rate\":" + timeoutRate
+                    + ",\"timeout-delay\":\"" + timeoutDelay.toMillis() + "ms\"}";
+        }
+
+        private static double rate(Map<String, String> values, String key, double current) {
+            if (!values.containsKey(key)) {
+                return current;
+            }
+            double rate = Double.parseDouble(values.get(key));
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException(key + "는 0~1 사이여야 합니다: " + rate);
+            }
+            return rate;
+        }
+    }
+}
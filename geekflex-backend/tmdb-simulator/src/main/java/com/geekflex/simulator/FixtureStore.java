@@ -0,0 +1,140 @@
+package com.geekflex.simulator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 경로에 대응하는 fixture(JSON) 조회.
+ * <p>
+ * 찾는 순서:
+ * 1. 경로와 같은 파일 (예: movie/popular → movie/popular.json, movie/550 → movie/550.json)
+ * 2. 녹화 모드이면 실제 TMDB에서 받아 1번 위치에 저장 (쿼리 파라미터는 무시, 첫 응답만 저장)
+ * 3. 템플릿: 숫자 id 상세는 {type}/_detail.json, 그 외 목록은 {type}/_list.json
+ * <p>
+ * fixture의 {{id}}, {{page}}, {{query}}는 요청 값으로 바꾼다.
+ */
+final class FixtureStore {
+
+    private static final Pattern DETAIL = Pattern.compile("(movie|tv)/(\\d+)");
+
+    private final Path root;
+    private final String recordFrom;
+    private final String recordToken;
+    private final HttpClient httpClient;
+    private final Map<Path, String> files = new ConcurrentHashMap<>();
+
+    FixtureStore(Path root, String recordFrom, String recordToken) {
+        this.root = root.toAbsolutePath().normalize();
+        this.recordFrom = recordFrom;
+        this.recordToken = recordToken;
+        this.httpClient = recordFrom == null ? null : HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * @param apiPath /3 이후 경로 (예: movie/popular)
+     * @param query   쿼리 파라미터
+     * @return 응답 본문, 대응하는 fixture가 없으면 null
+     */
+    String find(String apiPath, Map<String, String> query) throws IOException, InterruptedException {
+        if (apiPath.isEmpty() || apiPath.contains("..")) {
+            return null;
+        }
+
+        String body = read(apiPath + ".json");
+        if (body == null && recordFrom != null) {
+            body = record(apiPath, query);
+        }
+        String id = "";
+        if (body == null) {
+            Matcher detail = DETAIL.matcher(apiPath);
+            if (detail.matches()) {
+                body = read(detail.group(1) + "/_detail.json");
+                id = detail.group(2);
+            } else if (apiPath.indexOf('/') > 0) {
+                body = read(apiPath.substring(0, apiPath.indexOf('/')) + "/_list.json");
+            }
+        }
+        if (body == null) {
+            return null;
+        }
+        return body
+                .replace("{{id}}", id)
+                .replace("{{page}}", page(query))
+                .replace("{{query}}", escape(query.getOrDefault("query", "")));
+    }
+
+    private String read(String relativePath) throws IOException {
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root)) {
+            return null;
+        }
+        String cached = files.get(file);
+        if (cached != null) {
+            return cached;
+        }
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        String body = Files.readString(file, StandardCharsets.UTF_8);
+        files.put(file, body);
+        return body;
+    }
+
+    private String record(String apiPath, Map<String, String> query) throws IOException, InterruptedException {
+        StringBuilder uri = new StringBuilder(recordFrom).append('/').append(apiPath).append("?language=")
+                .append(query.getOrDefault("language", "ko-KR"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri.toString()))
+                .header("Authorization", "Bearer " + recordToken)
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            System.out.printf("녹화 실패 - %s (HTTP %d)%n", apiPath, response.statusCode());
+            return null;
+        }
+
+        Path file = root.resolve(apiPath + ".json").normalize();
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, response.body(), StandardCharsets.UTF_8);
+        files.put(file, response.body());
+        System.out.printf("녹화 완료 - %s%n", root.relativize(file));
+        return response.body();
+    }
+
+    private static String page(Map<String, String> query) {
+        String page = query.getOrDefault("page", "1");
+        return page.chars().allMatch(Character::isDigit) && !page.isEmpty() ? page : "1";
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
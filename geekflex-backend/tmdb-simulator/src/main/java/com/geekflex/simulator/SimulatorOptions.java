@@ -0,0 +1,53 @@
+package com.geekflex.simulator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시뮬레이터 실행 옵션 (--key=value)
+ *
+ * @param port        수신 포트
+ * @param fixtureDir  fixture 디렉터리 (요청 경로 기준, 예: movie/popular.json)
+ * @param recordFrom  fixture가 없을 때 실제 TMDB에서 받아 저장할 원본 주소 (null이면 녹화 안 함)
+ * @param recordToken 녹화 시 사용할 TMDB access token
+ * @param faults      시작 시 오류/지연 주입 설정 (실행 중 /__faults로 변경 가능)
+ */
+record SimulatorOptions(int port, Path fixtureDir, String recordFrom, String recordToken,
+                        FaultInjector.Settings faults) {
+
+    static SimulatorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new SimulatorOptions(
+                Integer.parseInt(values.getOrDefault("port", "3999")),
+                Path.of(values.getOrDefault("fixtures", "fixtures")),
+                values.get("record-from"),
+                values.getOrDefault("record-token", System.getenv("GeekFlex_TMDB_ACCESS_TOKEN")),
+                FaultInjector.Settings.DEFAULT.with(values));
+    }
+
+    /**
+     * 50ms, 2s, 1m 형식의 시간
+     */
+    static Duration parseDuration(String value) {
+        String trimmed = value.strip();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        long amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+        return switch (trimmed.charAt(trimmed.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("시간 형식이 아닙니다 (예: 50ms, 2s): " + value);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.geekflex.simulator;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 엔드포인트 종류별/응답 코드별 호출 수 (부하 테스트 리포트의 TMDB 호출 수)
+ */
+final class SimulatorStats {
+
+    private static final Pattern DETAIL = Pattern.compile("(movie|tv)/\\d+");
+
+    private final Map<String, LongAdder> byEndpoint = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> byStatus = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+
+    void record(String endpoint, int status) {
+        total.increment();
+        byEndpoint.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        byStatus.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        total.reset();
+        byEndpoint.clear();
+        byStatus.clear();
+    }
+
+    /**
+     * TMDB API 경로(/3 이후)를 집계 단위로 분류
+     */
+    static String classify(String apiPath) {
+        if (apiPath.startsWith("search/")) {
+            return "search";
+        }
+        if (apiPath.endsWith("/changes")) {
+            return "changes";
+        }
+        if (DETAIL.matcher(apiPath).matches()) {
+            return "detail";
+        }
+        return "list";
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder("{\"total\":").append(total.sum()).append(",\"byEndpoint\":{");
+        appendCounts(json, new TreeMap<>(byEndpoint));
+        json.append("},\"byStatus\":{");
+        appendCounts(json, new TreeMap<>(byStatus));
+        return json.append("}}").toString();
+    }
+
+    private static void appendCounts(StringBuilder json, Map<?, LongAdder> counts) {
+        String separator = "";
+        for (Map.Entry<?, LongAdder> entry : counts.entrySet()) {
+            json.append(separator).append('"').append(entry.getKey()).append("\":").append(entry.getValue().sum());
+            separator = ",";
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.geekflex.simulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 TMDB 시뮬레이터.
+ * <p>
+ * 실제 TMDB 대신 fixture로 응답해, 외부 API 변동/호출 제한 없이 같은 조건으로 성능을 측정한다.
+ * <p>
+ * - /3/**          TMDB API (목록, 상세, 검색, changes)
+ * - /t/p/**        이미지 (1x1 PNG)
+ * - /__stats       엔드포인트별 호출 수 (GET), /__stats/reset 으로 초기화
+ * - /__faults      지연/오류 주입 설정 조회 (GET), 변경 (POST ?latency=100ms&error-rate=0.05)
+ */
+public final class TmdbSimulator {
+
+    private static final byte[] PIXEL_PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+    private static final String NOT_FOUND =
+            "{\"success\":false,\"status_code\":34,\"status_message\":\"The resource you requested could not be found.\"}";
+
+    private final FixtureStore fixtureStore;
+    private final FaultInjector faultInjector;
+    private final SimulatorStats stats = new SimulatorStats();
+
+    private TmdbSimulator(SimulatorOptions options) {
+        this.fixtureStore = new FixtureStore(options.fixtureDir(), options.recordFrom(), options.recordToken());
+        this.faultInjector = new FaultInjector(options.faults());
+    }
+
+    public static void main(String[] args) throws IOException {
+        SimulatorOptions options = SimulatorOptions.parse(args);
+        TmdbSimulator simulator = new TmdbSimulator(options);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(options.port()), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/3/", simulator::handleApi);
+        server.createContext("/t/p/", simulator::handleImage);
+        server.createContext("/__stats", simulator::handleStats);
+        server.createContext("/__faults", simulator::handleFaults);
+        server.start();
+
+        System.out.printf("TMDB 시뮬레이터 시작 - http://localhost:%d/3 (fixture: %s, 녹화: %s)%n",
+                options.port(), options.fixtureDir().toAbsolutePath(),
+                options.recordFrom() != null ? options.recordFrom() : "사용 안 함");
+        System.out.printf("오류/지연 주입: %s%n", options.faults().toJson());
+    }
+
+    private void handleApi(HttpExchange exchange) throws IOException {
+        String apiPath = exchange.getRequestURI().getPath().substring("/3/".length());
+        String endpoint = SimulatorStats.classify(apiPath);
+        try (exchange) {
+            int fault = faultInjector.apply();
+            if (fault != 0) {
+                if (fault == 429) {
+                    exchange.getResponseHeaders().set("Retry-After", "1");
+                }
+                stats.record(endpoint, fault);
+                send(exchange, fault, "application/json",
+                        ("{\"success\":false,\"status_code\":" + (fault == 429 ? 25 : 11) + "}")
+                                .getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            String body = fixtureStore.find(apiPath, query(exchange));
+            int status = body != null ? 200 : 404;
+            stats.record(endpoint, status);
+            send(exchange, status, "application/json",
+                    (body != null ? body : NOT_FOUND).getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            stats.record(endpoint, 500);
+            send(exchange, 500, "application/json", "{\"success\":false}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void handleImage(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            stats.record("image", 200);
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=31536000");
+            send(exchange, 200, "image/png", PIXEL_PNG);
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (exchange.getRequestURI().getPath().endsWith("/reset")) {
+                stats.reset();
+            }
+            send(exchange, 200, "application/json", stats.toJson().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void handleFaults(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                try {
+                    faultInjector.update(query(exchange));
+                    System.out.printf("오류/지연 주입 변경: %s%n", faultInjector.settings().toJson());
+                } catch (IllegalArgumentException e) {
+                    send(exchange, 400, "text/plain; charset=utf-8", e.getMessage().getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+            }
+            send(exchange, 200, "application/json",
+                    faultInjector.settings().toJson().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> values = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) {
+            return values;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -70,7 +70,8 @@ export const formatContent = (content) => {
  */
 export const makePosterUrl = (path, size = "w500") => {
   if (!path) return "/no-image.png"; // 혹은 적절한 fallback 이미지
-  if (path.startsWith("http")) return path;
+  // 전체 URL 또는 백엔드 이미지 프록시 경로(/api/v1/images/...)는 그대로 사용
+  if (path.startsWith("http") || path.startsWith("/api/")) return path;
   return `https://image.tmdb.org/t/p/${size}${path}`;
 };
 
@@ -79,6 +80,7 @@ export const makePosterUrl = (path, size = "w500") => {
  */
 export const makeBackdropUrl = (path, size = "original") => {
   if (!path) return null;
-  if (path.startsWith("http")) return path;
+  // 전체 URL 또는 백엔드 이미지 프록시 경로(/api/v1/images/...)는 그대로 사용
+  if (path.startsWith("http") || path.startsWith("/api/")) return path;
   return `https://image.tmdb.org/t/p/${size}${path}`;
 };
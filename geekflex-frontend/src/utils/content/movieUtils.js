@@ -17,8 +17,8 @@ export const getPosterUrl = (posterUrl) => {
     // 빈 데이터 URL 반환 (로컬 fallback)
     return "data:image/svg+xml,%3Csvg xmlns='http://www.w3.org/2000/svg' width='300' height='450'%3E%3Crect fill='%23ddd' width='300' height='450'/%3E%3Ctext fill='%23999' font-family='sans-serif' font-size='18' x='50%25' y='50%25' text-anchor='middle' dy='.3em'%3ENo Image%3C/text%3E%3C/svg%3E";
   }
-  // 이미 전체 URL인 경우 그대로 반환
-  if (posterUrl.startsWith("http://") || posterUrl.startsWith("https://")) {
+  // 이미 전체 URL이거나 백엔드 이미지 프록시 경로(/api/v1/images/...)인 경우 그대로 반환
+  if (posterUrl.startsWith("http://") || posterUrl.startsWith("https://") || posterUrl.startsWith("/api/")) {
     // console.log("🔗 전체 URL 사용:", posterUrl);
     return posterUrl;
   }